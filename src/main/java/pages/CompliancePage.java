@@ -2,6 +2,7 @@ package pages;
 
 
 import base.BasePage;
+import com.fasterxml.jackson.databind.JsonNode;
 import dev.failsafe.internal.util.Assert;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
@@ -10,9 +11,25 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import supportingclass.CheckboxValidationResult;
 import utils.ComplianceRow;
+import utils.GridApiCapture;
+import utils.GridHash;
+import utils.GridPager;
+import utils.GridReader;
+import utils.GridRow;
+import utils.GridSnapshot;
+import utils.HarvestCheckpoint;
+import utils.JsCondition;
+import utils.Pacer;
+import utils.PageFanOut;
+import utils.PagePipeline;
+import utils.PagedRows;
 import utils.PageNavigationCallback;
 import utils.ReusableCommonMethods;
+import utils.ScreenshotUtils;
+import utils.ScrollHarvester;
+import utils.TrackedWait;
 import utils.WaitOutcome;
+import utils.WaitTelemetry;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.nio.file.*;
@@ -26,6 +43,7 @@ import java.util.stream.Stream;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static utils.AllureLoggerUtils.logToAllure;
 import static utils.ReusableCommonMethods.NAV_FAIL_MS;
@@ -52,6 +70,9 @@ public class CompliancePage extends BasePage {
     @FindBy(xpath = "//span[normalize-space()='Compliances']")
     private WebElement compliancesTab;
 
+    private static final By COMPLIANCES_HEADING_BY =
+            By.xpath("//p[@class='text-[32px] max-lg:hidden font-semibold'][normalize-space()='Compliances']");
+
     @FindBy(xpath = "//p[@class='text-[32px] max-lg:hidden font-semibold'][normalize-space()='Compliances']")
     private WebElement compliancesText;
 
@@ -111,13 +132,29 @@ public class CompliancePage extends BasePage {
     private List<WebElement> rowLocator;
     private static final By ROWS_BY = By.cssSelector("table tbody tr");
 
+    /**
+     * Pager "Next" patterns, most specific first: the paginator's own item, then an exact "Next" label, then any
+     * button containing "Next". A later tier is only consulted when the earlier ones match nothing usable, so a
+     * tour or modal "Next" can never win over the pager button.
+     */
+    private static final List<By> NEXT_BUTTON_TIERS = List.of(
+            By.xpath("//li[contains(@class,'pagination-next') or contains(@class,'ant-pagination-next')]//button"),
+            By.xpath("//button[.//span[normalize-space()='Next'] or normalize-space()='Next']"),
+            By.xpath("//button[contains(normalize-space(.),'Next')]"));
+
+    /** Pager "Prev" patterns, most specific first (see {@link #NEXT_BUTTON_TIERS}). */
+    private static final List<By> PREV_BUTTON_TIERS = List.of(
+            By.xpath("//li[contains(@class,'pagination-prev') or contains(@class,'ant-pagination-prev')]//button"),
+            By.xpath("//button[@aria-label='Previous' or @aria-label='Prev' or @aria-label='prev' or @aria-label='Go to previous page']"),
+            By.xpath("//button[.//span[normalize-space()='Previous' or normalize-space()='Prev' or normalize-space()='‹']]"
+                    + " | //button[normalize-space()='Previous' or normalize-space()='Prev' or normalize-space()='‹']"));
+
+    private static final By NO_RECORDS_BY =
+            By.xpath("//table[@id='compliances-table']//tbody//tr/td/p[contains(text(), 'No records found')]");
+
     @FindBy(xpath = "(//button[@title='Generate CSV'])[2]")
     public WebElement generateCSVButton;
 
-    // keep your existing @FindBy
-    @FindBy(css = "table tbody tr td:last-child")
-    private List<WebElement> statusCellLocator;
-
     @FindBy(xpath = "(//table//tbody/tr)[1]")
     WebElement firstComplianceRecord;
 
@@ -260,6 +297,54 @@ public class CompliancePage extends BasePage {
 
     private static final By STATUS_CELLS_BY = By.cssSelector("table tbody tr td:last-child");
 
+    // Row selectors for the compliances grid (mirror mainComplianceRows / ROWS_BY)
+    private static final String MAIN_ROWS_CSS = "table#compliances-table > tbody > tr";
+    private static final String TABLE_ROWS_CSS = "table tbody tr";
+
+    // Columns resolved from the header text; fallbacks follow Compliance | Office | Expert name | Due Date | Stage | Status
+    private final GridReader complianceGrid = new GridReader(driver, "Compliances", MAIN_ROWS_CSS, TABLE_ROWS_CSS)
+            .column("name", 0, "Compliance", "Compliances", "Name")
+            .column("office", 1, "Office")
+            .column("expert", 2, "Expert name", "Expert")
+            .column("dueDate", 3, "Due Date", "Due")
+            .column("stage", 4, "Stage")
+            .column("status", -1, "Status");
+
+    // Random-access pagination (query param → numbered items → Next/Prev), hops detected via the grid hash
+    private final GridPager pager = new GridPager(driver, wait, TABLE_ROWS_CSS, NEXT_BUTTON_TIERS, PREV_BUTTON_TIERS);
+    private static final Duration PAGE_HOP_TIMEOUT = Duration.ofSeconds(10);
+    // waitForComplianceInList: look at the shown page this long before searching the other pages
+    private static final long IN_LIST_QUICK_MS = 3_000;
+
+    // Grid API payload as the primary row source (grid.api.enabled); the DOM is read as a sampled cross-check.
+    // Only a response newer than apiSeqWatermark (last navigation / last consumed response) is trusted.
+    private static final int API_DOM_SAMPLE_EVERY = GridApiCapture.domSampleEvery();
+    private int apiReads;
+    private long apiSeqWatermark = -1;
+    // Rows of the response consumed at apiRowsSeq (null = unusable payload); valid until the next navigation
+    private long apiRowsSeq = -1;
+    private List<JsonNode> apiRowsCache;
+
+    // In-page predicates/signatures for WaitUtils.waitForDomCondition (mirror ROWS_BY / STATUS_CELLS_BY)
+    private static final String STATUS_READY_JS =
+            "if (!document.querySelector('table tbody tr')) return false;" +
+            "var cells = document.querySelectorAll('table tbody tr td:last-child');" +
+            "for (var i = 0; i < cells.length; i++) { if ((cells[i].innerText || '').trim()) return true; }" +
+            "return false;";
+
+    // Whole-grid content hash: the one change-detection primitive (pagination, filter reload, sort)
+    private static final String GRID_CHANGED_JS = GridHash.changedPredicate(TABLE_ROWS_CSS);
+    private static final long SORT_RELOAD_TIMEOUT_MS = 5_000L;
+    // Once the sort icon confirms the click, rows that are already in order only get the old settle budget
+    private static final long SORT_SETTLE_MS = 800L;
+    // State of a header's sort icon: aria-sort on the <th> plus the icon's class and markup (args[n] = icon container)
+    private static final String SORT_ICON_STATE_EXPR =
+            "(function (el) { var th = el.closest('th');" +
+            "  return (th ? th.getAttribute('aria-sort') || '' : '') + '|' + el.className + '|' + el.innerHTML; })";
+    // True once the rows (args[0] = previous hash) or the sort icon (args[1] = previous state, args[2] = icon) changed
+    private static final String SORT_APPLIED_JS =
+            "return " + GridHash.expression(TABLE_ROWS_CSS) + " !== args[0] || " + SORT_ICON_STATE_EXPR + "(args[2]) !== args[1];";
+
 
     /**
      * Click the Compliances tab with stale/JS fallback (no lambdas).
@@ -436,6 +521,8 @@ public class CompliancePage extends BasePage {
         final List<String> collectedStatuses = new ArrayList<>();
         int pageNumber = 1;
 
+        // Pipelined mode: page N's screenshot decoding / Allure write run off-thread while N+1 loads
+        PagePipeline pipeline = PagePipeline.openIfEnabled("fetchAllStatusValuesPageWise");
         try {
             // Page 1 must already be “first-page ready” in the step, but be defensive here too:
             waitPageStatusReady(Duration.ofMillis(utils.ReusableCommonMethods.NAV_FAIL_MS));
@@ -485,6 +572,8 @@ public class CompliancePage extends BasePage {
 
         } catch (Exception e) {
             logger.error("❌ Error while fetching status values with page-wise pagination: {}", e.getMessage(), e);
+        } finally {
+            if (pipeline != null) pipeline.close();
         }
 
         final int total = collectedStatuses.size();
@@ -524,7 +613,8 @@ public class CompliancePage extends BasePage {
      * Also logs per-page load time with NAV thresholds (warn≥12s, fail≥20s by default).
      */
     private long clickNextAndWaitForChange() {
-        final String before = tableSnapshotSignature();
+        markApiNavigation();
+        final String before = captureGridSignature();
 
         WebElement next = null;
         List<WebElement> nextButtons = driver.findElements(By.xpath("(//button[contains(., 'Next')])[2]"));
@@ -553,19 +643,7 @@ public class CompliancePage extends BasePage {
             return -1;
         }
 
-        boolean changed = false;
-        long deadline = System.currentTimeMillis() + ReusableCommonMethods.NAV_FAIL_MS;
-        while (System.currentTimeMillis() < deadline) {
-            try {
-                Thread.sleep(150);
-            } catch (InterruptedException ignored) {
-            }
-            String after = tableSnapshotSignature();
-            if (!before.equals(after)) {
-                changed = true;
-                break;
-            }
-        }
+        boolean changed = wait.untilDom(GRID_CHANGED_JS, Duration.ofMillis(ReusableCommonMethods.NAV_FAIL_MS), before);
 
         try {
             wait.waitForPageToLoad();
@@ -599,83 +677,33 @@ public class CompliancePage extends BasePage {
 
 
     public boolean waitFirstPageStatusReady(java.time.Duration timeout) {
-        long deadline = System.currentTimeMillis() + timeout.toMillis();
-
-        while (System.currentTimeMillis() < deadline) {
-            try {
-                // Ensure at least one row is present
-                java.util.List<org.openqa.selenium.WebElement> rows = driver.findElements(ROWS_BY);
-                if (rows != null && !rows.isEmpty()) {
-                    // Ensure at least one Status cell has non-empty text
-                    java.util.List<org.openqa.selenium.WebElement> cells = driver.findElements(STATUS_CELLS_BY);
-                    if (cells != null && !cells.isEmpty()) {
-                        for (org.openqa.selenium.WebElement c : cells) {
-                            try {
-                                String t = c.getText();
-                                if (t != null && !t.trim().isEmpty()) return true; // ready!
-                            } catch (org.openqa.selenium.StaleElementReferenceException ignore) {
-                                // re-check next loop
-                            }
-                        }
-                    }
-                }
-            } catch (Exception ignore) {
-                // keep polling
-            }
-
-            // small settle + let the grid render
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException ignored) {
-            }
-        }
-        return false; // didn’t get a non-empty Status within timeout
+        // at least one row AND one non-empty Status cell, observed in-page (no client-side polling)
+        long ms = wait.waitForDomCondition(STATUS_READY_JS, timeout);
+        if (ms >= 0) logger.debug("First page Status ready in {} ms.", Long.valueOf(ms));
+        return ms >= 0; // didn’t get a non-empty Status within timeout
     }
 
     /**
      * Wait until this page actually renders at least one non-empty Status cell.
      */
     private boolean waitPageStatusReady(Duration timeout) {
-        long end = System.currentTimeMillis() + timeout.toMillis();
-        while (System.currentTimeMillis() < end) {
-            try {
-                // Make sure rows exist
-                List<WebElement> rows = driver.findElements(ROWS_BY);
-                if (rows != null && !rows.isEmpty()) {
-                    // help virtualized tables render visible region
-                    try {
-                        settleGridViewport(rows);
-                    } catch (Exception ignore) {
-                    }
-
-                    // Any status cell has text?
-                    List<WebElement> cells = driver.findElements(STATUS_CELLS_BY);
-                    if (cells != null && !cells.isEmpty()) {
-                        for (WebElement c : cells) {
-                            try {
-                                String t = c.getText();
-                                if (t != null && !t.trim().isEmpty()) return true;
-                            } catch (StaleElementReferenceException ignored) { /* retry */ }
-                        }
-                    }
-                }
-            } catch (Exception ignored) {
-            }
-
-            try {
-                Thread.sleep(150);
-            } catch (InterruptedException ignored) {
-            }
+        // help virtualized tables render visible region
+        try {
+            settleGridViewport(driver.findElements(ROWS_BY));
+        } catch (Exception ignore) {
         }
-        return false;
+        long ms = wait.waitForDomCondition(STATUS_READY_JS, timeout);
+        if (ms >= 0) logger.debug("Page Status ready in {} ms.", Long.valueOf(ms));
+        return ms >= 0;
     }
 
     /**
      * Click Next and wait for (1) staleness/signature change and (2) new page ready; also fires timing callback.
      */
     private boolean clickNextAndWaitForChange(WebElement nextBtn, PageNavigationCallback timingCb, int fromPageNumber) {
+        markApiNavigation();
         // Snapshot before
-        String beforeSig = tableSnapshotSignature();
+        String beforeSig = captureGridSignature();
         WebElement firstRowBefore = null;
         try {
             List<WebElement> rowsBefore = driver.findElements(ROWS_BY);
@@ -698,30 +726,14 @@ public class CompliancePage extends BasePage {
             return false;
         }
 
-        // Wait for staleness of first row OR signature change
-        boolean changed = false;
-        long deadline = System.currentTimeMillis() + utils.ReusableCommonMethods.NAV_FAIL_MS;
-        while (System.currentTimeMillis() < deadline) {
-            try {
-                if (firstRowBefore != null) {
-                    try {
-                        wait.waitForStaleness(firstRowBefore);
-                        changed = true;
-                        break;
-                    } catch (Exception ignored) {
-                    }
-                }
-                String afterSig = tableSnapshotSignature();
-                if (!beforeSig.equals(afterSig)) {
-                    changed = true;
-                    break;
-                }
-            } catch (Exception ignored) {
-            }
-            try {
-                Thread.sleep(120);
-            } catch (InterruptedException ignored) {
-            }
+        // Wait for detachment of first row OR grid hash change (one in-page MutationObserver wait)
+        boolean changed;
+        try {
+            changed = wait.untilDom(
+                    "if (args[1] && !document.contains(args[1])) return true;" + GRID_CHANGED_JS,
+                    Duration.ofMillis(utils.ReusableCommonMethods.NAV_FAIL_MS), beforeSig, firstRowBefore);
+        } catch (StaleElementReferenceException | NoSuchElementException alreadyGone) {
+            changed = true; // first row was replaced before the observer was even armed
         }
 
         // Now require the new page to be READY (non-empty status cell)
@@ -756,83 +768,61 @@ public class CompliancePage extends BasePage {
      */
     private WebElement findNextButton() {
         try {
-            // Try common Ant/Material patterns first
-            List<WebElement> candidates = new ArrayList<>();
-            candidates.addAll(driver.findElements(By.cssSelector("li.ant-pagination-next button")));
-            candidates.addAll(driver.findElements(By.xpath("//button[.//span[normalize-space()='Next']]")));
-            candidates.addAll(driver.findElements(By.xpath("//button[normalize-space()='Next' or contains(normalize-space(.),'Next')]")));
-            candidates.addAll(driver.findElements(By.xpath("//li[contains(@class,'pagination-next') or contains(@class,'ant-pagination-next')]//button")));
-
-            WebElement usable = null;
-            for (WebElement b : candidates) {
-                if (b == null) continue;
-                try {
-                    String cls = b.getAttribute("class");
-                    String aria = b.getAttribute("aria-disabled");
-                    String disabled = b.getAttribute("disabled");
-                    boolean isDisabled = "true".equalsIgnoreCase(aria) || disabled != null || (cls != null && cls.toLowerCase().contains("disabled"));
-                    if (b.isDisplayed() && b.isEnabled() && !isDisabled) {
-                        usable = b; // pick the last good one (often the bottom pager)
+            // Tiers from pager-specific to loose text; instant probes (a miss costs one lookup, not an implicit wait)
+            for (By tier : NEXT_BUTTON_TIERS) {
+                WebElement usable = null;
+                for (WebElement b : wait.findAllNow(tier)) {
+                    if (b == null) continue;
+                    try {
+                        String cls = b.getAttribute("class");
+                        String aria = b.getAttribute("aria-disabled");
+                        String disabled = b.getAttribute("disabled");
+                        boolean isDisabled = "true".equalsIgnoreCase(aria) || disabled != null || (cls != null && cls.toLowerCase().contains("disabled"));
+                        if (b.isDisplayed() && b.isEnabled() && !isDisabled) {
+                            usable = b; // pick the last good one (often the bottom pager)
+                        }
+                    } catch (Exception ignored) {
                     }
-                } catch (Exception ignored) {
                 }
+                if (usable != null) return usable;
             }
-            return usable;
+            return null;
         } catch (Exception e) {
             return null;
         }
     }
 
     /**
-     * Read statuses on current page, resilient to stale elements.
+     * Read statuses (Status column) on current page from one grid snapshot, so nothing can go stale.
      */
     private List<String> readStatusesOnPageSafe() {
-        List<String> out = new ArrayList<>();
+        List<JsonNode> apiRows = currentApiRows();
+        if (apiRows == null) return readStatusesFromDom();
 
-        // Prefer already-bound list (if you have @FindBy)…
-        try {
-            if (statusCellLocator != null && !statusCellLocator.isEmpty()) {
-                for (WebElement cell : statusCellLocator) {
-                    String s = (cell == null) ? null : cell.getText();
-                    if (s != null && !(s = s.trim()).isEmpty()) out.add(s);
-                }
-                if (!out.isEmpty()) return out;
-            }
-        } catch (StaleElementReferenceException ignore) {
-            // fall-through
-        } catch (Exception ex) {
-            logger.warn("⚠️ While reading @FindBy status cells: {}", ex.toString());
+        List<String> out = new ArrayList<>();
+        for (JsonNode row : apiRows) {
+            String status = GridApiCapture.status(row);
+            if (!status.isEmpty()) out.add(status);
         }
-
-        // …fallback to fresh find
-        try {
-            List<WebElement> cells = driver.findElements(STATUS_CELLS_BY);
-            for (WebElement cell : cells) {
-                String s = (cell == null) ? null : cell.getText();
-                if (s != null && !(s = s.trim()).isEmpty()) out.add(s);
+        if (sampleDomCrossCheck()) {
+            List<String> dom = readStatusesFromDom();
+            if (!dom.equals(out)) {
+                logger.warn("⚠️ Grid API / DOM status mismatch, using the DOM: api={} dom={}", out, dom);
+                return dom;
             }
-        } catch (Exception ex) {
-            logger.warn("⚠️ While reading status cells by locator: {}", ex.toString());
         }
         return out;
     }
 
-    /**
-     * Create a lightweight signature to detect page content changes.
-     */
-    private String tableSnapshotSignature() {
-        try {
-            List<WebElement> rows = driver.findElements(ROWS_BY);
-            int n = (rows == null) ? 0 : rows.size();
-            String first = (n > 0) ? safeText(rows.get(0)) : "";
-            String last = (n > 1) ? safeText(rows.get(n - 1)) : "";
-            return n + "|" + first + "|" + last;
-        } catch (Exception e) {
-            return "0||";
+    private List<String> readStatusesFromDom() {
+        List<String> out = new ArrayList<>();
+        for (GridRow row : complianceGrid.read()) {
+            String status = row.get("status");
+            if (!status.isEmpty()) out.add(status);
         }
+        return out;
     }
 
-
     /**
      * Nudge virtualized tables to render visible cells.
      */
@@ -841,13 +831,13 @@ public class CompliancePage extends BasePage {
         JavascriptExecutor js = (JavascriptExecutor) driver;
         try {
             js.executeScript("arguments[0].scrollIntoView({block:'nearest'})", rows.get(0));
-            Thread.sleep(40);
+            Pacer.pause("CompliancePage.settleGridViewport", 40);
             if (rows.size() > 1) {
                 js.executeScript("arguments[0].scrollIntoView({block:'nearest'})", rows.get(1));
-                Thread.sleep(40);
+                Pacer.pause("CompliancePage.settleGridViewport", 40);
             }
             js.executeScript("arguments[0].scrollIntoView({block:'nearest'})", rows.get(0));
-            Thread.sleep(40);
+            Pacer.pause("CompliancePage.settleGridViewport", 40);
         } catch (Exception ignored) {
         }
     }
@@ -861,6 +851,7 @@ public class CompliancePage extends BasePage {
      */
 
     private boolean clickNextIfVisible() {
+        markApiNavigation();
         try {
             WebElement firstRowBefore = (rowLocator == null || rowLocator.isEmpty()) ? null : rowLocator.get(0);
 
@@ -887,7 +878,7 @@ public class CompliancePage extends BasePage {
                     changed = true;
                 }
 
-                Thread.sleep(250);
+                Pacer.pause("CompliancePage.clickNextIfVisible", 250);
                 wait.waitForPageToLoad();
                 return changed; // only true when we observed a change
             }
@@ -1037,6 +1028,12 @@ public class CompliancePage extends BasePage {
     public List<String> getTableHeadersText() {
         List<String> headers = new ArrayList<String>();
 
+        // Same header texts the column mapping is resolved from (one script, cached per page load)
+        for (String h : complianceGrid.headers()) {
+            if (h != null && !h.trim().isEmpty()) headers.add(h.trim());
+        }
+        if (!headers.isEmpty()) return headers;
+
         if (columnHeaders == null || columnHeaders.isEmpty()) {
             throw new RuntimeException("❌ No header elements found (columnHeaders list is null or empty).");
         }
@@ -1103,24 +1100,12 @@ public class CompliancePage extends BasePage {
 
             // === Ascending click ===
             logger.info("⬆️ Clicking ascending sort for header: '{}'", headerText);
-            try {
-                sortIconContainer.click();
-            } catch (Exception e) {
-                logger.warn("⚠️ Regular click failed for ascending sort. Falling back to JS click. Header: '{}'", headerText);
-                helpers.jsClick(driver, sortIconContainer);
-            }
-            Thread.sleep(800);
+            clickSortAndAwait(sortIconContainer, headerText, "ascending");
             logger.info("✅ Ascending sort click completed for header: '{}'", headerText);
 
             // === Descending click ===
             logger.info("⬇️ Clicking descending sort for header: '{}'", headerText);
-            try {
-                sortIconContainer.click();
-            } catch (Exception e) {
-                logger.warn("⚠️ Regular click failed for descending sort. Falling back to JS click. Header: '{}'", headerText);
-                helpers.jsClick(driver, sortIconContainer);
-            }
-            Thread.sleep(800);
+            clickSortAndAwait(sortIconContainer, headerText, "descending");
             logger.info("✅ Descending sort click completed for header: '{}'", headerText);
 
             return true;
@@ -1140,12 +1125,49 @@ public class CompliancePage extends BasePage {
     }
 
 
+    /**
+     * Clicks a sort icon and waits until the sort took effect.
+     * <p>
+     * The click is confirmed by the rows changing or by the icon's own state changing (aria-sort, class or
+     * markup), within {@code SORT_RELOAD_TIMEOUT_MS}. When only the icon changed, the rows get
+     * {@code SORT_SETTLE_MS} to reorder; a grid that is already in that order (or has one row) therefore costs
+     * that short settle instead of the full reload timeout.
+     */
+    private void clickSortAndAwait(WebElement sortIcon, String headerText, String direction) {
+        String rowsBefore = captureGridSignature();
+        String iconBefore = sortIconState(sortIcon);
+        try {
+            sortIcon.click();
+        } catch (Exception e) {
+            logger.warn("⚠️ Regular click failed for {} sort. Falling back to JS click. Header: '{}'", direction, headerText);
+            helpers.jsClick(driver, sortIcon);
+        }
+
+        long ms = wait.waitForDomCondition(SORT_APPLIED_JS, Duration.ofMillis(SORT_RELOAD_TIMEOUT_MS), rowsBefore, iconBefore, sortIcon);
+        if (ms < 0) {
+            logger.warn("⌛ Neither rows nor sort icon changed within {} ms after {} sort on '{}'.", SORT_RELOAD_TIMEOUT_MS, direction, headerText);
+        } else if (rowsBefore.equals(captureGridSignature())) {
+            // icon confirmed the click; give the rows a short window to reorder (already in order → no change)
+            GridHash.waitForChange(wait, TABLE_ROWS_CSS, rowsBefore, Duration.ofMillis(SORT_SETTLE_MS));
+        }
+    }
+
+    private String sortIconState(WebElement sortIcon) {
+        try {
+            Object v = ((JavascriptExecutor) driver).executeScript("return " + SORT_ICON_STATE_EXPR + "(arguments[0]);", sortIcon);
+            return v == null ? "" : v.toString();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+
     /**
      * Checks if the compliance table currently displays the "No records found" message.
      * <p>
      * This method:
      * <ul>
-     *   <li>Uses the {@link #noRecordMessages} locator to detect if the empty state message is visible.</li>
+     *   <li>Uses the {@code NO_RECORDS_BY} locator (same as {@link #noRecordMessages}) to detect if the empty state message is visible.</li>
      *   <li>Returns {@code true} if at least one matching element is found and displayed, otherwise {@code false}.</li>
      *   <li>Logs a message indicating whether records are present or not.</li>
      *   <li>In case of any exception, logs a warning and assumes records are present.</li>
@@ -1157,21 +1179,8 @@ public class CompliancePage extends BasePage {
         try {
             logger.info("🔍 Checking if 'No records found' message is displayed in the compliance table...");
 
-            boolean noRecords = false;
-
-            if (noRecordMessages != null && !noRecordMessages.isEmpty()) {
-                for (int i = 0; i < noRecordMessages.size(); i++) {
-                    try {
-                        WebElement msg = noRecordMessages.get(i);
-                        if (msg != null && msg.isDisplayed()) {
-                            noRecords = true;
-                            break;
-                        }
-                    } catch (StaleElementReferenceException ignored) {
-                        // If stale, re-check on next iteration
-                    }
-                }
-            }
+            // single bounded probe (instant in zero-implicit mode) instead of the @FindBy list proxy
+            boolean noRecords = wait.isVisible(NO_RECORDS_BY, Duration.ZERO);
 
             if (noRecords) {
                 logger.info("ℹ️ No records found in the compliance table.");
@@ -1220,7 +1229,7 @@ public class CompliancePage extends BasePage {
                     if (total > 0) break;
                 }
                 try {
-                    Thread.sleep(150);
+                    Pacer.pause("CompliancePage.areAllRecordCheckboxesVisible", 150);
                 } catch (InterruptedException ignored) {
                 }
             }
@@ -1300,7 +1309,7 @@ public class CompliancePage extends BasePage {
                     if (totalRowsWithCheckbox > 0) break;
                 }
                 try {
-                    Thread.sleep(150);
+                    Pacer.pause("CompliancePage.selectAllCheckboxAndVerifyArchiveButton", 150);
                 } catch (InterruptedException ignored) {
                 }
             }
@@ -1366,7 +1375,7 @@ public class CompliancePage extends BasePage {
                     break;
                 }
                 try {
-                    Thread.sleep(200);
+                    Pacer.pause("CompliancePage.selectAllCheckboxAndVerifyArchiveButton", 200);
                 } catch (InterruptedException ignored) {
                 }
             }
@@ -1417,7 +1426,7 @@ public class CompliancePage extends BasePage {
                 }
                 if (banner != null) break;
                 try {
-                    Thread.sleep(150);
+                    Pacer.pause("CompliancePage.selectAllCheckboxAndVerifyArchiveButton", 150);
                 } catch (InterruptedException ignored) {
                 }
             }
@@ -1497,7 +1506,7 @@ public class CompliancePage extends BasePage {
 
             logger.info("✅ 'View Archives' clicked. Waiting for Archive UI to load...");
             // Light settle — replace with a specific wait if you have a known Archive marker
-            Thread.sleep(1000);
+            Pacer.pause("CompliancePage.navigateToArchiveTab", 1000);
 
             logger.info("✅ Successfully navigated to Archive section.");
         } catch (Exception e) {
@@ -1606,31 +1615,18 @@ public class CompliancePage extends BasePage {
                 }
             }
 
-            // Collect archived record names
-            List<String> archivedRecords = new ArrayList<>();
-            for (WebElement recordElement : archivedComplianceNames) {
-                try {
-                    String complianceName = recordElement.getAttribute("title");
-                    if (complianceName != null && !complianceName.trim().isEmpty()) {
-                        archivedRecords.add(complianceName.trim());
-                    } else {
-                        logger.warn("⚠️ Encountered an archive record with empty or missing title attribute.");
-                    }
-                } catch (Exception e) {
-                    logger.error("❌ Error while reading archived compliance name.", e);
-                }
+            // Page through the archive lazily; stop as soon as every expected record was seen
+            List<String> missingRecords = new ArrayList<>(expectedRecords);
+            PagedRows<String> archived = archivedRecordNames();
+            int seen = 0;
+            while (!missingRecords.isEmpty() && archived.hasNext()) {
+                String archivedName = archived.next();
+                missingRecords.removeIf(archivedName::equals);
+                seen++;
             }
 
             logger.info("📥 Expected Records ({}): {}", expectedRecords.size(), expectedRecords);
-            logger.info("📦 Archived Records ({}): {}", archivedRecords.size(), archivedRecords);
-
-            // Compare expected vs archived
-            List<String> missingRecords = new ArrayList<>();
-            for (String expectedRecord : expectedRecords) {
-                if (!archivedRecords.contains(expectedRecord)) {
-                    missingRecords.add(expectedRecord);
-                }
-            }
+            logger.info("📦 Archived Records read: {} (up to page {})", seen, archived.page());
 
             if (missingRecords.isEmpty()) {
                 logger.info("✅ All expected compliances are present in Archive.");
@@ -1646,6 +1642,40 @@ public class CompliancePage extends BasePage {
         }
     }
 
+    /** Lazy iterator over archived record names (title attribute), page by page. */
+    private PagedRows<String> archivedRecordNames() {
+        return new PagedRows<>(new PagedRows.PageSource<String>() {
+            @Override
+            public List<String> readPage() {
+                List<String> names = new ArrayList<>();
+                for (WebElement recordElement : archivedComplianceNames) {
+                    try {
+                        String complianceName = recordElement.getAttribute("title");
+                        if (complianceName != null && !complianceName.trim().isEmpty()) {
+                            names.add(complianceName.trim());
+                        } else {
+                            logger.warn("⚠️ Encountered an archive record with empty or missing title attribute.");
+                        }
+                    } catch (Exception e) {
+                        logger.error("❌ Error while reading archived compliance name.", e);
+                    }
+                }
+                return names;
+            }
+
+            @Override
+            public boolean advance(int fromPage) {
+                WebElement next = findNextButton();
+                if (next == null || archivedComplianceNames.isEmpty()) return false;
+                WebElement first = archivedComplianceNames.get(0);
+                safeClick(next);
+                // the archive is a div grid (no table rows to hash): wait for the first record to be replaced
+                return wait.untilDom("return !document.contains(args[0]);",
+                        Duration.ofMillis(ReusableCommonMethods.NAV_FAIL_MS), first);
+            }
+        });
+    }
+
     /**
      * Retrieves the list of compliance names from the Archive section.
      * <p>
@@ -1736,7 +1766,7 @@ public class CompliancePage extends BasePage {
                 // Scroll into view (center)
                 try {
                     js.executeScript("arguments[0].scrollIntoView({block:'center', inline:'center'});", unarchiveBtn);
-                    Thread.sleep(150);
+                    Pacer.pause("CompliancePage.clickUnarchiveButtonsForRecords", 150);
                 } catch (Exception ignore) {
                 }
 
@@ -1747,7 +1777,7 @@ public class CompliancePage extends BasePage {
 
                 // ⏳ wait 4 seconds after each click
                 try {
-                    Thread.sleep(4000);
+                    Pacer.pause("CompliancePage.clickUnarchiveButtonsForRecords", 4000);
                 } catch (InterruptedException ignored) {
                 }
 
@@ -1772,7 +1802,7 @@ public class CompliancePage extends BasePage {
 
                 // Small gap before next click to let the DOM settle
                 try {
-                    Thread.sleep(400);
+                    Pacer.pause("CompliancePage.clickUnarchiveButtonsForRecords", 400);
                 } catch (InterruptedException ignored) {
                 }
 
@@ -1790,7 +1820,7 @@ public class CompliancePage extends BasePage {
 
                     // ⏳ wait 4 seconds after retry click as well
                     try {
-                        Thread.sleep(4000);
+                        Pacer.pause("CompliancePage.clickUnarchiveButtonsForRecords", 4000);
                     } catch (InterruptedException ignored) {
                     }
 
@@ -1851,7 +1881,7 @@ public class CompliancePage extends BasePage {
             } catch (Exception ignore) {
             }
             try {
-                Thread.sleep(150);
+                Pacer.pause("CompliancePage.readUnarchiveToastMessage", 150);
             } catch (InterruptedException ignored) {
             }
         }
@@ -1945,7 +1975,7 @@ public class CompliancePage extends BasePage {
 
 
     /**
-     * Retrieves all compliance names currently listed in the main compliance table.
+     * Retrieves all compliance names currently listed in the main compliance table (one grid snapshot).
      * <p>
      * Only the first line of each cell is taken (badges, if any, are ignored).
      * Skips any rows that are missing the name cell or have blank names.
@@ -1955,39 +1985,31 @@ public class CompliancePage extends BasePage {
     public List<String> getCurrentComplianceNamesInMainList() {
         List<String> recordNames = new ArrayList<>();
 
-        try {
-            if (complianceRows == null || complianceRows.isEmpty()) {
-                logger.warn("⚠️ No compliance rows found in the main table.");
-                return recordNames;
-            }
+        List<GridRow> rows = complianceGrid.read();
+        if (rows.isEmpty()) {
+            logger.warn("⚠️ No compliance rows found in the main table.");
+            return recordNames;
+        }
 
-            logger.info("🔍 Found {} compliance rows in the main table. Extracting names...", Integer.valueOf(complianceRows.size()));
+        logger.info("🔍 Found {} compliance rows in the main table. Extracting names...", Integer.valueOf(rows.size()));
 
-            for (int i = 0; i < complianceRows.size(); i++) {
-                WebElement row = complianceRows.get(i);
-                try {
-                    WebElement complianceNameElement = row.findElement(By.xpath("./td[1]"));
-                    String rawText = complianceNameElement.getText();
-                    if (rawText != null && !rawText.trim().isEmpty()) {
-                        String complianceName = rawText.split("\\R")[0].trim(); // First line only
-                        recordNames.add(complianceName);
-                        logger.debug("✅ Row {} → '{}'", Integer.valueOf(i + 1), complianceName);
-                    } else {
-                        logger.warn("⚠️ Row {} has an empty name cell.", Integer.valueOf(i + 1));
-                    }
-                } catch (NoSuchElementException e) {
-                    logger.warn("⚠️ Row {} missing name cell: {}", Integer.valueOf(i + 1), e.getMessage());
-                } catch (Exception ex) {
-                    logger.error("❌ Unexpected error reading name from row {}", Integer.valueOf(i + 1), ex);
-                }
+        for (int i = 0; i < rows.size(); i++) {
+            GridRow row = rows.get(i);
+            if (row.cell("name") == null) {
+                logger.warn("⚠️ Row {} missing name cell.", Integer.valueOf(i + 1));
+                continue;
+            }
+            String rawText = row.get("name");
+            if (!rawText.isEmpty()) {
+                String complianceName = rawText.split("\\R")[0].trim(); // First line only
+                recordNames.add(complianceName);
+                logger.debug("✅ Row {} → '{}'", Integer.valueOf(i + 1), complianceName);
+            } else {
+                logger.warn("⚠️ Row {} has an empty name cell.", Integer.valueOf(i + 1));
             }
-
-            logger.info("📋 Extracted {} record(s) from main table: {}", Integer.valueOf(recordNames.size()), recordNames);
-
-        } catch (Exception e) {
-            logger.error("❌ Error while fetching current records from main table.", e);
         }
 
+        logger.info("📋 Extracted {} record(s) from main table: {}", Integer.valueOf(recordNames.size()), recordNames);
         return recordNames;
     }
 
@@ -2028,7 +2050,7 @@ public class CompliancePage extends BasePage {
                 } catch (StaleElementReferenceException ignored) {
                 }
                 if (toast != null) break;
-                Thread.sleep(150);
+                Pacer.pause("CompliancePage.getArchiveSuccessToastMessage", 150);
             }
 
             if (toast == null) {
@@ -2082,7 +2104,7 @@ public class CompliancePage extends BasePage {
                 } catch (StaleElementReferenceException gone) {
                     break;
                 }
-                Thread.sleep(150);
+                Pacer.poll("CompliancePage.getArchiveSuccessToastMessage", 150);
             }
 
             return message;
@@ -2146,7 +2168,7 @@ public class CompliancePage extends BasePage {
                 return latestCsv;
             }
 
-            sleep(poll);
+            pollSleep("CompliancePage.waitForLatestCsv", poll);
         } while (System.nanoTime() < deadline);
 
         throw new AssertionError("No CSV file found in downloads folder within timeout: " + folder.toAbsolutePath());
@@ -2158,7 +2180,7 @@ public class CompliancePage extends BasePage {
 
         try {
             long s1 = Files.size(csv);
-            sleep(poll);
+            pollSleep("CompliancePage.hasFinishedDownloading", poll);
             long s2 = Files.size(csv);
             return s1 > 0 && s1 == s2;
         } catch (IOException e) {
@@ -2189,9 +2211,10 @@ public class CompliancePage extends BasePage {
         return latest;
     }
 
-    private void sleep(Duration d) {
+    /** Poll interval of the download loops: never scaled or skipped, the size-stability check depends on it. */
+    private void pollSleep(String purpose, Duration d) {
         try {
-            Thread.sleep(d.toMillis());
+            Pacer.poll(purpose, d.toMillis());
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
         }
@@ -2566,7 +2589,7 @@ public class CompliancePage extends BasePage {
                 break;
             }
             try {
-                Thread.sleep(300);
+                Pacer.pause("CompliancePage.getOptionsFromDropdown", 300);
             } catch (InterruptedException ignore) {
             }
         }
@@ -2798,7 +2821,7 @@ public class CompliancePage extends BasePage {
         } finally {
             // Best-effort close (ESC). It's fine if this fails.
             try { new Actions(driver).sendKeys(Keys.ESCAPE).perform(); } catch (Throwable ignore) {}
-            try { Thread.sleep(120); } catch (InterruptedException ignored) {}
+            try { Pacer.pause("CompliancePage.getDueDateOptions", 120); } catch (InterruptedException ignored) {}
         }
 
         if (unique.isEmpty()) {
@@ -2828,7 +2851,7 @@ public class CompliancePage extends BasePage {
                     "(//div[@class='flex flex-col gap-2 max-h-[180px] overflow-auto enterpriseScrollbar mb-2 p-1'])[3]"
             );
             try {
-                WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(6));
+                WebDriverWait w = new TrackedWait(driver, Duration.ofSeconds(6));
                 WebElement container = w.until(ExpectedConditions.visibilityOfElementLocated(strictContainer));
                 logger.info("✅ Strict container visible for '{}'", name);
                 return container;
@@ -2908,8 +2931,8 @@ public class CompliancePage extends BasePage {
     }
 
     /**
-     * Reads the visible text from the grid's first column (using {@code gridRowTitles} locator),
-     * filtering out blanks and the sentinel "No records found".
+     * Reads the visible text from the grid's name column (the a/span/p elements {@code gridRowTitles}
+     * targets, taken from one {@link GridSnapshot}), filtering out blanks and the sentinel "No records found".
      *
      * <p>Does not scroll; intended to capture what is currently visible.</p>
      *
@@ -2918,25 +2941,16 @@ public class CompliancePage extends BasePage {
     public List<String> getVisibleGridItems() {
         List<String> items = new ArrayList<>();
         int scanned = 0;
-        try {
-            List<WebElement> nodes = driver.findElements(gridRowTitles);
-            if (nodes == null) {
-                logger.warn("ℹ️ getVisibleGridItems: locator returned null list.");
-            } else {
-                for (WebElement el : nodes) {
-                    scanned++;
-                    String text = normalize(el.getText());
-                    if (!text.isEmpty() && !"No records found".equalsIgnoreCase(text)) {
-                        items.add(text);
-                    }
+        for (GridRow row : complianceGrid.read()) {
+            GridSnapshot.Cell nameCell = row.cell("name");
+            if (nameCell == null) continue;
+            for (String part : nameCell.parts) {
+                scanned++;
+                String text = normalize(part);
+                if (!text.isEmpty() && !"No records found".equalsIgnoreCase(text)) {
+                    items.add(text);
                 }
             }
-        } catch (NoSuchElementException nse) {
-            logger.warn("ℹ️ getVisibleGridItems: grid row locator not present yet.");
-        } catch (StaleElementReferenceException sere) {
-            logger.warn("♻️ getVisibleGridItems: elements went stale during read; partial list size={}.", Integer.valueOf(items.size()));
-        } catch (Throwable t) {
-            logger.error("❌ getVisibleGridItems: unexpected error: {}", t.toString());
         }
 
         logger.info("📊 Grid visible items: {} (scanned {}).", Integer.valueOf(items.size()), Integer.valueOf(scanned));
@@ -2951,7 +2965,7 @@ public class CompliancePage extends BasePage {
     private void sleep(long ms) {
         if (ms <= 0) return;
         try {
-            Thread.sleep(ms);
+            Pacer.pause(ms);
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
         }
@@ -3139,46 +3153,23 @@ public class CompliancePage extends BasePage {
 
 
     /**
-     * Builds a lightweight signature for the current grid by concatenating
-     * normalized text of the first N row-title cells (pipe-delimited).
+     * Content hash of every row of the current grid ({@link GridHash}), computed in-page in one call.
+     * The change-detection primitive for pagination, filter reloads and sort verification: capture it
+     * before the action, then {@link #waitForGridReload(String, long)}.
      *
-     * <p>Use this to detect grid reloads without timing-only waits.</p>
-     *
-     * @param maxRows how many rows to include (default 10 if <=0)
-     * @return non-null signature string (may be empty)
-     */
-    public String captureGridSignature(int maxRows) {
-        final int N = maxRows > 0 ? maxRows : 10;
-        List<WebElement> els = driver.findElements(By.xpath("//table//tbody//tr//td[1]//*[self::a or self::span or self::p]"));
-
-        List<String> rows = new ArrayList<String>(Math.min(N, els.size()));
-        for (int i = 0; i < els.size() && rows.size() < N; i++) {
-            String t = norm(els.get(i).getText());
-            if (!t.isEmpty()) rows.add(t);
-        }
-
-        if (rows.isEmpty()) {
-            logger.info("ℹ️ captureGridSignature: grid appears empty (no row titles).");
-        }
-
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < rows.size(); i++) {
-            if (i > 0) sb.append('|');
-            sb.append(rows.get(i));
-        }
-        return sb.toString();
-    }
-
-    /**
-     * Backward-compatible no-arg overload (defaults to 10).
+     * @return non-null hash ("" only if the script could not run)
      */
     public String captureGridSignature() {
-        return captureGridSignature(10);
+        String signature = GridHash.compute(driver, TABLE_ROWS_CSS);
+        if (GridHash.isEmpty(signature)) {
+            logger.info("ℹ️ captureGridSignature: grid appears empty (no rows).");
+        }
+        return signature;
     }
 
 
     /**
-     * Polls until the grid's signature differs from a previous value.
+     * Waits (in-page MutationObserver, no client polling) until the grid's signature differs from a previous value.
      *
      * @param previousSignature non-null (empty allowed)
      * @param timeoutMs         > 0
@@ -3189,20 +3180,13 @@ public class CompliancePage extends BasePage {
         if (timeoutMs <= 0L) throw new IllegalArgumentException("timeoutMs must be > 0");
         if (previousSignature == null) previousSignature = "";
 
-        final long end = System.currentTimeMillis() + timeoutMs;
-        int polls = 0;
-        while (System.currentTimeMillis() < end) {
-            String now = captureGridSignature(); // uses same nodes
-            polls++;
-            if (!now.equals(previousSignature)) {
-                logger.info("🔁 Grid reload detected after {} poll(s).", Integer.valueOf(polls));
-                return true;
-            }
-            sleep(200);
-            if (polls % 5 == 0)
-                logger.debug("…still waiting for grid signature to change ({} polls).", Integer.valueOf(polls));
+        // Same hash as captureGridSignature(), re-evaluated in-page on every DOM mutation
+        long ms = GridHash.waitForChange(wait, TABLE_ROWS_CSS, previousSignature, Duration.ofMillis(timeoutMs));
+        if (ms >= 0) {
+            logger.info("🔁 Grid reload detected after {} ms.", Long.valueOf(ms));
+            return true;
         }
-        logger.warn("⌛ Grid did not reload within {} ms ({} poll(s)).", Long.valueOf(timeoutMs), Integer.valueOf(polls));
+        logger.warn("⌛ Grid did not reload within {} ms.", Long.valueOf(timeoutMs));
         return false;
     }
 
@@ -3301,7 +3285,7 @@ public class CompliancePage extends BasePage {
                 }
             }
             try {
-                Thread.sleep(100);
+                Pacer.poll("CompliancePage.waitForAnyDropdownPanelVisible", 100);
             } catch (InterruptedException ignored) {
             }
         }
@@ -3473,88 +3457,29 @@ public class CompliancePage extends BasePage {
     /**
      * Scrolls the grid (or the nearest scrollable container) and collects
      * distinct row titles currently visible/lazy-loaded, up to a time budget.
+     * Runs entirely in the browser (see {@link ScrollHarvester}): one script call, paced by rendering.
      *
      * @return ordered list of distinct item titles (non-null, possibly empty)
      */
     public List<String> getAllGridItems() {
-        WebElement table = driver.findElement(By.xpath("//table[.//tbody]"));
-        if (table == null) {
+        if (driver.findElements(By.xpath("//table[.//tbody]")).isEmpty()) {
             logger.error("❌ getAllGridItems: grid <table> not found.");
             return new ArrayList<String>();
         }
 
-        WebElement container = findScrollableAncestor(table);
-
-        LinkedHashSet<String> seen = new LinkedHashSet<String>();
-        int stagnantRounds = 0;
-        long end = System.currentTimeMillis() + 15000L; // ~15s
-
-        while (stagnantRounds < 3 && System.currentTimeMillis() < end) {
-            // EXACT same nodes used by captureGridSignature
-            List<WebElement> els = driver.findElements(By.xpath("//table//tbody//tr//td[1]//*[self::a or self::span or self::p]"));
-            int before = seen.size();
-            for (int i = 0; i < els.size(); i++) {
-                String t = normalize(els.get(i).getText());
-                if (t != null && t.length() > 0 && !"No records found".equalsIgnoreCase(t)) {
-                    seen.add(t);
-                }
-            }
-
-            // Scroll to trigger lazy loading / virtualization
-            try {
-                if (container != null) {
-                    ((JavascriptExecutor) driver).executeScript("if (arguments[0].scrollHeight > arguments[0].scrollTop + arguments[0].clientHeight) " + "arguments[0].scrollTop = arguments[0].scrollTop + Math.max(400, arguments[0].clientHeight/2);", container);
-                } else {
-                    ((JavascriptExecutor) driver).executeScript("window.scrollBy(0, Math.max(600, window.innerHeight/2));");
-                }
-                Thread.sleep(250);
-            } catch (Throwable ignored) {
-            }
+        // EXACT same nodes as gridRowTitles / getVisibleGridItems
+        ScrollHarvester.Result result = ScrollHarvester.harvest(driver, "table tbody",
+                "table tbody tr td:first-of-type a, table tbody tr td:first-of-type span, table tbody tr td:first-of-type p",
+                Duration.ofSeconds(15));
 
-            stagnantRounds = (seen.size() == before) ? (stagnantRounds + 1) : 0;
-        }
-
-        logger.info("📊 Grid total collected items across scroll: {}", Integer.valueOf(seen.size()));
-        if (seen.isEmpty()) {
+        logger.info("📊 Grid total collected items across scroll: {}", Integer.valueOf(result.items.size()));
+        if (result.items.isEmpty()) {
             logger.warn("ℹ️ getAllGridItems: no items found after scrolling window/container.");
         }
-        return new ArrayList<String>(seen);
-    }
-
-
-    /**
-     * Walks up the DOM from a starting element to find the first element that is
-     * vertically scrollable (overflowY auto/scroll and scrollHeight > clientHeight).
-     *
-     * @param start starting element (non-null)
-     * @return the first scrollable ancestor or {@code null} if none found (caller may fall back to window)
-     * @throws IllegalArgumentException if start is null
-     */
-    private WebElement findScrollableAncestor(WebElement start) {
-        if (start == null) throw new IllegalArgumentException("start cannot be null");
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        WebElement cur = start;
-        for (int i = 0; i < 8; i++) { // don’t walk forever
-            try {
-                Boolean scrollable = (Boolean) js.executeScript("const el = arguments[0];" + "if (!el) return false;" + "const style = window.getComputedStyle(el);" + "const oy = style.overflowY;" + "return (el.scrollHeight > el.clientHeight) && (oy === 'auto' || oy === 'scroll');", cur);
-                if (Boolean.TRUE.equals(scrollable)) return cur;
-            } catch (Throwable ignore) {
-            }
-            // move to parent
-            try {
-                cur = cur.findElement(By.xpath(".."));
-            } catch (Throwable t) {
-                break;
-            }
-        }
-        return null;
+        return new ArrayList<String>(result.items);
     }
 
 
-
-
-
     /**
      * Collects first-column titles (your grid item names) across ALL pages.
      * Uses the SAME pagination machinery as status validation:
@@ -3722,11 +3647,48 @@ public class CompliancePage extends BasePage {
 
     // In CompliancePage.java
 
+    /**
+     * Jumps straight to page {@code n} (query parameter, numbered paginator item, or Next/Prev as a last resort).
+     *
+     * @return true if the paginator reports page {@code n} afterwards
+     */
+    public boolean goToPage(int n) {
+        markApiNavigation();
+        return pager.goToPage(n, PAGE_HOP_TIMEOUT);
+    }
+
+    /** Jumps to the last page shown by the paginator. */
+    public boolean goToLastPage() {
+        markApiNavigation();
+        return pager.goToLast(PAGE_HOP_TIMEOUT);
+    }
+
+    /** Highest page number shown by the paginator, or -1. */
+    public int getLastPageNumber() {
+        return pager.lastPage();
+    }
+
+    /** Selects the largest rows-per-page option, if the grid has a page-size selector; returns it or -1. */
+    public int maximizePageSize() {
+        markApiNavigation();
+        int size = pager.maximizePageSize();
+        if (size > 0) logger.info("📏 Page size set to {} row(s).", Integer.valueOf(size));
+        return size;
+    }
+
+    /** Random-access pager for the compliances grid. */
+    public GridPager pager() {
+        return pager;
+    }
+
     /**
      * Tries to navigate to the FIRST page of the pagination control.
-     * Uses either a "1" page button or falls back to clicking "Prev" until disabled.
+     * Jumps via {@link GridPager} first; falls back to a "1" page button or clicking "Prev" until disabled.
      */
     public void goToFirstPage() {
+        markApiNavigation();
+        if (pager.goToFirst(PAGE_HOP_TIMEOUT)) return;
+
         try {
             // 1) Try a "1" page button (common pattern for MUI / pagination libs)
             List<WebElement> firstButtons = driver.findElements(By.xpath(
@@ -3801,7 +3763,7 @@ public class CompliancePage extends BasePage {
      * Wait until the page number changes from oldPage.
      */
     private void waitPageNumberChange(int oldPage, Duration timeout) {
-        WebDriverWait wait = new WebDriverWait(driver, timeout);
+        WebDriverWait wait = new TrackedWait(driver, timeout);
         wait.until(d -> {
             try {
                 int curr = getCurrentPageNumberSafe();
@@ -3882,27 +3844,35 @@ public class CompliancePage extends BasePage {
         }
     }
 
-// ======================= Page fingerprint (stronger than signature alone) =======================
+// ======================= Page fingerprint (grid hash + pager label) =======================
 
     private String pageFingerprint() {
-        String sig = "";
-        try { sig = captureGridSignature(); } catch (Throwable ignore) {}
-
-        String first = "", last = "", pageLbl = "";
+        // grid hash + active pager label, one script
         try {
-            List<WebElement> titles = driver.findElements(gridRowTitles);
-            if (!titles.isEmpty()) {
-                first = String.valueOf(((JavascriptExecutor)driver).executeScript("return arguments[0].textContent;", titles.get(0))).trim();
-                last  = String.valueOf(((JavascriptExecutor)driver).executeScript("return arguments[0].textContent;", titles.get(titles.size()-1))).trim();
-            }
-        } catch (Throwable ignore) {}
-
-        try {
-            WebElement active = driver.findElement(By.cssSelector("[aria-current='page'], li.Mui-selected, .ant-pagination-item-active"));
-            pageLbl = active.getText().trim();
-        } catch (Throwable ignore) {}
+            Object fp = ((JavascriptExecutor) driver).executeScript(
+                    "var a = document.querySelector(\"[aria-current='page'], li.Mui-selected, .ant-pagination-item-active\");" +
+                    "return " + GridHash.expression(TABLE_ROWS_CSS) + " + '||' + (a ? (a.innerText || '').trim() : '');");
+            return fp == null ? "" : fp.toString();
+        } catch (Throwable t) {
+            return captureGridSignature();
+        }
+    }
 
-        return (sig + "||" + first + "||" + last + "||" + pageLbl).trim();
+    /**
+     * Jumps to checkpointed {@code page} and checks it still shows what was saved (same fingerprint).
+     * On any mismatch the checkpoint is discarded and false is returned (the caller starts over).
+     */
+    private <T> boolean resumeCheckpointAt(HarvestCheckpoint<T> checkpoint, int page) {
+        if (!goToPage(page)) {
+            checkpoint.discard("could not reach page " + page);
+            return false;
+        }
+        String fp = pageFingerprint();
+        if (!fp.equals(checkpoint.fingerprint(page))) {
+            checkpoint.discard("page " + page + " changed since it was saved");
+            return false;
+        }
+        return true;
     }
 
 // ======================= Bidirectional sweep collector =======================
@@ -3920,12 +3890,15 @@ public class CompliancePage extends BasePage {
                                                                    long timeoutMs) {
         Map<Integer, List<String>> out = new LinkedHashMap<>();
         Set<String> seen = new LinkedHashSet<>();
+        HarvestCheckpoint<String> checkpoint =
+                HarvestCheckpoint.openIfEnabled("collectAllPagesBidirectional", String.valueOf(displayedTotal), String.class);
 
         java.util.function.Consumer<Integer> collectHere = (pageNum) -> {
             String fp = pageFingerprint();
             if (seen.add(fp)) {
                 List<String> items = getVisibleGridItems();
                 out.put(pageNum, items);
+                if (checkpoint != null) checkpoint.save(pageNum, items, fp);
                 logger.info("🧾 Page {} titles collected: {} (unique pages so far: {})",
                         Integer.valueOf(pageNum),
                         Integer.valueOf(items.size()),
@@ -3940,11 +3913,27 @@ public class CompliancePage extends BasePage {
         try { pageNum = getCurrentGridPageNumber(); }
         catch (Throwable ignore) { pageNum = 1; }
 
+        // Resume a previous attempt (grid.checkpoint.enabled): if it already reached page 1, only the forward
+        // sweep from its last page is left; otherwise continue the back sweep from its lowest page.
+        boolean skipBackSweep = false;
+        boolean resumed = false;
+        if (checkpoint != null && !checkpoint.isEmpty()) {
+            int resumePage = checkpoint.firstPage() == 1 ? checkpoint.lastPage() : checkpoint.firstPage();
+            if (resumeCheckpointAt(checkpoint, resumePage)) {
+                out.putAll(checkpoint.pages());
+                seen.addAll(checkpoint.fingerprints());
+                skipBackSweep = checkpoint.firstPage() == 1;
+                resumed = true;
+                pageNum = resumePage;
+                logger.info("⏩ Resuming title collection at page {} ({} page(s) restored).", Integer.valueOf(pageNum), Integer.valueOf(out.size()));
+            }
+        }
+
         // collect current
         collectHere.accept(pageNum);
 
         // sweep BACKWARDS
-        while (true) {
+        while (!skipBackSweep) {
             WebElement prev = findPrevButtonLoose();
             if (prev == null) break;
 
@@ -3968,6 +3957,19 @@ public class CompliancePage extends BasePage {
             collectHere.accept(pageNum);
         }
 
+        // resumed back sweep done: jump over the pages the previous attempt already collected going forward
+        if (resumed && !skipBackSweep) {
+            int maxKnown = Collections.max(out.keySet());
+            if (maxKnown > pageNum) {
+                if (goToPage(maxKnown)) {
+                    pageNum = maxKnown;
+                    if (!seen.contains(pageFingerprint())) logger.warn("⚠️ Page {} differs from the checkpoint; continuing from it.", Integer.valueOf(maxKnown));
+                } else {
+                    try { pageNum = getCurrentGridPageNumber(); } catch (Throwable ignore) {}
+                }
+            }
+        }
+
         // sweep FORWARDS
         while (true) {
             WebElement next = findNextButtonLoose();
@@ -3999,6 +4001,13 @@ public class CompliancePage extends BasePage {
             }
         }
 
+        if (checkpoint != null) {
+            int total = 0;
+            for (List<String> items : out.values()) total += items.size();
+            if (displayedTotal <= 0 || total >= displayedTotal) checkpoint.complete();
+            else logger.warn("💾 Collected {} / {} titles; checkpoint kept for a retry.", Integer.valueOf(total), Integer.valueOf(displayedTotal));
+        }
+
         return out;
     }
 
@@ -4049,6 +4058,10 @@ public class CompliancePage extends BasePage {
             }
         } catch (Throwable ignore) {}
 
+        // 0) Direct jump (query parameter / numbered item "1")
+        markApiNavigation();
+        if (pager.goToPage(1, Duration.ofMillis(timeoutMs))) return true;
+
         // 1) Prefer a dedicated "First" button if present
         WebElement firstBtn = findFirstButtonLoose();
         if (firstBtn != null) {
@@ -4199,7 +4212,7 @@ public class CompliancePage extends BasePage {
 
     // ========= Utility waitors (no lambdas in our code) =========
     private WebElement waitClickable(WebElement el, long timeoutMs) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofMillis(timeoutMs));
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofMillis(timeoutMs));
         return wait.until(ExpectedConditions.elementToBeClickable(el));
     }
 
@@ -4221,7 +4234,7 @@ public class CompliancePage extends BasePage {
      */
     public void clickAddNewComplianceButton() {
         logger.info("Attempting to click 'Add new compliance' button.");
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofMillis(DEFAULT_WAIT_MS));
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofMillis(DEFAULT_WAIT_MS));
         WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(addNewComplianceBtn));
 
         try {
@@ -4242,7 +4255,7 @@ public class CompliancePage extends BasePage {
     public boolean isAddCompliancePanelVisible(Duration timeout) {
         logger.info("Waiting for 'Add new compliance' side panel to be visible.");
         try {
-            WebDriverWait wait = new WebDriverWait(driver, timeout);
+            WebDriverWait wait = new TrackedWait(driver, timeout);
             wait.until(ExpectedConditions.visibilityOf(addCompliancePanelTitle));
             boolean displayed = addCompliancePanelTitle.isDisplayed()
                     && "Add new compliance".equalsIgnoreCase(addCompliancePanelTitle.getText().trim());
@@ -4408,7 +4421,7 @@ public class CompliancePage extends BasePage {
                 "//div[contains(@class,'css-b62m3t-container')]" +                // react-select container (class name is stable in RS v5)
                         "[.//div[contains(@class,'-placeholder') and normalize-space()='"+placeholder+"']]"  // has the placeholder text
         );
-        return new WebDriverWait(driver, Duration.ofSeconds(10))
+        return new TrackedWait(driver, Duration.ofSeconds(10))
                 .until(ExpectedConditions.visibilityOfElementLocated(control));
     }
 
@@ -4425,7 +4438,7 @@ public class CompliancePage extends BasePage {
 
         // menu open wait (covers RS v4/v5)
         By openMenu = By.cssSelector("div[id^='react-select-'][id$='-listbox'], div[class*='menu']");
-        new WebDriverWait(driver, Duration.ofSeconds(8))
+        new TrackedWait(driver, Duration.ofSeconds(8))
                 .until(ExpectedConditions.visibilityOfElementLocated(openMenu));
     }
 
@@ -4505,7 +4518,7 @@ public class CompliancePage extends BasePage {
             logger.info("📅 Trying JS-set of React date input...");
             jsSetReactInputValue(input, targetValue);
 
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(2));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(2));
 
             boolean jsAccepted;
             try {
@@ -4542,7 +4555,7 @@ public class CompliancePage extends BasePage {
 
         // 3) Verify again
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(2));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(2));
             boolean finalOk = wait.until(d -> {
                 try {
                     String v = input.getAttribute("value");
@@ -4639,7 +4652,7 @@ public class CompliancePage extends BasePage {
     }
 
     private void pickDateFromTailwindWidget(String displayValue) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(10));
 
         try {
             if (displayValue == null || displayValue.trim().isEmpty()) {
@@ -4724,7 +4737,7 @@ public class CompliancePage extends BasePage {
 
     public boolean isOnCompliances() {
         try {
-            new WebDriverWait(driver, Duration.ofMillis(600))
+            new TrackedWait(driver, Duration.ofMillis(600))
                     .until(ExpectedConditions.visibilityOf(compliancesText));
             return compliancesText.isDisplayed();
         } catch (Throwable t) {
@@ -4741,10 +4754,13 @@ public class CompliancePage extends BasePage {
             long warn3Ms,
             long failMs
     ) {
+        // same signal as isOnCompliances() (heading visible OR compliances URL), probed in one JS call per poll
         return commons.clickAndWaitFor(
                 createButton,
                 "Create",
-                () -> isOnCompliances(),
+                JsCondition.anyOf(
+                        JsCondition.visible(COMPLIANCES_HEADING_BY).as("Compliances heading"),
+                        JsCondition.urlContains("/grc/compliances").as("Compliances URL")),
                 warn1Ms,
                 warn2Ms,
                 warn3Ms,
@@ -4790,7 +4806,7 @@ public class CompliancePage extends BasePage {
         commonMethods.safeClick(driver, allOfficesControl, "All offices control", 5);
 
         // 2) Now find the input INSIDE the focused control (id index is variable)
-        WebElement input = new WebDriverWait(driver, Duration.ofSeconds(10))
+        WebElement input = new TrackedWait(driver, Duration.ofSeconds(10))
                 .until(ExpectedConditions.presenceOfElementLocated(
                         By.xpath(".//input[contains(@id,'react-select') and contains(@id,'-input')]")));
 
@@ -4801,7 +4817,7 @@ public class CompliancePage extends BasePage {
 
         // wait until listbox opens so ENTER will select a real option
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(5)).until(
+            new TrackedWait(driver, Duration.ofSeconds(5)).until(
                     ExpectedConditions.visibilityOfElementLocated(
                             By.xpath("//div[contains(@id,'react-select') and contains(@id,'-listbox')]//div[contains(@class,'option')]")));
         } catch (Throwable ignored) {}
@@ -4809,7 +4825,7 @@ public class CompliancePage extends BasePage {
         input.sendKeys(Keys.ENTER);
 
         // 4) Wait for table refresh (spinner or first row visible)
-        WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait w = new TrackedWait(driver, Duration.ofSeconds(10));
         try {
             w.until(ExpectedConditions.invisibilityOfElementLocated(
                     By.xpath("//*[contains(@class,'loading') or contains(@class,'spinner')]")));
@@ -4861,7 +4877,7 @@ public class CompliancePage extends BasePage {
 
     // Utility: return the first present element among candidates
     private WebElement firstPresent(By... candidates) {
-        WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(5));
+        WebDriverWait w = new TrackedWait(driver, Duration.ofSeconds(5));
         for (By by : candidates) {
             try { return w.until(ExpectedConditions.presenceOfElementLocated(by)); }
             catch (TimeoutException ignore) {}
@@ -4872,7 +4888,7 @@ public class CompliancePage extends BasePage {
 
     public void clearDueDateFilter(ReusableCommonMethods common) {
 
-        WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(12));
+        WebDriverWait w = new TrackedWait(driver, Duration.ofSeconds(12));
 
         // Bring the pill into view
         WebElement pill = firstPresent(dueDatePill);
@@ -4880,7 +4896,7 @@ public class CompliancePage extends BasePage {
 
         // Primary path: click the little ×
         try {
-            WebElement x = new WebDriverWait(driver, Duration.ofSeconds(4))
+            WebElement x = new TrackedWait(driver, Duration.ofSeconds(4))
                     .until(ExpectedConditions.elementToBeClickable(dueDateClearSvg));
             common.safeClick(driver, x, "Due Date clear (×)", 4);
             // Wait until the selection is cleared (placeholder visible or value gone)
@@ -4899,7 +4915,7 @@ public class CompliancePage extends BasePage {
 
         try {
             // If an input appears on focus, clear it
-            WebElement input = new WebDriverWait(driver, Duration.ofSeconds(4))
+            WebElement input = new TrackedWait(driver, Duration.ofSeconds(4))
                     .until(ExpectedConditions.presenceOfElementLocated(dueDateInlineInput));
             input.sendKeys(Keys.chord(Keys.CONTROL, "a"));
             input.sendKeys(Keys.DELETE);
@@ -4940,7 +4956,7 @@ public class CompliancePage extends BasePage {
     );
 
     private boolean isInternalOnNow() {
-        WebElement knob = new WebDriverWait(driver, Duration.ofSeconds(5))
+        WebElement knob = new TrackedWait(driver, Duration.ofSeconds(5))
                 .until(ExpectedConditions.presenceOfElementLocated(internalKnobBy));
         String cls = knob.getAttribute("class");
         return cls != null && cls.contains("translate-x-6");
@@ -4953,7 +4969,7 @@ public class CompliancePage extends BasePage {
         // ensure toolbar zone is in view (after filters the page can be mid-scroll)
         ((JavascriptExecutor) driver).executeScript("window.scrollTo(0,0);");
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(10));
 
         // anchor on the row that contains the label
         wait.until(ExpectedConditions.visibilityOfElementLocated(internalRowBy));
@@ -4995,7 +5011,7 @@ public class CompliancePage extends BasePage {
 
     public boolean waitForComplianceInList(String name, Duration timeout) {
         ((JavascriptExecutor) driver).executeScript("window.scrollTo(0,0);"); // toolbar can shift scroll
-        WebDriverWait wait = new WebDriverWait(driver, timeout);
+        final long deadline = System.currentTimeMillis() + timeout.toMillis();
 
         // Match by data-searchable first; fall back to exact visible text inside the name cell
         String esc = escXpath(name);
@@ -5004,13 +5020,19 @@ public class CompliancePage extends BasePage {
                         " | //td//p[normalize-space()=" + esc + "]"
         );
 
-        try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(rowBy));
-            // optional: ensure it’s visible (not just in DOM)
-            wait.until(ExpectedConditions.visibilityOfElementLocated(rowBy));
-            return true;
-        } catch (TimeoutException e) {
-            return false;
+        // 1) shown page, briefly (the list has usually just rendered)
+        try (WaitTelemetry.Scope s = WaitTelemetry.label("shownPage")) {
+            if (wait.isVisible(rowBy, Duration.ofMillis(Math.min(timeout.toMillis(), IN_LIST_QUICK_MS)))) return true;
+        }
+
+        // 2) every page from the first, lazily, same exact match (canonical equality, no substring hits)
+        logger.info("🔎 '{}' not on the shown page; searching all pages.", name);
+        if (findComplianceRowAcrossPages(name, true).isPresent()) return true;
+
+        // 3) the rest of the budget on page 1, for a list that is still refreshing
+        long left = deadline - System.currentTimeMillis();
+        try (WaitTelemetry.Scope s = WaitTelemetry.label("refresh")) {
+            return left > 0 && wait.isVisible(rowBy, Duration.ofMillis(left));
         }
     }
 
@@ -5019,89 +5041,113 @@ public class CompliancePage extends BasePage {
 
     /**
      * Reads all visible rows on the current page and maps them to ComplianceRow
-     * (name, office, due date).
-     *
-     * Adjust column indexes if your grid order is different.
+     * (name, office, due date), from a single {@link GridSnapshot}. Columns are located by header text
+     * (see {@code complianceGrid}), so a reordered grid needs no change here.
      */
     public List<ComplianceRow> readCurrentPageRows() {
-        List<ComplianceRow> out = new ArrayList<ComplianceRow>();
-
-        // Prefer your mainComplianceRows if present, else generic tbody tr
-        List<WebElement> rows;
-        if (mainComplianceRows != null && !mainComplianceRows.isEmpty()) {
-            rows = mainComplianceRows;
-        } else if (complianceRows != null && !complianceRows.isEmpty()) {
-            rows = complianceRows;
-        } else {
-            rows = driver.findElements(By.cssSelector("table#compliances-table tbody tr"));
+        List<JsonNode> apiRows = currentApiRows();
+        if (apiRows != null) {
+            List<ComplianceRow> fromApi = new ArrayList<ComplianceRow>();
+            for (JsonNode row : apiRows) {
+                ComplianceRow cr = GridApiCapture.toComplianceRow(row);
+                if (cr != null) fromApi.add(cr);
+            }
+            if (sampleDomCrossCheck()) {
+                List<String> apiNames = new ArrayList<>();
+                List<String> domNames = new ArrayList<>();
+                for (ComplianceRow cr : fromApi) apiNames.add(cr.getName());
+                for (ComplianceRow cr : readCurrentPageRowsFromDom()) domNames.add(cr.getName());
+                if (!apiNames.equals(domNames)) {
+                    logger.warn("⚠️ Grid API / DOM row mismatch, using the DOM: api={} dom={}", apiNames, domNames);
+                    return readCurrentPageRowsFromDom();
+                }
+            }
+            logger.info("📄 readCurrentPageRows(): collected {} row(s) on this page from the grid API.", Integer.valueOf(fromApi.size()));
+            return fromApi;
         }
+        return readCurrentPageRowsFromDom();
+    }
+
+    private List<ComplianceRow> readCurrentPageRowsFromDom() {
+        List<ComplianceRow> out = new ArrayList<ComplianceRow>();
 
-        if (rows == null || rows.isEmpty()) {
+        List<GridRow> rows = complianceGrid.read();
+        if (rows.isEmpty()) {
             logger.warn("⚠️ No compliance rows found on current page.");
             return out;
         }
 
-        for (WebElement row : rows) {
-            if (row == null) continue;
-            try {
-                List<WebElement> cells = row.findElements(By.tagName("td"));
-                if (cells == null || cells.isEmpty()) continue;
-
-                // TODO: adjust these indexes based on your actual table:
-                // here: col0 = Name, col2 = Due Date, col3 = Office (example)
-                int nameIdx = 0;
-                int dueIdx  = 2;
-                int officeIdx = 3;
-
-                String name = "";
-                String office = "";
-                String dueDate = "";
-
-                if (cells.size() > nameIdx) {
-                    WebElement nameCell = cells.get(nameIdx);
-                    // try to get any <p>/<span>/<a> text inside
-                    List<WebElement> nameInner = nameCell.findElements(
-                            By.xpath(".//*[self::p or self::span or self::a]")
-                    );
-                    if (nameInner != null && !nameInner.isEmpty()) {
-                        name = nameInner.get(0).getText();
-                    } else {
-                        name = nameCell.getText();
-                    }
-                }
-
-                if (cells.size() > officeIdx) {
-                    office = cells.get(officeIdx).getText();
-                }
-
-                if (cells.size() > dueIdx) {
-                    dueDate = cells.get(dueIdx).getText();
-                }
+        for (GridRow row : rows) {
+            ComplianceRow cr = toComplianceRow(row);
+            // Only add if there's at least a name
+            if (cr != null) out.add(cr);
+        }
 
-                if (name == null) name = "";
-                if (office == null) office = "";
-                if (dueDate == null) dueDate = "";
-
-                name = name.trim();
-                office = office.trim();
-                dueDate = dueDate.trim();
-
-                // Only add if there's at least a name
-                if (!name.isEmpty()) {
-                    ComplianceRow cr = new ComplianceRow();
-                    cr.setName(name);
-                    cr.setOffice(office);
-                    cr.setDueDate(dueDate);
-                    out.add(cr);
-                }
+        logger.info("📄 readCurrentPageRows(): collected {} row(s) on this page.", Integer.valueOf(out.size()));
+        return out;
+    }
 
-            } catch (Exception e) {
-                logger.warn("⚠️ Error while reading row on current page: {}", e.getMessage());
+    /**
+     * Row objects of the grid response that loaded the current page (grid.api.enabled), or null → callers read
+     * the DOM. Only a response newer than {@link #apiSeqWatermark} counts: a page shown without a new request
+     * (client-side paging, cache) falls back to the DOM, as does a payload whose row count differs from the
+     * rendered rows (different request). A re-read of the same page reuses the rows of the response it already
+     * consumed (no second wait) until {@link #markApiNavigation()} or a newer response invalidates them.
+     */
+    private List<JsonNode> currentApiRows() {
+        if (!GridApiCapture.isTracked(driver)) return null;
+        List<JsonNode> rows;
+        if (apiRowsSeq >= 0 && apiRowsSeq == apiSeqWatermark && GridApiCapture.lastSeq(driver) == apiRowsSeq) {
+            rows = apiRowsCache;
+        } else {
+            GridApiCapture.Response r = GridApiCapture.awaitNext(driver, apiSeqWatermark, GridApiCapture.awaitTimeout());
+            if (r == null) {
+                logger.debug("No grid API response since the last navigation (seq>{}); reading the DOM.", apiSeqWatermark);
+                return null;
             }
+            apiSeqWatermark = r.seq;
+            rows = GridApiCapture.rows(GridApiCapture.body(driver, r));
+            apiRowsSeq = r.seq;
+            apiRowsCache = rows;
         }
+        if (rows == null) return null;
+        Object rendered = ((JavascriptExecutor) driver).executeScript(
+                "return document.querySelectorAll(arguments[0]).length;", TABLE_ROWS_CSS);
+        if (!(rendered instanceof Number) || ((Number) rendered).intValue() != rows.size()) {
+            logger.debug("Grid API payload has {} row(s), grid renders {}; reading the DOM.", rows.size(), rendered);
+            return null;
+        }
+        return rows;
+    }
 
-        logger.info("📄 readCurrentPageRows(): collected {} row(s) on this page.", Integer.valueOf(out.size()));
-        return out;
+    /** Call before anything that changes the grid page: responses captured so far belong to the old page. */
+    private void markApiNavigation() {
+        if (GridApiCapture.isTracked(driver)) apiSeqWatermark = Math.max(apiSeqWatermark, GridApiCapture.lastSeq(driver));
+        apiRowsSeq = -1;
+        apiRowsCache = null;
+    }
+
+    /** True for every API_DOM_SAMPLE_EVERY-th API read (the first included): cross-check it against the DOM. */
+    private boolean sampleDomCrossCheck() {
+        return apiReads++ % API_DOM_SAMPLE_EVERY == 0;
+    }
+
+    /** Header-driven reader for the compliances grid (one script per read, columns cached per page load). */
+    public GridReader complianceGrid() {
+        return complianceGrid;
+    }
+
+    /** Maps a grid row to ComplianceRow by column name; null when the row has no name. */
+    public static ComplianceRow toComplianceRow(GridRow row) {
+        GridSnapshot.Cell nameCell = row == null ? null : row.cell("name");
+        if (nameCell == null) return null;
+        String name = nameCell.lead().trim();
+        if (name.isEmpty()) return null;
+        ComplianceRow cr = new ComplianceRow();
+        cr.setName(name);
+        cr.setOffice(row.get("office"));
+        cr.setDueDate(row.get("dueDate"));
+        return cr;
     }
 
 
@@ -5114,6 +5160,10 @@ public class CompliancePage extends BasePage {
      *  - Loop over pages
      *  - Use findNextButton() + clickNextAndWaitForChange()
      *  - Optional pageShotCb + timingCb callbacks
+     * With grid.harvest.workers > 1 the page range is split across that many browsers (see {@link PageFanOut})
+     * unless pageShotCb needs the pages in this browser (it has no {@code pageShotName}); per-page screenshots
+     * named by {@code pageShotName} are then taken by whichever browser shows the page. timingCb also gets
+     * onWorkerTiming per browser.
      *
      * @param displayedTotal UI-displayed total (e.g. All tab count). Use 0 if unknown.
      * @param pageShotCb optional callback for per-page screenshots (may be null).
@@ -5142,50 +5192,104 @@ public class CompliancePage extends BasePage {
             logger.warn("⚠️ Could not ensure first page before collection: {}", t.getMessage());
         }
 
+        // Fan out across browsers when configured (an onPage-only callback needs the pages in this browser → stay sequential)
+        if ((pageShotCb == null || pageShotCb.pageShotName(1) != null) && PageFanOut.workers() > 1) {
+            int lastPage = pager.lastPage();
+            int k = PageFanOut.workersFor(lastPage);
+            if (k > 1) {
+                try {
+                    return fetchAllRowsFanOut(lastPage, k, pageShotCb, timingCb);
+                } catch (Exception e) {
+                    logger.warn("⚠️ Parallel harvest failed ({}); collecting sequentially.", e.toString());
+                    goToFirstPage();
+                }
+            }
+        }
+
         int pageNumber = 1;
         int totalCollected = 0;
 
-        while (true) {
-            // Read current page rows
-            List<ComplianceRow> pageRows = readCurrentPageRows();
-            out.put(pageNumber, pageRows);
+        // Resume a previous attempt's walk (grid.checkpoint.enabled) once its last page is verified unchanged
+        HarvestCheckpoint<ComplianceRow> checkpoint =
+                HarvestCheckpoint.openIfEnabled("fetchAllRowsAcrossPages", String.valueOf(displayedTotal), ComplianceRow.class);
+        boolean hadCheckpoint = checkpoint != null && !checkpoint.isEmpty();
+        if (hadCheckpoint && resumeCheckpointAt(checkpoint, checkpoint.lastPage())) {
+            out.putAll(checkpoint.pages());
+            for (List<ComplianceRow> rows : out.values()) collected.addAll(rows);
+            totalCollected = collected.size();
+            pageNumber = checkpoint.lastPage();
+            logger.info("⏩ Resuming row collection after page {} ({} row(s) restored).", pageNumber, totalCollected);
+
+            WebElement nextBtn = findNextButton();
+            if (nextBtn == null || !clickNextAndWaitForChange(nextBtn, timingCb, pageNumber)) {
+                logger.info("ℹ️ No page after checkpointed page {}; collection complete.", pageNumber);
+                checkpoint.complete();
+                return out;
+            }
+            pageNumber++;
+        } else if (hadCheckpoint) {
+            goToFirstPage();   // the failed resume attempt moved off page 1
+        }
+        boolean finished = false;
 
-            int pageCount = (pageRows == null) ? 0 : pageRows.size();
-            totalCollected += pageCount;
-            if (pageRows != null) collected.addAll(pageRows);
+        // Pipelined mode: page N's screenshot decoding / Allure write run off-thread while N+1 loads
+        PagePipeline pipeline = PagePipeline.openIfEnabled("fetchAllRowsAcrossPages");
+        try {
+            while (true) {
+                // Read current page rows
+                List<ComplianceRow> pageRows = readCurrentPageRows();
+                out.put(pageNumber, pageRows);
+                if (checkpoint != null && pageRows != null) checkpoint.save(pageNumber, pageRows, pageFingerprint());
 
-            logger.info("🧾 Page {}: collected {} row(s). Running total: {} / {}",
-                    pageNumber, pageCount, totalCollected, displayedTotal);
+                int pageCount = (pageRows == null) ? 0 : pageRows.size();
+                totalCollected += pageCount;
+                if (pageRows != null) collected.addAll(pageRows);
 
-            if (pageShotCb != null) {
-                try {
-                    pageShotCb.onPage(pageNumber);
-                } catch (Throwable ignore) {}
-            }
+                logger.info("🧾 Page {}: collected {} row(s). Running total: {} / {}",
+                        pageNumber, pageCount, totalCollected, displayedTotal);
 
-            // Stop conditions
-            if (pageRows == null || pageRows.isEmpty()) {
-                logger.info("ℹ️ No rows on page {}. Stopping pagination.", pageNumber);
-                break;
-            }
-            if (displayedTotal > 0 && totalCollected >= displayedTotal) {
-                logger.info("✅ Collected {} / {} rows; stopping pagination.", totalCollected, displayedTotal);
-                break;
-            }
+                if (pageShotCb != null) {
+                    try {
+                        pageShotCb.onPage(pageNumber);
+                        String shot = pageShotCb.pageShotName(pageNumber);
+                        if (shot != null) ScreenshotUtils.attachReadyScreenshotToAllure(driver, shot);
+                    } catch (Throwable ignore) {}
+                }
 
-            WebElement nextBtn = findNextButton();  // your existing helper
-            if (nextBtn == null) {
-                logger.info("ℹ️ No Next button found. Finished at page {}.", pageNumber);
-                break;
-            }
+                // Stop conditions
+                if (pageRows == null || pageRows.isEmpty()) {
+                    logger.info("ℹ️ No rows on page {}. Stopping pagination.", pageNumber);
+                    finished = true;
+                    break;
+                }
+                if (displayedTotal > 0 && totalCollected >= displayedTotal) {
+                    logger.info("✅ Collected {} / {} rows; stopping pagination.", totalCollected, displayedTotal);
+                    finished = true;
+                    break;
+                }
 
-            boolean advanced = clickNextAndWaitForChange(nextBtn, timingCb, pageNumber);
-            if (!advanced) {
-                logger.info("ℹ️ Next click did not change page. Stopping at page {}.", pageNumber);
-                break;
+                WebElement nextBtn = findNextButton();  // your existing helper
+                if (nextBtn == null) {
+                    logger.info("ℹ️ No Next button found. Finished at page {}.", pageNumber);
+                    finished = true;
+                    break;
+                }
+
+                boolean advanced = clickNextAndWaitForChange(nextBtn, timingCb, pageNumber);
+                if (!advanced) {
+                    logger.info("ℹ️ Next click did not change page. Stopping at page {}.", pageNumber);
+                    break;
+                }
+
+                pageNumber++;
             }
+        } finally {
+            if (pipeline != null) pipeline.close();
+        }
 
-            pageNumber++;
+        if (checkpoint != null) {
+            if (finished) checkpoint.complete();
+            else logger.warn("💾 Row collection stopped early at page {}; checkpoint kept for a retry.", pageNumber);
         }
 
         logger.info("✅ Completed row collection. Total rows={} | Pages={}",
@@ -5204,6 +5308,172 @@ public class CompliancePage extends BasePage {
 
 
 
+    /**
+     * Lazy iterator over the compliance rows of ALL pages, starting from the first page. A page is only
+     * read (and the grid only paged) when the rows before it have been consumed, so
+     * {@code complianceRows().stream().anyMatch(...)} stops paging at the first match and holds one page.
+     */
+    public PagedRows<ComplianceRow> complianceRows() {
+        if (getCurrentPageNumberSafe() > 1) goToFirstPage();
+        try {
+            waitFirstPageStatusReady(Duration.ofMillis(ReusableCommonMethods.NAV_FAIL_MS));
+        } catch (Throwable ignore) {}
+
+        return new PagedRows<>(new PagedRows.PageSource<ComplianceRow>() {
+            @Override
+            public List<ComplianceRow> readPage() {
+                return readCurrentPageRows();
+            }
+
+            @Override
+            public boolean advance(int fromPage) {
+                WebElement next = findNextButton();
+                return next != null && clickNextAndWaitForChange(next, null, fromPage);
+            }
+        });
+    }
+
+    /** Stream view of {@link #complianceRows()}. */
+    public Stream<ComplianceRow> streamComplianceRows() {
+        return complianceRows().stream();
+    }
+
+    /**
+     * First row across all pages whose name matches {@code name} canonically (equal or containing either way),
+     * paging only as far as needed.
+     */
+    public Optional<ComplianceRow> findComplianceRowAcrossPages(String name) {
+        return findComplianceRowAcrossPages(name, false);
+    }
+
+    /**
+     * Like {@link #findComplianceRowAcrossPages(String)}; with {@code exact} only canonical equality counts, so a
+     * short name cannot match a longer row name that contains it.
+     */
+    public Optional<ComplianceRow> findComplianceRowAcrossPages(String name, boolean exact) {
+        String expected = canonicalComplianceName(name);
+        PagedRows<ComplianceRow> rows = complianceRows();
+        while (rows.hasNext()) {
+            ComplianceRow cr = rows.next();
+            String canon = canonicalComplianceName(cr.getName() == null ? "" : cr.getName().trim());
+            if (!canon.isEmpty() && (canon.equals(expected)
+                    || (!exact && (canon.contains(expected) || expected.contains(canon))))) {
+                logger.info("🔎 '{}' found on page {} at index {}.", name, rows.page(), rows.index() + 1);
+                return Optional.of(cr);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads pages 1..lastPage with {@code k} browsers (see {@link PageFanOut}). Each browser jumps to the
+     * start of its range and walks it with Next; the last range keeps going while Next is enabled, in case
+     * the paginator did not show the real last page.
+     * <p>
+     * Tab, filter and search state are not carried by the URL, so a helper browser must show the same list:
+     * same page count and the same page 1 (fingerprint taken here before fanning out), else its range is
+     * re-read by this browser. Screenshots named by {@code pageShotCb} are captured by the browser showing
+     * the page and attached here afterwards, in page order.
+     */
+    private Map<Integer, List<ComplianceRow>> fetchAllRowsFanOut(int lastPage, int k, PageNavigationCallback pageShotCb,
+                                                                 PageNavigationCallback timingCb) throws Exception {
+        final String firstPageFp = pageFingerprint();   // this browser is on page 1 here
+        final Map<Integer, byte[]> shots = new ConcurrentHashMap<>();
+        final PageNavigationCallback serialized = timingCb == null ? null : new PageNavigationCallback() {
+            @Override
+            public void onTiming(int fromPage, int toPage, long elapsedMs) {
+                synchronized (timingCb) { timingCb.onTiming(fromPage, toPage, elapsedMs); }
+            }
+
+            @Override
+            public void onWorkerTiming(int worker, int fromPage, int toPage, long elapsedMs) {
+                synchronized (timingCb) { timingCb.onWorkerTiming(worker, fromPage, toPage, elapsedMs); }
+            }
+        };
+
+        Map<Integer, List<ComplianceRow>> out = PageFanOut.harvest(driver, lastPage, k, (d, primary, from, to, worker) -> {
+            CompliancePage page = primary ? this : new CompliancePage(d);
+            if (!primary) page.verifySameList(lastPage, firstPageFp);
+            return page.readPageRange(from, to, to >= lastPage, serialized, worker, pageShotCb, shots);
+        });
+
+        if (pageShotCb != null) {
+            for (Integer p : out.keySet()) {
+                try {
+                    String shot = pageShotCb.pageShotName(p.intValue());
+                    if (shot != null && shots.containsKey(p)) ScreenshotUtils.attachScreenshotToAllure(shot, shots.get(p));
+                    pageShotCb.onPage(p.intValue());
+                } catch (Throwable ignore) {}
+            }
+        }
+
+        int total = 0;
+        for (List<ComplianceRow> rows : out.values()) total += rows.size();
+        logger.info("✅ Completed parallel row collection. Total rows={} | Pages={} | Browsers={}",
+                Integer.valueOf(total), Integer.valueOf(out.size()), Integer.valueOf(k));
+        return out;
+    }
+
+    /**
+     * Checks that this (helper) browser shows the scenario browser's list: {@code lastPage} pages and the same
+     * page 1. Tab/filter/search state is not in the URL, so a fresh session may land on a different list.
+     */
+    private void verifySameList(int lastPage, String firstPageFp) {
+        waitFirstPageStatusReady(Duration.ofMillis(ReusableCommonMethods.NAV_FAIL_MS));
+        int seen = getLastPageNumber();
+        if (seen != lastPage) {
+            throw new IllegalStateException("worker sees " + seen + " page(s), scenario browser " + lastPage);
+        }
+        if (getCurrentPageNumberSafe() != 1 && !goToPage(1)) {
+            throw new IllegalStateException("worker could not open page 1 to compare the list");
+        }
+        if (!pageFingerprint().equals(firstPageFp)) {
+            throw new IllegalStateException("worker's page 1 differs from the scenario browser's (other tab/filter/search)");
+        }
+    }
+
+    /**
+     * Reads pages {@code from..to} of this browser's grid (past {@code to} while Next is enabled if {@code openEnded});
+     * pages {@code pageShotCb} names a screenshot for are captured into {@code shots}.
+     */
+    private Map<Integer, List<ComplianceRow>> readPageRange(int from, int to, boolean openEnded,
+                                                            PageNavigationCallback timingCb, int worker,
+                                                            PageNavigationCallback pageShotCb, Map<Integer, byte[]> shots) {
+        long t0 = System.currentTimeMillis();
+        if (getCurrentPageNumberSafe() != from && !goToPage(from)) {
+            throw new IllegalStateException("could not reach page " + from);
+        }
+
+        Map<Integer, List<ComplianceRow>> out = new LinkedHashMap<>();
+        int pageNumber = from;
+        while (true) {
+            List<ComplianceRow> rows = readCurrentPageRows();
+            out.put(pageNumber, rows);
+            logger.info("🧾 [worker {}] Page {}: collected {} row(s).", worker, pageNumber, rows.size());
+            if (pageShotCb != null && pageShotCb.pageShotName(pageNumber) != null) {
+                try {
+                    shots.put(pageNumber, ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+                } catch (Exception e) {
+                    logger.warn("⚠️ [worker {}] Screenshot of page {} failed: {}", worker, pageNumber, e.toString());
+                }
+            }
+            if (rows.isEmpty() || (pageNumber >= to && !openEnded)) break;
+
+            WebElement nextBtn = findNextButton();
+            if (nextBtn == null || !clickNextAndWaitForChange(nextBtn, timingCb, pageNumber)) break;
+            pageNumber++;
+        }
+
+        long elapsed = System.currentTimeMillis() - t0;
+        logger.info("⏱ [worker {}] Pages {}-{} read in {} ms.", worker, from, pageNumber, elapsed);
+        if (timingCb != null) {
+            try {
+                timingCb.onWorkerTiming(worker, from, pageNumber, elapsed);
+            } catch (Throwable ignore) {}
+        }
+        return out;
+    }
+
     // In CompliancePage
 
     private WebElement findNextButtonLoose() {
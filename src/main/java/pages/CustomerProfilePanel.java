@@ -11,6 +11,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import utils.TrackedWait;
 
 /**
  * @author Sherwin
@@ -611,7 +612,7 @@ public class CustomerProfilePanel extends BasePage {
         WebElement element = resolveMenuElement(label);
         logger.info("clickMenu: attempting to click '{}' (timeout={}s)", label, timeout.getSeconds());
 
-        WebDriverWait w = new WebDriverWait(driver, timeout);
+        WebDriverWait w = new TrackedWait(driver, timeout);
 
         // We'll allow one stale retry (re-resolve once)
         int attempts = 0;
@@ -753,7 +754,7 @@ public class CustomerProfilePanel extends BasePage {
         logger.info("waitForDestinationReady: waiting for '{}' (timeout={}s)", label, timeout.getSeconds());
 
         try {
-            WebDriverWait w = new WebDriverWait(driver, timeout);
+            WebDriverWait w = new TrackedWait(driver, timeout);
 
             switch (key) {
                 case "my business":
@@ -11,7 +11,12 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.GridReader;
+import utils.GridRow;
+import utils.GridSnapshot;
+import utils.Pacer;
 import utils.TestDataGenerator;
+import utils.TrackedWait;
 
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
@@ -151,6 +156,11 @@ public class DocumentPage extends BasePage {
 
     private static final By NO_RESULTS = By.xpath("//*[normalize-space()='No results found']");
 
+    // Documents table under #table-container; the file name column is found by header text
+    private final GridReader documentsGrid = new GridReader(driver, "Documents",
+            "#table-container tbody tr", "div[id^='table-container'] tbody tr")
+            .column("name", 0, "Name", "File name", "Document name", "Document", "Title");
+
 
     private static final By PREVIEW_MODAL = By.xpath("//div[contains(@class,'styles_modal_') or contains(@class,'styles_container_')]" + "[.//p[contains(translate(normalize-space(.),'pdf','PDF'),'.PDF')]]");
 
@@ -235,7 +245,7 @@ public class DocumentPage extends BasePage {
 
         logger.info("⏳ Waiting for Documents page confirmation (timeout={}s)...", timeout.toSeconds());
 
-        WebDriverWait shortWait = new WebDriverWait(driver, timeout);
+        WebDriverWait shortWait = new TrackedWait(driver, timeout);
         shortWait.ignoring(StaleElementReferenceException.class);
 
         try {
@@ -908,7 +918,7 @@ public class DocumentPage extends BasePage {
 
     private void waitForSectionChange() {
         try {
-            Thread.sleep(1000);
+            Pacer.pause("DocumentPage.waitForSectionChange", 1000);
         } catch (InterruptedException ignored) {
         }
     }
@@ -920,7 +930,7 @@ public class DocumentPage extends BasePage {
     public boolean waitForDocumentsLanding(Duration timeout) {
         driver.switchTo().defaultContent();  // important if previous page used iframes
 
-        WebDriverWait w = new WebDriverWait(driver, timeout);
+        WebDriverWait w = new TrackedWait(driver, timeout);
         try {
             // either URL matches or the hint is present in the new DOM
             w.until(ExpectedConditions.or(ExpectedConditions.urlMatches(".*/documents/legal-documents.*"), ExpectedConditions.presenceOfElementLocated(documentsHintBy)));
@@ -939,7 +949,7 @@ public class DocumentPage extends BasePage {
      */
     public String getDocumentsHintTextSafe() {
         try {
-            WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait w = new TrackedWait(driver, Duration.ofSeconds(5));
             WebElement hint = w.until(ExpectedConditions.visibilityOfElementLocated(documentsHintBy));
             return hint.getText().trim();
         } catch (Exception ignore) {
@@ -959,7 +969,7 @@ public class DocumentPage extends BasePage {
 
     // 3) a robust wait that succeeds when *either* UI has something to read
     private void waitForResultsEitherUI(Duration timeout) {
-        new WebDriverWait(driver, timeout).until(d -> {
+        new TrackedWait(driver, timeout).until(d -> {
             boolean hasTable = !d.findElements(SR_TABLE_FIRST_COL).isEmpty();
             boolean hasList = !d.findElements(DEFAULT_LIST_ROWS).isEmpty();
             boolean noRes = !d.findElements(NO_RESULTS).isEmpty();
@@ -994,6 +1004,18 @@ public class DocumentPage extends BasePage {
         }
 
         while (System.currentTimeMillis() < end) {
+            // table rows: one snapshot per pass, all name sources of the name cell
+            for (GridRow row : documentsGrid.read()) {
+                GridSnapshot.Cell c = row.cell("name");
+                if (c == null) continue;
+                for (String s : new String[]{c.text, c.title, c.href, c.download, c.data.get("data-filename")}) {
+                    if (s == null || s.isBlank()) continue;
+                    String base = canonicalBase(s);
+                    logger.info("Candidate raw='{}' | base='{}'", s, base);
+                    if (base.contains(expectedBase)) return true;
+                }
+            }
+
             // try inside table if present, else whole page
             List<WebElement> cells = (table != null ? table.findElements(FILE_NAME_CELLS_UNION) : driver.findElements(FILE_NAME_CELLS_UNION));
 
@@ -1023,7 +1045,7 @@ public class DocumentPage extends BasePage {
             }
 
             try {
-                Thread.sleep(250);
+                Pacer.poll("DocumentPage.isGeneratedDocumentPresentUsingTitle", 250);
             } catch (InterruptedException ignored) {
             }
         }
@@ -1089,7 +1111,7 @@ public class DocumentPage extends BasePage {
 
     // Open first matching result (by base name) from current results and wait for preview modal.
     public boolean openFirstMatchingSearchResultAndWait(String expectedBase, Duration timeout) {
-        WebDriverWait w = new WebDriverWait(driver, timeout);
+        WebDriverWait w = new TrackedWait(driver, timeout);
         JavascriptExecutor js = (JavascriptExecutor) driver;
 
         List<WebElement> cells = driver.findElements(FILE_NAME_CELLS_UNION);
@@ -1153,7 +1175,7 @@ public class DocumentPage extends BasePage {
             WebElement modal = driver.findElement(PREVIEW_MODAL);
             // close by pressing ESC (many Tailwind modals close on ESC)
             modal.sendKeys(Keys.ESCAPE);
-            new WebDriverWait(driver, Duration.ofSeconds(3)).until(ExpectedConditions.invisibilityOfElementLocated(PREVIEW_MODAL));
+            new TrackedWait(driver, Duration.ofSeconds(3)).until(ExpectedConditions.invisibilityOfElementLocated(PREVIEW_MODAL));
         } catch (Throwable ignore) {
         }
     }
@@ -1178,7 +1200,7 @@ public class DocumentPage extends BasePage {
             } catch (Throwable ignore) {
             }
             try {
-                Thread.sleep(400);
+                Pacer.poll("DocumentPage.waitForPdfDownloaded", 400);
             } catch (InterruptedException ignored) {
             }
         }
@@ -1207,10 +1229,29 @@ public class DocumentPage extends BasePage {
     public boolean clickFirstMatchingRowAndWaitDownloadPrefix(String expectedBasePrefix, Path downloadDir, Duration timeout) {
         final String expected = canonicalBase(expectedBasePrefix);
 
-        // Collect candidate elements that represent document rows/links.
-        // Cover both table and card/list UIs.
+        // Table UI: match on the snapshot, look up only the row that gets clicked
+        for (GridRow row : documentsGrid.read()) {
+            String fileName = fileNameOf(row.cell("name"));
+            String base = canonicalBase(fileName);
+            logger.info("Row filename raw='{}' | base='{}'", fileName, base);
+            if (fileName.isBlank() || !base.startsWith(expected)) continue;
+
+            WebElement el = documentsGrid.element(row);
+            try {
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", el);
+            } catch (Exception ignore) {
+            }
+            try {
+                commonMethods.safeClick(driver, el, "Document row: " + fileName, 10);
+            } catch (Throwable t) {
+                logger.warn("Normal click failed, retrying via JS: {}", t.getMessage());
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+            }
+            return waitForPdfDownloaded(downloadDir, expected, timeout);
+        }
+
+        // Card/list UI: collect candidate elements that represent document links.
         List<WebElement> candidates = new ArrayList<>();
-        candidates.addAll(driver.findElements(By.xpath("//*[@id='table-container']//tbody/tr[contains(@class,'cursor-pointer')]")));
         candidates.addAll(driver.findElements(By.xpath(
                 // card/list fallback: items under the documents section that contain '.pdf'
                 "//*[@id='table-container']//*[contains(translate(normalize-space(.), 'PDF', 'pdf'), '.pdf')]")));
@@ -1290,6 +1331,18 @@ public class DocumentPage extends BasePage {
         }
     }
 
+    /** Full PDF file name from a snapshot cell: download/data attributes, link, title, then the cell text. */
+    private String fileNameOf(GridSnapshot.Cell cell) {
+        if (cell == null) return "";
+        String fromAttr = firstNonEmpty(cell.download, cell.data.get("data-filename"), lastPathSegment(cell.href), cell.title);
+        if (fromAttr != null && fromAttr.toLowerCase().endsWith(".pdf")) return fromAttr;
+        if (cell.text.toLowerCase().contains(".pdf")) {
+            String best = extractPdfToken(cell.text);
+            if (!best.isBlank()) return best;
+        }
+        return cell.text;
+    }
+
     private String firstNonEmpty(String... vals) {
         if (vals == null) return null;
         for (String v : vals) {
@@ -1452,7 +1505,7 @@ public class DocumentPage extends BasePage {
     public boolean openAddNewFolderModal() {
         closeChatBotIfPresent();
         final By addNewFolderOptionBy = By.xpath("//p[normalize-space()='Add new folder']");
-        WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(2));
+        WebDriverWait shortWait = new TrackedWait(driver, Duration.ofSeconds(2));
 
         int attempts = 0;
         while (attempts < 2) {
@@ -1525,12 +1578,12 @@ public class DocumentPage extends BasePage {
             } catch (TimeoutException te) {
                 logger.warn("⌛ Modal not visible after attempt {} ({}).", attempts, te.getMessage());
                 try {
-                    Thread.sleep(600L);
+                    Pacer.pause("DocumentPage.openAddNewFolderModal", 600L);
                 } catch (InterruptedException ignored) {}
             } catch (Exception e) {
                 logger.error("❌ Unexpected error while opening modal (attempt {}).", attempts, e);
                 try {
-                    Thread.sleep(600L);
+                    Pacer.pause("DocumentPage.openAddNewFolderModal", 600L);
                 } catch (InterruptedException ignored) {}
             }
         }
@@ -1600,7 +1653,7 @@ public void openUploadFilesModal() {
     closeChatBotIfPresent();
 
     final By uploadFilesOptionBy = By.xpath("//p[normalize-space()='Upload files']");
-    WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(2));
+    WebDriverWait shortWait = new TrackedWait(driver, Duration.ofSeconds(2));
 
     int attempts = 0;
     while (attempts < 2) {
@@ -1669,12 +1722,12 @@ public void openUploadFilesModal() {
             logger.warn("⌛ Upload dropzone not visible after attempt {} ({}).",
                     attempts, te.getMessage());
             try {
-                Thread.sleep(600L);
+                Pacer.pause("DocumentPage.openUploadFilesModal", 600L);
             } catch (InterruptedException ignored) {}
         } catch (Exception e) {
             logger.error("❌ Unexpected error while opening upload dropzone (attempt {}).", attempts, e);
             try {
-                Thread.sleep(600L);
+                Pacer.pause("DocumentPage.openUploadFilesModal", 600L);
             } catch (InterruptedException ignored) {}
         }
     }
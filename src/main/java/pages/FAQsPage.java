@@ -8,6 +8,7 @@ import org.openqa.selenium.support.FindBy;
 
 import java.time.Duration;
 import java.util.*;
+import utils.Pacer;
 
 /**
  * @author Sherwin
@@ -735,7 +736,7 @@ public class FAQsPage extends BasePage {
             } catch (Exception ignore) {
             }
             try {
-                Thread.sleep(150);
+                Pacer.poll("FAQsPage.waitForTopicHeader", 150);
             } catch (InterruptedException ignored) {
             }
         }
@@ -6,8 +6,10 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import utils.Pacer;
 import utils.ReusableCommonMethods;
 import utils.TestDataGenerator;
+import utils.WaitTelemetry;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -313,17 +315,18 @@ public class HomePage extends BasePage {
             }
         }
         try {
-            Thread.sleep(1500);
+            Pacer.pause("HomePage.clickLeftMenu", 1500);
         } catch (InterruptedException ignored) {
         }
     }
 
 
     public boolean waitForMenuPageToLoad(String menuName, Duration timeout) {
-        try {
+        // each menu page loads differently: keep their wait histories apart
+        try (WaitTelemetry.Scope label = WaitTelemetry.label(menuName.trim().toLowerCase())) {
             // small pause after clicking menu (optional, your existing code)
             try {
-                Thread.sleep(1000);
+                Pacer.pause("HomePage.waitForMenuPageToLoad", 1000);
             } catch (InterruptedException ignored) {
             }
 
@@ -1062,7 +1065,7 @@ public class HomePage extends BasePage {
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", dropdown);
             }
 
-            Thread.sleep(3000); // allow menu to render
+            Pacer.pause("HomePage.isAddOrgButtonUnderDropdownVisible", 3000); // allow menu to render
 
             logger.info("🌍 Searching globally for '+ Add Organization'...");
 
@@ -1458,7 +1461,7 @@ public class HomePage extends BasePage {
             }
             try {
                 ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center', inline:'center'});", button);
-                Thread.sleep(120);
+                Pacer.pause("HomePage.clickGetStarted", 120);
             } catch (Exception ignored) {
             }
 
@@ -1511,7 +1514,7 @@ public class HomePage extends BasePage {
         long startNs = (lastGetStartedClickNanos > 0) ? lastGetStartedClickNanos : System.nanoTime();
 
         try {
-            Thread.sleep(2000);
+            Pacer.pause("HomePage.getMandatoryComplianceCount", 2000);
             WebElement countElement = wait.waitForVisibilityCustomTimeOut(countLocator, Duration.ofSeconds(60));
             long endNs = System.nanoTime();
 
@@ -1575,7 +1578,7 @@ public class HomePage extends BasePage {
 
         try {
             WebElement gotItButton = wait.waitForVisibilityCustomTimeOut(gotItLocator, Duration.ofSeconds(40));
-            Thread.sleep(500);
+            Pacer.pause("HomePage.clickGotItButton", 500);
             gotItButton.click();
         } catch (Exception e) {
             throw new RuntimeException("Failed to click 'Got it' button.", e);
@@ -1604,7 +1607,7 @@ public class HomePage extends BasePage {
         do {
             els = driver.findElements(by);
             if (els != null && !els.isEmpty()) return els;
-            try { Thread.sleep(100); } catch (InterruptedException ignored) {}
+            try { Pacer.poll("HomePage.waitForPresent", 100); } catch (InterruptedException ignored) {}
         } while (System.currentTimeMillis() < end);
         return Collections.emptyList();
     }
@@ -1613,7 +1616,7 @@ public class HomePage extends BasePage {
         try {
             ((JavascriptExecutor) driver).executeScript(
                     "arguments[0].scrollIntoView({block:'center'});", el);
-            try { Thread.sleep(120); } catch (InterruptedException ignored) {}
+            try { Pacer.pause("HomePage.isActuallyVisible", 120); } catch (InterruptedException ignored) {}
             Rectangle r = el.getRect();
             return el.isDisplayed() && r != null && r.getHeight() > 0 && r.getWidth() > 0;
         } catch (StaleElementReferenceException e) {
@@ -2190,7 +2193,7 @@ public class HomePage extends BasePage {
                 while (true) {
                     js.executeScript("arguments[0].scrollTop = arguments[0].scrollHeight;", scrollContainer);
                     try {
-                        Thread.sleep(800);
+                        Pacer.pause("HomePage.getAllDueDatesSmart", 800);
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
                     }
@@ -2298,7 +2301,7 @@ public class HomePage extends BasePage {
             }
 
             try {
-                Thread.sleep(pollMs);
+                Pacer.poll("HomePage.waitForMonthYearToApply", pollMs);
             } catch (InterruptedException ie) {
                 Thread.currentThread().interrupt();
                 break;
@@ -8,6 +8,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
+import utils.Pacer;
 
 /**
  * LoginPage.java
@@ -89,8 +90,8 @@ public class LoginPage extends BasePage {
     private WebElement sideNav;
 
     // Presence marker
-    @FindBy(xpath = "//p[normalize-space()='Enjoy exclusive festive savings on services today']")
-    private WebElement festiveSaleBannerText;       // list -> safe "is present?" check
+    private static final By FESTIVE_SALE_BANNER_BY =
+            By.xpath("//p[normalize-space()='Enjoy exclusive festive savings on services today']");
 
     // Explore Service Hub button inside the festive popup
     @FindBy(xpath = "//button[.//p[normalize-space()='Explore Service Hub']]")
@@ -101,8 +102,8 @@ public class LoginPage extends BasePage {
     private WebElement serviceHubText;
 
     // --- Page Object fields (no list) ---
-    @FindBy(xpath = "//p[normalize-space()='Action Required: Profile Incomplete']")
-    private WebElement profileIncompleteBannerText;
+    private static final By PROFILE_INCOMPLETE_BANNER_BY =
+            By.xpath("//p[normalize-space()='Action Required: Profile Incomplete']");
 
 
     private final By serviceHubH1By = By.xpath("//h1[normalize-space()='Service Hub']");
@@ -360,7 +361,7 @@ public class LoginPage extends BasePage {
     public boolean isLoginSubtitleCorrect() {
         try {
             String expected = "Log into your account";
-            Thread.sleep(2000);
+            Pacer.pause("LoginPage.isLoginSubtitleCorrect", 2000);
             WebElement subtitleElement = wait.waitForVisibility(loginSubtitleText);
             String actual = subtitleElement.getText().trim();
             if (!expected.equals(actual)) {
@@ -466,10 +467,10 @@ public class LoginPage extends BasePage {
             // Try exact first; if not present quickly, fall back to contains
             try {
                 emailP = wait.waitForPresence(emailExact);
-                Thread.sleep(5000);
+                Pacer.pause("LoginPage.selectEmailInChooser", 5000);
             } catch (Exception ignored) {
                 emailP = wait.waitForPresence(emailContains);
-                Thread.sleep(5000);
+                Pacer.pause("LoginPage.selectEmailInChooser", 5000);
             }
 
             // Click with your robust helper
@@ -504,10 +505,9 @@ public class LoginPage extends BasePage {
      * <p>
      * Validations & behavior:
      * <ul>
-     *   <li>Null guard on the @FindBy field.</li>
-     *   <li>Waits for visibility and logs elapsed time.</li>
-     *   <li>Handles a single <i>stale</i> retry with a re-wait.</li>
-     *   <li>INFO on success, WARN on expected issues (timeout/missing/not displayed), ERROR on unexpected failures.</li>
+     *   <li>Bounded visibility probe ({@link utils.WaitUtils#optionalElementTimeout()}) and logs elapsed time.</li>
+     *   <li>Stale matches are re-resolved on the next poll.</li>
+     *   <li>INFO on success, WARN when not visible within the bound, ERROR on unexpected failures.</li>
      * </ul>
      *
      * @return {@code true} if the banner is visible; {@code false} otherwise.
@@ -516,46 +516,21 @@ public class LoginPage extends BasePage {
         final String ctx = "Profile Incomplete popup";
 
         try {
-            if (profileIncompleteBannerText == null) {
-                logger.error("{}: locator 'profileIncompleteBannerText' is null.", ctx);
-                return false;
-            }
-
-            logger.info("{}: waiting for banner to become visible…", ctx);
+            final Duration bound = wait.optionalElementTimeout();
+            logger.info("{}: probing for banner (up to {} ms)…", ctx, bound.toMillis());
             final long t0 = System.currentTimeMillis();
 
-            // Primary wait on the same @FindBy element
-            wait.waitForVisibility(profileIncompleteBannerText);
-
+            // bounded explicit probe: absent popups cost the bound, not a full visibility wait + implicit lookups
+            boolean displayed = wait.isVisible(PROFILE_INCOMPLETE_BANNER_BY, bound);
             long elapsed = System.currentTimeMillis() - t0;
 
-            boolean displayed;
-            boolean enabled;
-            try {
-                displayed = profileIncompleteBannerText.isDisplayed();
-                enabled = profileIncompleteBannerText.isEnabled();
-            } catch (StaleElementReferenceException sre) {
-                logger.warn("{}: banner went stale after initial wait; retrying visibility once.", ctx);
-                // One retry on staleness — PageFactory proxy should re-resolve it
-                wait.waitForVisibility(profileIncompleteBannerText);
-                displayed = profileIncompleteBannerText.isDisplayed();
-                enabled = profileIncompleteBannerText.isEnabled();
-            }
-
             if (displayed) {
-                logger.info("{}: present & visible ({} ms). Enabled={}", ctx, elapsed, enabled);
+                logger.info("{}: present & visible ({} ms).", ctx, elapsed);
                 return true;
-            } else {
-                logger.warn("{}: present but not displayed after {} ms. Enabled={}", ctx, elapsed, enabled);
-                return false;
             }
-
-        } catch (TimeoutException te) {
-            logger.warn("{}: not visible within wait timeout: {}", ctx, te.toString());
-            return false;
-        } catch (NoSuchElementException nse) {
-            logger.warn("{}: banner not present in DOM.", ctx);
+            logger.warn("{}: not visible within {} ms.", ctx, elapsed);
             return false;
+
         } catch (Exception e) {
             logger.error("{}: unexpected error while checking visibility: {}", ctx, e.toString(), e);
             return false;
@@ -681,10 +656,9 @@ public class LoginPage extends BasePage {
      * <p>
      * Behavior:
      * <ul>
-     *   <li>Null guard on the @FindBy element.</li>
-     *   <li>Waits for visibility and logs elapsed time.</li>
-     *   <li>Retries once on staleness.</li>
-     *   <li>INFO on success, WARN on expected issues (timeout/missing/not displayed), ERROR on unexpected failures.</li>
+     *   <li>Bounded visibility probe ({@link utils.WaitUtils#optionalElementTimeout()}) and logs elapsed time.</li>
+     *   <li>Stale matches are re-resolved on the next poll.</li>
+     *   <li>INFO on success, WARN when not visible within the bound, ERROR on unexpected failures.</li>
      * </ul>
      *
      * @return {@code true} if the festive popup heading is visible; {@code false} otherwise.
@@ -693,46 +667,21 @@ public class LoginPage extends BasePage {
         final String ctx = "Festive Sale popup";
 
         try {
-            if (festiveSaleBannerText == null) {
-                logger.error("{}: locator 'festiveSaleBannerText' is null.", ctx);
-                return false;
-            }
-
-            logger.info("{}: waiting for popup heading to become visible…", ctx);
+            final Duration bound = wait.optionalElementTimeout();
+            logger.info("{}: probing for popup heading (up to {} ms)…", ctx, bound.toMillis());
             final long t0 = System.currentTimeMillis();
 
-            // primary wait on the same @FindBy element
-            wait.waitForVisibility(festiveSaleBannerText);
-
-            final long elapsed = System.currentTimeMillis() - t0;
-
-            boolean displayed;
-            boolean enabled;
-            try {
-                displayed = festiveSaleBannerText.isDisplayed();
-                enabled = festiveSaleBannerText.isEnabled();
-            } catch (StaleElementReferenceException sre) {
-                logger.warn("{}: heading went stale after initial wait; retrying visibility once.", ctx);
-                // one retry on staleness; PageFactory proxy should re-resolve
-                wait.waitForVisibility(festiveSaleBannerText);
-                displayed = festiveSaleBannerText.isDisplayed();
-                enabled = festiveSaleBannerText.isEnabled();
-            }
+            // bounded explicit probe: absent popups cost the bound, not a full visibility wait + implicit lookups
+            boolean displayed = wait.isVisible(FESTIVE_SALE_BANNER_BY, bound);
+            long elapsed = System.currentTimeMillis() - t0;
 
             if (displayed) {
-                logger.info("{}: present & visible ({} ms). Enabled={}", ctx, elapsed, enabled);
+                logger.info("{}: present & visible ({} ms).", ctx, elapsed);
                 return true;
-            } else {
-                logger.warn("{}: present but not displayed after {} ms. Enabled={}", ctx, elapsed, enabled);
-                return false;
             }
-
-        } catch (TimeoutException te) {
-            logger.warn("{}: not visible within wait timeout: {}", ctx, te.toString());
-            return false;
-        } catch (NoSuchElementException nse) {
-            logger.warn("{}: popup heading not present in DOM.", ctx);
+            logger.warn("{}: not visible within {} ms.", ctx, elapsed);
             return false;
+
         } catch (Exception e) {
             logger.error("{}: unexpected error while checking visibility: {}", ctx, e.toString(), e);
             return false;
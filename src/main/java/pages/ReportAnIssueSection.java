@@ -4,13 +4,13 @@ package pages;
 import base.BasePage;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
+import utils.Pacer;
 import utils.TestDataGenerator;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
  * @author Sherwin
@@ -336,7 +336,7 @@ public class ReportAnIssueSection extends BasePage {
                     "arguments[0].scrollIntoView({block:'center', inline:'nearest'});", optionEl);
 
             // small stabilization
-            Thread.sleep(150);
+            Pacer.pause("ReportAnIssueSection.selectModuleByName", 150);
 
             // 4) Try normal click using Actions (best for React-select)
             try {
@@ -388,7 +388,7 @@ public class ReportAnIssueSection extends BasePage {
 
     private void smallPause() {
         try {
-            TimeUnit.MILLISECONDS.sleep(150);
+            Pacer.pause("ReportAnIssueSection.smallPause", 150);
         } catch (InterruptedException ignored) {
         }
     }
@@ -4,12 +4,18 @@ package pages;
 import base.BasePage;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
+import utils.GridReader;
+import utils.GridRow;
+import utils.GridSnapshot;
+import utils.Pacer;
 import utils.ReusableCommonMethods;
 import utils.ScenarioContext;
+import utils.WaitTelemetry;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * @author Sherwin
@@ -202,11 +208,12 @@ public class ReportsPage extends BasePage {
     public boolean waitForAllCategoryHeaders(Duration timeout) {
         logger.info("⏳ Waiting for all category headers to be visible (timeout {} ms)...", Long.valueOf(timeout.toMillis()));
         try {
-            wait.waitForVisibilityRefreshed(frequentlyUsedHeader, timeout);
-            wait.waitForVisibilityRefreshed(byRiskHeader, timeout);
-            wait.waitForVisibilityRefreshed(byStageHeader, timeout);
-            wait.waitForVisibilityRefreshed(byOrganizationHeader, timeout);
-            wait.waitForVisibilityRefreshed(byDepartmentHeader, timeout);
+            // one telemetry key per header: the first wait absorbs the load, the rest are near-instant
+            try (WaitTelemetry.Scope s = WaitTelemetry.label("frequentlyUsed")) { wait.waitForVisibilityRefreshed(frequentlyUsedHeader, timeout); }
+            try (WaitTelemetry.Scope s = WaitTelemetry.label("byRisk")) { wait.waitForVisibilityRefreshed(byRiskHeader, timeout); }
+            try (WaitTelemetry.Scope s = WaitTelemetry.label("byStage")) { wait.waitForVisibilityRefreshed(byStageHeader, timeout); }
+            try (WaitTelemetry.Scope s = WaitTelemetry.label("byOrganization")) { wait.waitForVisibilityRefreshed(byOrganizationHeader, timeout); }
+            try (WaitTelemetry.Scope s = WaitTelemetry.label("byDepartment")) { wait.waitForVisibilityRefreshed(byDepartmentHeader, timeout); }
 
             boolean allVisible = isDisplayedSafe(frequentlyUsedHeader) && isDisplayedSafe(byRiskHeader) && isDisplayedSafe(byStageHeader) && isDisplayedSafe(byOrganizationHeader) && isDisplayedSafe(byDepartmentHeader);
 
@@ -370,7 +377,7 @@ public class ReportsPage extends BasePage {
             } catch (Exception ignore) {
             }
             try {
-                Thread.sleep(120);
+                Pacer.poll("ReportsPage.waitForDetailsViewLoaded", 120);
             } catch (InterruptedException ignored) {
             }
         }
@@ -390,7 +397,7 @@ public class ReportsPage extends BasePage {
             long remaining = Math.max(0, deadline - System.currentTimeMillis());
             logger.debug("waitForDetailsViewLoaded(): header not ready yet; {} ms remaining", remaining);
             try {
-                Thread.sleep(150);
+                Pacer.poll("ReportsPage.waitForDetailsViewLoaded", 150);
             } catch (InterruptedException ignored) {
             }
         }
@@ -606,7 +613,7 @@ public class ReportsPage extends BasePage {
 
             // tiny settle time helps the next findElements() be stable
             try {
-                Thread.sleep(400);
+                Pacer.pause("ReportsPage.validateAllFrequentlyUsedItems", 400);
             } catch (InterruptedException ignored) {
             }
         }
@@ -734,14 +741,60 @@ public class ReportsPage extends BasePage {
 
     /* ================= Details page → results ================= */
 
+    // Results table on the details screen; columns are found by header text
+    private static final Pattern EMPTY_TABLE_TEXT =
+            Pattern.compile("^\\s*no\\s+(records|data|results|compliances?)\\b", Pattern.CASE_INSENSITIVE);
+    private final GridReader resultsGrid = new GridReader(driver, "Report results", "table tbody tr")
+            .column("name", 0, "Compliance", "Compliances", "Name")
+            .column("office", 1, "Office")
+            .column("dueDate", 3, "Due Date", "Due")
+            .column("status", -1, "Status");
+
+    /**
+     * Result rows of the results table (one script; empty for card/list layouts). Rows without text and the
+     * empty-table placeholder ("No records found" spanning the table) are not results.
+     */
+    public List<GridRow> readComplianceResults() {
+        List<GridRow> out = new ArrayList<>();
+        for (GridRow row : resultsGrid.read()) {
+            if (!isPlaceholderRow(row)) out.add(row);
+        }
+        return out;
+    }
+
+    /** True for rows without text and for the placeholder row (a single cell, or a "No records/data" message). */
+    private static boolean isPlaceholderRow(GridRow row) {
+        List<GridSnapshot.Cell> cells = row.raw().cells;
+        String text = null;
+        int withText = 0;
+        for (GridSnapshot.Cell c : cells) {
+            if (c.text.isEmpty()) continue;
+            withText++;
+            if (text == null) text = c.text;
+        }
+        if (withText == 0) return true;
+        if (cells.size() == 1) return true;   // one colspan cell across the table
+        return withText == 1 && EMPTY_TABLE_TEXT.matcher(text).find();
+    }
+
     /**
      * Returns true if any compliance “records” appear on the details screen.
-     * Tries table rows, list cards, or generic result rows. Defensive & tolerant.
+     * Tries table rows (via {@link #readComplianceResults()}), list cards, or generic result rows. Defensive & tolerant.
      */
     public boolean hasAnyComplianceResults() {
         try {
-            // Try common patterns (tweak/selectors as your UI evolves)
-            By[] candidates = new By[]{By.xpath("//table//tr[.//td or .//th][position()>1]"), By.xpath("//div[contains(@class,'table')]/descendant::div[contains(@class,'row')]"), By.xpath("//div[contains(@class,'results') or contains(@class,'list')]/descendant::*[contains(@class,'item') or contains(@class,'row')]"), By.xpath("//*[self::li or self::tr or self::div][contains(@class,'result') or contains(@class,'record') or contains(@class,'row')]")};
+            List<GridRow> rows = readComplianceResults();
+            if (!rows.isEmpty()) {
+                logger.info("📄 Compliance results found in table (rows={})", rows.size());
+                return true;
+            }
+            if (!resultsGrid.read().isEmpty()) {
+                logger.warn("⚠️ Results table shows only its empty placeholder row.");
+                return false;
+            }
+
+            // Card/list layouts (tweak/selectors as your UI evolves)
+            By[] candidates = new By[]{By.xpath("//div[contains(@class,'table')]/descendant::div[contains(@class,'row')]"), By.xpath("//div[contains(@class,'results') or contains(@class,'list')]/descendant::*[contains(@class,'item') or contains(@class,'row')]"), By.xpath("//*[self::li or self::tr or self::div][contains(@class,'result') or contains(@class,'record') or contains(@class,'row')]")};
 
             for (By by : candidates) {
                 List<WebElement> found = driver.findElements(by);
@@ -1157,7 +1210,7 @@ public class ReportsPage extends BasePage {
                 logger.info("↩️ Returned to Reports page for '{}'", chosen);
 
                 try {
-                    Thread.sleep(350);
+                    Pacer.pause("ReportsPage.validateByStageAllAndReturn", 350);
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                     logger.warn("Sleep interrupted while returning to Reports.", ie);
@@ -1266,7 +1319,7 @@ public class ReportsPage extends BasePage {
                 logger.info("↩️ Returned to Reports page for '{}'", chosen);
 
                 try {
-                    Thread.sleep(350);
+                    Pacer.pause("ReportsPage.validateByOrganizationAllAndReturn", 350);
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                     logger.warn("Sleep interrupted while returning to Reports.", ie);
@@ -1375,7 +1428,7 @@ public class ReportsPage extends BasePage {
                 logger.info("↩️ Returned to Reports page for '{}'", chosen);
 
                 try {
-                    Thread.sleep(350);
+                    Pacer.pause("ReportsPage.validateByDepartmentAllAndReturn", 350);
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                     logger.warn("Sleep interrupted while returning to Reports.", ie);
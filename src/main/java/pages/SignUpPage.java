@@ -8,7 +8,9 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import utils.ConfigReader;
 import com.github.javafaker.Faker;
+import utils.Pacer;
 import utils.TestDataGenerator;
+import utils.TrackedWait;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -765,7 +767,7 @@ public class SignUpPage extends BasePage {
      */
     private void sleep(long ms) {
         try {
-            Thread.sleep(ms);
+            Pacer.pause(ms);
         } catch (InterruptedException ignored) {
         }
     }
@@ -2069,7 +2071,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking visibility of Designation onboarding step...");
 
         try {
-            WebDriverWait localWait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait localWait = new TrackedWait(driver, Duration.ofSeconds(20));
 
             // Label: "Designation*"
             WebElement label = localWait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("(//label[contains(normalize-space(),'Designation')])[2]")));
@@ -2109,7 +2111,7 @@ public class SignUpPage extends BasePage {
             }
             logger.info("📝 Random designation chosen: {}", randomDesignation);
 
-            WebElement input = new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.visibilityOfElementLocated(By.id("react-select-3-input")));
+            WebElement input = new TrackedWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.visibilityOfElementLocated(By.id("react-select-3-input")));
 
             input.click();
             input.clear();
@@ -2140,7 +2142,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking visibility of Entity Type onboarding step...");
 
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             WebElement label = webDriverWait.until(ExpectedConditions.visibilityOf(entityTypeLabel));
             WebElement dropdown = webDriverWait.until(ExpectedConditions.visibilityOf(entityTypeDropdownContainer));
@@ -2179,7 +2181,7 @@ public class SignUpPage extends BasePage {
             wait.waitForVisibility(entityTypeDropdownContainer);
             commonMethods.safeClick(driver, entityTypeDropdownContainer, "Entity Type dropdown", 10);
 
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(10));
             WebElement input = webDriverWait.until(ExpectedConditions.elementToBeClickable(ENTITY_TYPE_INPUT));
 
             input.clear();
@@ -2213,7 +2215,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking visibility of CIN / Trust / Society / PAN / FCRN / LLPIN onboarding step...");
 
         try {
-            WebDriverWait localWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait localWait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             // Wait until ANY one label appears
             localWait.until(ExpectedConditions.or(ExpectedConditions.visibilityOf(cinLabel), ExpectedConditions.visibilityOf(trustRegNumberLabel), ExpectedConditions.visibilityOf(societyRegNumberLabel), ExpectedConditions.visibilityOf(panLabel), ExpectedConditions.visibilityOf(fcrnLabel), ExpectedConditions.visibilityOf(llpinLabel)));
@@ -2292,7 +2294,7 @@ public class SignUpPage extends BasePage {
         logger.info("➡️ Clicking 'Skip and Next' on CIN / Trust Registration step without entering value...");
 
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             WebElement skipAndNext = webDriverWait.until(ExpectedConditions.elementToBeClickable(CIN_SKIP_AND_NEXT_CTA));
 
@@ -2324,7 +2326,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking visibility of Company Details onboarding step (Company / Trade / Firm / Society / Establishment / Trust variants)...");
 
         try {
-            WebDriverWait localWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait localWait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             // Wait until ANY one company-like label is visible
             localWait.until(ExpectedConditions.or(ExpectedConditions.visibilityOf(companyNameLabel), ExpectedConditions.visibilityOf(tradeNameLabel), ExpectedConditions.visibilityOf(firmNameLabel), ExpectedConditions.visibilityOf(societyNameLabel), ExpectedConditions.visibilityOf(companyNameEstIndiaLabel), ExpectedConditions.visibilityOf(trustNameLabel)));
@@ -2403,7 +2405,7 @@ public class SignUpPage extends BasePage {
             throw new RuntimeException("No enabled days found in calendar for: " + contextLabel);
         }
 
-        Thread.sleep(7000);
+        Pacer.pause("SignUpPage.pickRandomCalendarDay", 7000);
         int randomIndex = new Random().nextInt(enabledDays.size());
         WebElement randomDay = enabledDays.get(randomIndex);
 
@@ -2440,7 +2442,7 @@ public class SignUpPage extends BasePage {
         String trustRegDayText = null; // Trust – Date of Registration
 
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             // ---------- detect which variant is visible ----------
             boolean companyVariantVisible = isDisplayedSafely(companyNameLabel) && isDisplayedSafely(companyNameInput) && isDisplayedSafely(doiLabel) && isDisplayedSafely(doiInput);
@@ -2478,7 +2480,7 @@ public class SignUpPage extends BasePage {
                 logger.info("📅 [Company Variant] Selecting random Date of Incorporation...");
                 commonMethods.safeClick(driver, doiInput, "Date of Incorporation input", 10);
 
-                Thread.sleep(10000);
+                Pacer.pause("SignUpPage.fillCompanyDetailsAndClickNext", 10000);
                 dayText = pickRandomCalendarDay(webDriverWait, "Company – DOI");
 
                 primaryName = companyName;
@@ -2701,7 +2703,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking visibility of Team Size onboarding step...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             boolean labelVisible = isDisplayedSafely(teamSizeLabel);
             boolean dropdownVisible = isDisplayedSafely(teamSizeDropdownContainer);
@@ -2740,7 +2742,7 @@ public class SignUpPage extends BasePage {
             wait.waitForVisibility(teamSizeDropdownContainer);
             commonMethods.safeClick(driver, teamSizeDropdownContainer, "Team Size dropdown", 10);
 
-            WebDriverWait localWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait localWait = new TrackedWait(driver, Duration.ofSeconds(10));
             WebElement input = localWait.until(ExpectedConditions.elementToBeClickable(TEAM_SIZE_INPUT));
 
             // Type team size and press ENTER
@@ -2774,7 +2776,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking visibility of Annual Turnover onboarding step...");
 
         try {
-            WebDriverWait localWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait localWait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             // small explicit waits so we don’t hit stale / timing issues
             localWait.until(ExpectedConditions.visibilityOf(annualTurnoverLabel));
@@ -2807,7 +2809,7 @@ public class SignUpPage extends BasePage {
         logger.info("💰 Selecting random Annual Turnover and clicking 'Get Started'...");
 
         try {
-            WebDriverWait localWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait localWait = new TrackedWait(driver, Duration.ofSeconds(10));
 
             String randomTurnover = TestDataGenerator.getRandomTurnoverDuringOnboarding();
             if (randomTurnover == null || randomTurnover.trim().isEmpty()) {
@@ -2850,7 +2852,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking analysis screen header (Analysing + Overall Progress)...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(60));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(60));
 
             wait.until(ExpectedConditions.visibilityOf(analysingRequirementsHeading));
             wait.until(ExpectedConditions.visibilityOf(overallProgressLabel));
@@ -2879,7 +2881,7 @@ public class SignUpPage extends BasePage {
         logger.info("📊 Reading 'Compliances Found' count on analysis screen...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(120));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(120));
 
             // 1) Make sure the CTA is clickable → analysis completed
             wait.until(ExpectedConditions.elementToBeClickable(VIEW_MY_COMPLIANCES_BTN));
@@ -2927,7 +2929,7 @@ public class SignUpPage extends BasePage {
         logger.info("⏱ Waiting for 'View my Compliances' CTA to be visible...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(180)); // heavy analysis
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(180)); // heavy analysis
 
             WebElement btn = wait.until(ExpectedConditions.visibilityOfElementLocated(VIEW_MY_COMPLIANCES_BTN));
 
@@ -2948,7 +2950,7 @@ public class SignUpPage extends BasePage {
         logger.info("🖱 Clicking 'View my Compliances' CTA...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(30));
             WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(VIEW_MY_COMPLIANCES_BTN));
 
             commonMethods.safeClick(driver, btn, "'View my Compliances' CTA", 10);
@@ -3060,7 +3062,7 @@ public class SignUpPage extends BasePage {
     public int waitUntilOverallProgressIsHundredPercent() {
         logger.info("⏱ Waiting for 'Overall Progress' to reach 100%...");
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(180)); // generous timeout
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(180)); // generous timeout
 
         Boolean reached = wait.until(d -> {
             try {
@@ -3103,7 +3105,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Checking visibility of 'new subscriber offer' popup...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(15));
 
             // Wait for title to appear
             wait.until(ExpectedConditions.visibilityOf(newSubscriberOfferTitle));
@@ -3142,7 +3144,7 @@ public class SignUpPage extends BasePage {
         logger.info("🖱 Clicking 'Claim My 10% Discount' CTA on subscriber offer popup...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(15));
             WebElement btn = wait.until(ExpectedConditions.elementToBeClickable(claimMyDiscountCta));
 
             commonMethods.safeClick(driver, btn, "'Claim My 10% Discount' CTA", 10);
@@ -3160,7 +3162,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔎 Validating Annual Compliance right panel contents...");
 
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(20));
 
             // Wait for main heading of the panel
             wait.until(ExpectedConditions.visibilityOf(annualComplianceHeading));
@@ -3200,7 +3202,7 @@ public class SignUpPage extends BasePage {
         logger.info("🖱 Preparing to click 'Explore Plans' CTA in Annual Compliance drawer...");
 
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(30));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(30));
 
             logger.info("⏳ Waiting for 'Explore Plans' CTA to become clickable...");
             WebElement btn = webDriverWait.until(ExpectedConditions.elementToBeClickable(explorePlansCTA));
@@ -3244,7 +3246,7 @@ public class SignUpPage extends BasePage {
         String expectedFragment = "/grc/subscriptions/pricing";
 
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(20));
 
             boolean matched = webDriverWait.until(ExpectedConditions.urlContains(expectedFragment));
 
@@ -3281,7 +3283,7 @@ public class SignUpPage extends BasePage {
         logger.info("🔍 Checking if 'Launch-Ready Plans' heading is visible on Pricing page...");
 
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(15));
 
             logger.info("⏳ Waiting for 'Launch-Ready Plans' heading element to become visible...");
             webDriverWait.until(ExpectedConditions.visibilityOf(launchReadyPlansHeading));
@@ -3341,7 +3343,7 @@ public class SignUpPage extends BasePage {
         logger.info("⏳ Waiting for mandatory exit popup 'Wait! Before you go...' on Pricing page...");
 
         Instant start = Instant.now();
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(60));
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(60));
 
         try {
             // -------- PRIMARY WAIT (up to 60s) --------
@@ -3377,7 +3379,7 @@ public class SignUpPage extends BasePage {
             }
 
             try {
-                Thread.sleep(SLEEP_MS);
+                Pacer.poll("SignUpPage.waitForExitPopupVisible", SLEEP_MS);
             } catch (InterruptedException ignored) {
             }
         }
@@ -3666,7 +3668,7 @@ public class SignUpPage extends BasePage {
         logger.info("⏳ Waiting for page to reach readyState='complete'...");
 
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(10));
             webDriverWait.until(new ExpectedCondition<Boolean>() {
                 public Boolean apply(WebDriver webDriver) {
                     try {
@@ -3811,7 +3813,7 @@ public class SignUpPage extends BasePage {
         lastStillConfusedPopupVisible = false;
 
         try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait shortWait = new TrackedWait(driver, Duration.ofSeconds(10));
             shortWait.until(ExpectedConditions.visibilityOf(stillConfusedTitle));
 
             boolean titleVisible = false;
@@ -3889,7 +3891,7 @@ public class SignUpPage extends BasePage {
 
             stillConfusedCityPincodeInput.clear();
             stillConfusedCityPincodeInput.sendKeys(pincode);
-            Thread.sleep(4000);
+            Pacer.pause("SignUpPage.fillStillConfusedPopupAndSubmit", 4000);
             stillConfusedCityPincodeInput.sendKeys(Keys.ENTER);
 
             logger.info("📍 Still Confused ? pincode entered: {}", pincode);
@@ -3917,7 +3919,7 @@ public class SignUpPage extends BasePage {
         lastPaymentPageReached = false;
 
         try {
-            WebDriverWait w = new WebDriverWait(driver, timeout);
+            WebDriverWait w = new TrackedWait(driver, timeout);
             w.until(ExpectedConditions.visibilityOf(choosePaymentMethodHeading));
 
             boolean visible = false;
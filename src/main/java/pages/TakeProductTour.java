@@ -10,6 +10,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
+import utils.JsCondition;
+import utils.TrackedWait;
 
 /**
  * Page Object representing the **Take Product Tour** feature.
@@ -63,8 +65,8 @@ public class TakeProductTour extends BasePage {
     @FindBy(xpath = "//p[@class='text-[32px] max-lg:hidden font-semibold'][normalize-space()='Compliances']")
     private WebElement compliancesText;
 
-    @FindBy(xpath = "//*[contains(@class,'loader') or contains(@class,'spinner') or @data-testid='global-loader']")
-    private List<WebElement> blockingLoaders;
+    private static final By BLOCKING_LOADERS_BY =
+            By.xpath("//*[contains(@class,'loader') or contains(@class,'spinner') or @data-testid='global-loader']");
 
     @FindBy(xpath = "//button[@aria-label='Last' or normalize-space()='Got it']")
     private WebElement gotItBtn;
@@ -130,7 +132,7 @@ public class TakeProductTour extends BasePage {
      */
     public boolean waitForFirstTourStep(Duration timeout) {
         try {
-            new WebDriverWait(driver, timeout).until(ExpectedConditions.visibilityOf(firstTourHeading));
+            new TrackedWait(driver, timeout).until(ExpectedConditions.visibilityOf(firstTourHeading));
             logger.info("First tour step visible: '{}'", firstTourHeading.getText());
             return true;
         } catch (TimeoutException te) {
@@ -146,28 +148,12 @@ public class TakeProductTour extends BasePage {
      * @param timeout maximum time to wait before giving up
      */
     public void waitForAnyBlockingLoaderToDisappear(Duration timeout) {
-        if (blockingLoaders == null) return;
-        long end = System.currentTimeMillis() + timeout.toMillis();
-        try {
-            while (System.currentTimeMillis() < end) {
-                boolean anyDisplayed = false;
-                for (WebElement e : blockingLoaders) {
-                    try {
-                        if (e.isDisplayed()) {
-                            anyDisplayed = true;
-                            break;
-                        }
-                    } catch (StaleElementReferenceException ignored) {
-                    }
-                }
-                if (!anyDisplayed) {
-                    logger.info("No blocking loader detected.");
-                    return;
-                }
-                Thread.sleep(150);
-            }
+        // one JS probe per poll instead of isDisplayed() per loader element
+        JsCondition.Result r = wait.waitFor(JsCondition.absent(BLOCKING_LOADERS_BY), timeout);
+        if (r.isMet()) {
+            logger.info("No blocking loader detected ({} ms).", r.elapsedMs);
+        } else {
             logger.warn("Blocking loader may still be present after {} ms", timeout.toMillis());
-        } catch (InterruptedException ignored) {
         }
     }
 
@@ -351,7 +337,7 @@ public class TakeProductTour extends BasePage {
 
             commonMethods.safeClick(driver, skipForNowBtn, "Skip for now", 10);
 
-            new WebDriverWait(driver, timeout).until(ExpectedConditions.visibilityOf(compliancesText));
+            new TrackedWait(driver, timeout).until(ExpectedConditions.visibilityOf(compliancesText));
 
             logger.info("{}: Compliances page visible after skipping tour.", ctx);
             return true;
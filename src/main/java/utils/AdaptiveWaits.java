@@ -0,0 +1,222 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Learns how long each wait actually takes and derives its timeout and poll schedule from that,
+ * instead of the static guesses in config ({@code explicitWait}, {@code threshold.*}).
+ * <p>
+ * Every wait reported to {@link WaitTelemetry} feeds its call site's latency samples; a wait that timed out
+ * is recorded as a censored sample (its timeout: the real latency was at least that), so a learned timeout
+ * that proved too short grows back in the next run, and within this run that site uses the configured
+ * timeout again. Samples persist between runs in {@code scenario-history/wait-latency.json}, next to the
+ * scenario durations. Learning always runs; what is applied depends on the mode:
+ * - off (default): nothing changes.
+ * - polling: poll fast early (around the site's median) and back off later (past its p95, then
+ *   exponentially up to {@code adaptive.waits.maxPollMs}). Timeouts stay as configured.
+ * - full: polling, plus the timeout becomes p{@code adaptive.waits.percentile} × factor + margin, never
+ *   above the configured timeout and never below {@code adaptive.waits.minTimeoutMs}, once the site has
+ *   {@code adaptive.waits.minSamples} samples.
+ * <p>
+ * The SLA thresholds (NAV_WARN_MS / NAV_FAIL_MS, GETSTARTED_*, clickAndWaitFor's failMs) stay the pass/fail
+ * limits: waits bounded by them ({@link TrackedWait#slaLimit()}, {@link WaitUtils#waitForSla}) are never shortened.
+ * <p>
+ * Config (system property overrides config.properties):
+ * - adaptive.waits               off | polling | full (default off)
+ * - adaptive.waits.percentile    percentile the timeout is derived from (default 99)
+ * - adaptive.waits.factor        multiplier on that percentile (default 1.5)
+ * - adaptive.waits.marginMs      added on top (default 2000)
+ * - adaptive.waits.minTimeoutMs  floor for learned timeouts (default 3000)
+ * - adaptive.waits.minSamples    samples needed before a timeout is learned (default 20)
+ * - adaptive.waits.minPollMs / maxPollMs  poll interval bounds (default 25 / 1000)
+ *
+ * @author Sherwin
+ * @since 27-11-2025
+ */
+
+public final class AdaptiveWaits {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveWaits.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final File FILE = new File(System.getProperty("user.dir"), "scenario-history/wait-latency.json");
+    private static final int MAX_SAMPLES = 200;
+    // Keys written before sites dropped their line number ("Class.method:123"); nothing reads them any more
+    private static final Pattern LEGACY_SITE = Pattern.compile("^[\\w$]+\\.[\\w$]+:\\d+( via |$)");
+
+    public enum Mode { OFF, POLLING, FULL }
+
+    /** Persisted samples for one call site (newest last). */
+    public static class Entry {
+        public List<Long> samplesMs = new ArrayList<>();
+    }
+
+    /** Loaded history; read-only after class init (this run's samples go to {@link #THIS_RUN}). */
+    private static final Map<String, long[]> HISTORY = new ConcurrentHashMap<>();
+    /** Samples recorded by this JVM, merged into the file by {@link #save()}. */
+    private static final Map<String, List<Long>> THIS_RUN = new ConcurrentHashMap<>();
+    /** Sites that timed out in this JVM: their learned timeout is not trusted until the next run. */
+    private static final Set<String> TIMED_OUT = ConcurrentHashMap.newKeySet();
+
+    static {
+        load().forEach((site, e) -> HISTORY.put(site, sorted(e.samplesMs)));
+    }
+
+    private AdaptiveWaits() {
+    }
+
+    public static Mode mode() {
+        String v = System.getProperty("adaptive.waits", ConfigReader.get("adaptive.waits"));
+        if (v == null) return Mode.OFF;
+        try {
+            return Mode.valueOf(v.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Mode.OFF;
+        }
+    }
+
+    /**
+     * Records one finished wait: a met wait as its latency, a timed-out one as a censored sample (the real
+     * latency was at least {@code elapsedMs}). Errors say nothing about latency and are skipped.
+     */
+    public static void observe(String site, long elapsedMs, WaitTelemetry.Outcome outcome) {
+        if (site == null || outcome == WaitTelemetry.Outcome.ERROR) return;
+        if (outcome == WaitTelemetry.Outcome.TIMEOUT) TIMED_OUT.add(site);
+        List<Long> l = THIS_RUN.computeIfAbsent(site, k -> new ArrayList<>());
+        synchronized (l) {
+            l.add(elapsedMs);
+        }
+    }
+
+    /**
+     * Timeout to apply at {@code site}: the learned one in full mode (bounded by {@code configured}),
+     * otherwise {@code configured}. A site that already timed out in this run gets {@code configured}.
+     */
+    public static Duration timeout(String site, Duration configured) {
+        if (mode() != Mode.FULL || TIMED_OUT.contains(site)) return configured;
+        long[] h = HISTORY.get(site);
+        if (h == null || h.length < getLong("adaptive.waits.minSamples", 20)) return configured;
+        long learned = Math.round(percentile(h, getLong("adaptive.waits.percentile", 99) / 100.0)
+                * getDouble("adaptive.waits.factor", 1.5)) + getLong("adaptive.waits.marginMs", 2_000);
+        learned = Math.max(learned, getLong("adaptive.waits.minTimeoutMs", 3_000));
+        return learned < configured.toMillis() ? Duration.ofMillis(learned) : configured;
+    }
+
+    /** Poll schedule for one wait at {@code site}, or null when adaptive polling is off. */
+    public static Schedule schedule(String site) {
+        if (mode() == Mode.OFF) return null;
+        long[] h = HISTORY.get(site);
+        long p50 = h == null || h.length == 0 ? -1 : percentile(h, 0.5);
+        long p95 = h == null || h.length == 0 ? -1 : percentile(h, 0.95);
+        return new Schedule(p50, p95, getLong("adaptive.waits.minPollMs", 25), getLong("adaptive.waits.maxPollMs", 1_000));
+    }
+
+    /**
+     * Per-wait poll interval: short while the condition would usually still come true soon, longer once the
+     * wait runs past the site's normal latency. Without history: start at the minimum and double.
+     */
+    public static final class Schedule {
+        private final long p50, p95, minPoll, maxPoll;
+        private long last;
+
+        Schedule(long p50, long p95, long minPoll, long maxPoll) {
+            this.p50 = p50;
+            this.p95 = p95;
+            this.minPoll = minPoll;
+            this.maxPoll = Math.max(minPoll, maxPoll);
+        }
+
+        /** Next interval given the time already spent in this wait. */
+        public long next(long elapsedMs) {
+            long ms;
+            if (p50 < 0) {
+                ms = last == 0 ? minPoll : last * 2;
+            } else if (elapsedMs < p50) {
+                ms = p50 / 10;
+            } else if (elapsedMs < p95) {
+                ms = p95 / 10;
+            } else {
+                ms = Math.max(last, p95 / 10) * 2;
+            }
+            last = Math.max(minPoll, Math.min(maxPoll, ms));
+            return last;
+        }
+    }
+
+    /** Merges this run's samples into the history file (last {@value #MAX_SAMPLES} per site). */
+    public static synchronized void save() {
+        if (THIS_RUN.isEmpty()) return;
+        Map<String, Entry> merged = new TreeMap<>(load());   // re-read: parallel shards share the file
+        merged.keySet().removeIf(site -> LEGACY_SITE.matcher(site).find());
+        THIS_RUN.forEach((site, l) -> {
+            List<Long> samples = merged.computeIfAbsent(site, k -> new Entry()).samplesMs;
+            synchronized (l) {
+                samples.addAll(l);
+            }
+            if (samples.size() > MAX_SAMPLES) samples.subList(0, samples.size() - MAX_SAMPLES).clear();
+        });
+        try {
+            FILE.getParentFile().mkdirs();
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(FILE, merged);
+            logger.info("📈 Wait latency history saved ({} site(s) updated, mode={})", THIS_RUN.size(), mode());
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not save wait latency history: {}", e.toString());
+        }
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static long percentile(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    private static long[] sorted(List<Long> samples) {
+        long[] a = new long[samples.size()];
+        for (int i = 0; i < a.length; i++) a[i] = samples.get(i);
+        Arrays.sort(a);
+        return a;
+    }
+
+    private static Map<String, Entry> load() {
+        if (!FILE.isFile()) return Map.of();
+        try {
+            return MAPPER.readValue(FILE, new TypeReference<Map<String, Entry>>() {});
+        } catch (Exception e) {
+            logger.warn("⚠️ Unreadable wait latency history {} (ignoring): {}", FILE, e.toString());
+            return Map.of();
+        }
+    }
+
+    private static long getLong(String key, long def) {
+        try {
+            String v = System.getProperty(key, ConfigReader.get(key));
+            return (v == null || v.trim().isEmpty()) ? def : Long.parseLong(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    private static double getDouble(String key, double def) {
+        try {
+            String v = System.getProperty(key, ConfigReader.get(key));
+            return (v == null || v.trim().isEmpty()) ? def : Double.parseDouble(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
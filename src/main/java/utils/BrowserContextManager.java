@@ -0,0 +1,151 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v139.browser.Browser;
+import org.openqa.selenium.devtools.v139.browser.model.BrowserContextID;
+import org.openqa.selenium.devtools.v139.target.Target;
+import org.openqa.selenium.devtools.v139.target.model.TargetID;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Browser-context multiplexing: one shared Chrome process, one isolated CDP browser context
+ * (incognito-like: own cookies, storage, cache) per scenario.
+ * <p>
+ * For each scenario a context and a window inside it are created over the shared browser's DevTools
+ * session ({@code Target.createBrowserContext} / {@code Target.createTarget}), downloads for that
+ * context are pointed at the scenario's folder ({@code Browser.setDownloadBehavior} with the
+ * BrowserContextID), and a lightweight ChromeDriver session is attached to the same browser via
+ * {@code debuggerAddress} and switched to the new window. Closing the scenario quits that attached
+ * session (the browser stays up) and disposes the context.
+ * <p>
+ * Caveat: attached sessions see every window of the shared browser, so steps that diff
+ * {@code getWindowHandles()} to find "the new tab" can pick up another scenario's window when
+ * running in parallel; keep such scenarios {@code @serial} in this mode.
+ * <p>
+ * Config: browser.contexts.enabled (default false; -Dbrowser.contexts.enabled=true overrides)
+ *
+ * @author Sherwin
+ * @since 22-11-2025
+ */
+
+public final class BrowserContextManager {
+
+    private static final Logger logger = LogManager.getLogger(BrowserContextManager.class);
+
+    /** Attached scenario driver → its browser context. */
+    private static final Map<WebDriver, BrowserContextID> CONTEXTS = new ConcurrentHashMap<>();
+
+    private static WebDriver host;
+    private static DevTools hostDevTools;
+    private static String debuggerAddress;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserContextManager::shutdown, "browser-context-shutdown"));
+    }
+
+    private BrowserContextManager() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("browser.contexts.enabled",
+                String.valueOf(ConfigReader.get("browser.contexts.enabled"))));
+    }
+
+    /** Creates an isolated context in the shared browser and returns a driver bound to its window. */
+    public static WebDriver open(String downloadDir) {
+        long t0 = System.currentTimeMillis();
+        BrowserContextID contextId;
+        TargetID targetId;
+        synchronized (BrowserContextManager.class) {
+            ensureHost();
+            contextId = hostDevTools.send(Target.createBrowserContext(
+                    Optional.of(false), Optional.empty(), Optional.empty(), Optional.empty()));
+            targetId = hostDevTools.send(Target.createTarget("about:blank",
+                    Optional.empty(), Optional.empty(), Optional.of(1920), Optional.of(1080), Optional.empty(),
+                    Optional.of(contextId), Optional.empty(), Optional.of(true), Optional.empty(),
+                    Optional.empty(), Optional.empty()));
+            hostDevTools.send(Browser.setDownloadBehavior(
+                    Browser.SetDownloadBehaviorBehavior.ALLOW,
+                    Optional.of(contextId),
+                    Optional.of(downloadDir),
+                    Optional.of(true)));
+        }
+
+        ChromeOptions attach = new ChromeOptions();
+        attach.setExperimentalOption("debuggerAddress", debuggerAddress);
+        WebDriver driver = new ChromeDriver(attach);
+        driver.switchTo().window(targetId.toString());
+        DriverFactory.applyDefaults(driver);
+        CONTEXTS.put(driver, contextId);
+
+        logger.info("🪟 Browser context {} ready in {} ms (downloads → {}, live contexts={})",
+                contextId, System.currentTimeMillis() - t0, downloadDir, CONTEXTS.size());
+        return driver;
+    }
+
+    /** True if the driver is attached to a context created by {@link #open(String)}. */
+    public static boolean owns(WebDriver driver) {
+        return driver != null && CONTEXTS.containsKey(driver);
+    }
+
+    /** Detaches the scenario's driver and disposes its context (closing its windows, cookies and storage). */
+    public static void close(WebDriver driver) {
+        BrowserContextID contextId = CONTEXTS.remove(driver);
+        try {
+            driver.quit();   // attached via debuggerAddress → ends only this session, not the shared browser
+        } catch (Exception e) {
+            logger.warn("Error detaching context driver: {}", e.getMessage());
+        }
+        if (contextId == null) return;
+        synchronized (BrowserContextManager.class) {
+            try {
+                if (hostDevTools != null) hostDevTools.send(Target.disposeBrowserContext(contextId));
+                logger.info("🧹 Browser context {} disposed (live contexts={})", contextId, CONTEXTS.size());
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not dispose browser context {}: {}", contextId, e.toString());
+            }
+        }
+    }
+
+    /** Quits the shared browser. Registered as a JVM shutdown hook. */
+    public static synchronized void shutdown() {
+        if (host == null) return;
+        try {
+            host.quit();
+            logger.info("🪚 Shared browser for contexts closed");
+        } catch (Exception e) {
+            logger.warn("Error during shared browser quit(): {}", e.getMessage());
+        } finally {
+            host = null;
+            hostDevTools = null;
+        }
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    @SuppressWarnings("unchecked")
+    private static void ensureHost() {
+        if (host != null) return;
+        Path staging = Paths.get(System.getProperty("user.dir"), "downloads");
+        try { Files.createDirectories(staging); } catch (Exception ignored) {}
+        host = DriverFactory.createChromeSession(staging.toAbsolutePath().toString());
+        hostDevTools = ((HasDevTools) host).getDevTools();   // session already opened by DriverFactory
+        Map<String, Object> chromeCaps = (Map<String, Object>) ((HasCapabilities) host).getCapabilities()
+                .getCapability("goog:chromeOptions");
+        debuggerAddress = String.valueOf(chromeCaps.get("debuggerAddress"));
+        logger.info("🌐 Shared browser for contexts launched (debuggerAddress={})", debuggerAddress);
+    }
+}
@@ -0,0 +1,209 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves browser driver binaries (chromedriver, geckodriver, msedgedriver) once per JVM and
+ * remembers the result across runs in {@code drivers/driver-cache.json}.
+ * <p>
+ * Resolution order per browser:
+ * 1) this JVM's memo
+ * 2) the on-disk cache, if the recorded binary still exists (no network at all)
+ * 3) WebDriverManager (network lookup/download), then recorded in the cache
+ * 4) a local {@code drivers/<name>[.exe]} fallback
+ * <p>
+ * The resolved path is exported as the matching {@code webdriver.*.driver} system property, so
+ * Selenium uses it directly instead of running Selenium Manager. Call {@link #invalidate(String)}
+ * when a session fails to start (e.g. the browser auto-updated past the cached driver).
+ *
+ * @author Sherwin
+ * @since 23-11-2025
+ */
+
+public final class DriverBinaryCache {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final File FILE = new File(System.getProperty("user.dir"), "drivers/driver-cache.json");
+
+    /** Persisted record for one browser. */
+    public static class Entry {
+        public String driverPath;
+        public String driverVersion;
+        public String source;
+        public long resolvedAt;
+    }
+
+    private static final Map<String, Entry> DISK = new ConcurrentHashMap<>(load());
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+    /** One resolver at a time per browser; held outside any map bin lock (see {@link #resolve}). */
+    private static final Map<String, Object> RESOLVE_LOCKS = new ConcurrentHashMap<>();
+    /** Guards {@link #DISK} writes + the cache file; taken last, after any other lock. */
+    private static final Object FILE_LOCK = new Object();
+    private static final AtomicLong RESOLUTION_MS = new AtomicLong();
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Ensures a driver binary for {@code browser} ("chrome", "firefox", "edge") is on record and
+     * exported to Selenium.
+     *
+     * @return absolute driver path, or null if nothing could be resolved (caller may still try Selenium Manager)
+     */
+    public static String resolve(String browser) {
+        String b = browser.toLowerCase(Locale.ROOT);
+        String memo = RESOLVED.get(b);
+        if (memo != null) return memo;
+        // Resolved outside the map: computeIfAbsent would hold the bin lock while resolveUncached takes FILE_LOCK,
+        // the reverse of invalidate's order.
+        synchronized (RESOLVE_LOCKS.computeIfAbsent(b, k -> new Object())) {
+            memo = RESOLVED.get(b);
+            if (memo != null) return memo;
+            String path = resolveUncached(b);
+            if (path == null) return null;
+            String prev = RESOLVED.putIfAbsent(b, path);
+            return prev != null ? prev : path;
+        }
+    }
+
+    /** Forgets the cached binary for {@code browser} (memo + disk) so the next resolve goes to the network. */
+    public static void invalidate(String browser) {
+        String b = browser.toLowerCase(Locale.ROOT);
+        RESOLVED.remove(b);
+        synchronized (FILE_LOCK) {
+            if (DISK.remove(b) == null) return;
+            save();
+        }
+        logger.info("🗑️ Driver cache entry for '{}' invalidated", b);
+    }
+
+    /** Total wall time this JVM spent resolving driver binaries. */
+    public static long totalResolutionMs() {
+        return RESOLUTION_MS.get();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static String resolveUncached(String browser) {
+        long t0 = System.currentTimeMillis();
+        String path = null;
+        String source = null;
+        try {
+            Entry cached = DISK.get(browser);
+            if (cached != null && cached.driverPath != null && Files.isRegularFile(Paths.get(cached.driverPath))) {
+                path = cached.driverPath;
+                source = "cache (" + cached.driverVersion + ")";
+                return export(browser, path);
+            }
+
+            try {
+                WebDriverManager wdm = manager(browser);
+                wdm.setup();
+                path = wdm.getDownloadedDriverPath();
+                record(browser, path, wdm.getDownloadedDriverVersion(), "webdrivermanager");
+                source = "webdrivermanager (" + wdm.getDownloadedDriverVersion() + ")";
+                return export(browser, path);
+            } catch (Exception e) {
+                logger.warn("⚠️ WebDriverManager could not resolve {} driver: {}", browser, e.toString());
+            }
+
+            Path local = localFallback(browser);
+            if (local != null) {
+                path = local.toString();
+                record(browser, path, "local", "drivers/");
+                source = "drivers/";
+                return export(browser, path);
+            }
+            source = "unresolved";
+            return null;
+        } finally {
+            long ms = System.currentTimeMillis() - t0;
+            RESOLUTION_MS.addAndGet(ms);
+            logger.info("🔎 {} driver resolved via {} in {} ms → {}", browser, source, ms, path);
+        }
+    }
+
+    private static String export(String browser, String path) {
+        if (path == null) return null;
+        System.setProperty(systemProperty(browser), path);
+        return path;
+    }
+
+    private static void record(String browser, String path, String version, String source) {
+        if (path == null) return;
+        Entry e = new Entry();
+        e.driverPath = path;
+        e.driverVersion = version;
+        e.source = source;
+        e.resolvedAt = System.currentTimeMillis();
+        synchronized (FILE_LOCK) {
+            DISK.put(browser, e);
+            save();
+        }
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "firefox": return WebDriverManager.firefoxdriver();
+            case "edge": return WebDriverManager.edgedriver();
+            default: return WebDriverManager.chromedriver();
+        }
+    }
+
+    private static String systemProperty(String browser) {
+        switch (browser) {
+            case "firefox": return "webdriver.gecko.driver";
+            case "edge": return "webdriver.edge.driver";
+            default: return "webdriver.chrome.driver";
+        }
+    }
+
+    private static Path localFallback(String browser) {
+        String name;
+        switch (browser) {
+            case "firefox": name = "geckodriver"; break;
+            case "edge": name = "msedgedriver"; break;
+            default: name = "chromedriver";
+        }
+        for (String candidate : new String[]{name + ".exe", name}) {
+            Path p = Paths.get(System.getProperty("user.dir"), "drivers", candidate);
+            if (Files.isRegularFile(p)) return p.toAbsolutePath();
+        }
+        return null;
+    }
+
+    /** Caller holds {@link #FILE_LOCK}. */
+    private static void save() {
+        try {
+            FILE.getParentFile().mkdirs();
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(FILE, new TreeMap<>(DISK));
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not save driver cache: {}", e.toString());
+        }
+    }
+
+    private static Map<String, Entry> load() {
+        if (!FILE.isFile()) return Map.of();
+        try {
+            return MAPPER.readValue(FILE, new TypeReference<Map<String, Entry>>() {});
+        } catch (Exception e) {
+            logger.warn("⚠️ Unreadable driver cache {} (ignoring): {}", FILE, e.toString());
+            return Map.of();
+        }
+    }
+}
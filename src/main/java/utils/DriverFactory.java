@@ -0,0 +1,130 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v139.browser.Browser;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds fully configured Chrome sessions (options, prefs, DevTools session, download
+ * behaviour, window size and timeouts). Used directly by Hooks and by {@link DriverPool}
+ * when warming sessions in the background.
+ *
+ * @author Sherwin
+ * @since 18-11-2025
+ */
+
+public final class DriverFactory {
+
+    private static final Logger logger = LogManager.getLogger(DriverFactory.class);
+
+    private DriverFactory() {
+    }
+
+    /** Launches a new Chrome session that downloads into {@code downloadDir}. */
+    public static WebDriver createChromeSession(String downloadDir) {
+        DriverBinaryCache.resolve("chrome");   // once per JVM; cached path → no network lookup
+
+        // ---- Chrome options & prefs
+        ChromeOptions options = new ChromeOptions();
+
+        String headless = System.getProperty("headless", ConfigReader.get("headless"));
+
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("download.default_directory", downloadDir);             // absolute native path
+        prefs.put("download.prompt_for_download", false);
+        prefs.put("download.directory_upgrade", true);
+        prefs.put("profile.default_content_setting_values.automatic_downloads", 1);
+        prefs.put("safebrowsing.enabled", true);
+        options.setExperimentalOption("prefs", prefs);
+
+        if (Boolean.parseBoolean(headless)) {
+            // If you don’t add DevTools, prefer old --headless to avoid download issues:
+            // options.addArguments("--headless");
+            options.addArguments("--headless=new");
+            logger.info("🔧 Running in headless mode (system or config).");
+        } else {
+            logger.info("🖥️ Running in visible (headed) mode.");
+        }
+
+        options.addArguments(
+                "--disable-gpu",
+                "--no-sandbox",
+                "--disable-dev-shm-usage",
+                "--window-size=1920,1080",
+                "--force-device-scale-factor=1",
+                "--hide-scrollbars",
+                "--remote-allow-origins=*"
+        );
+
+        logger.info("🔧 ChromeOptions set for 1920x1080 headless/visual run");
+
+        // ---- Create driver (a cached driver that no longer matches the installed Chrome is re-resolved once)
+        WebDriver driver;
+        try {
+            driver = new ChromeDriver(options);
+        } catch (SessionNotCreatedException e) {
+            logger.warn("⚠️ Chrome session not created with cached driver, re-resolving: {}", e.getMessage());
+            DriverBinaryCache.invalidate("chrome");
+            DriverBinaryCache.resolve("chrome");
+            driver = new ChromeDriver(options);
+        }
+
+        // ---- Allow downloads via DevTools (works in headless=new; harmless in headed)
+        // Requires selenium-devtools-v139; adjust v### if your devtools artifact differs.
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSession();
+        } catch (Throwable t) {
+            // If the devtools module/version isn’t on classpath, we still proceed with prefs.
+            logger.warn("⚠️ Could not open DevTools session. Using Chrome prefs only. {}", t.toString());
+        }
+        applyDownloadDir(driver, downloadDir);
+        NetworkIdleTracker.attach(driver);
+        GridApiCapture.attach(driver);
+
+        applyDefaults(driver);
+        return driver;
+    }
+
+    /**
+     * Points the session's downloads at {@code downloadDir} via DevTools. Can be called again on a
+     * live session (pooled sessions are re-pointed at the borrowing scenario's folder).
+     */
+    public static void applyDownloadDir(WebDriver driver, String downloadDir) {
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.send(Browser.setDownloadBehavior(
+                    Browser.SetDownloadBehaviorBehavior.ALLOW,
+                    Optional.empty(),          // BrowserContextID (none)
+                    Optional.of(downloadDir),  // your downloads folder
+                    Optional.of(true)          // eventsEnabled
+            ));
+            logger.info("✅ DevTools download behavior set to ALLOW → {}", downloadDir);
+        } catch (Throwable t) {
+            logger.warn("⚠️ Could not set DevTools download behavior. Using Chrome prefs only. {}", t.toString());
+        }
+    }
+
+    /**
+     * Window size and config-driven timeouts (implicit wait per {@link ImplicitWaitMode}); re-applied when
+     * a pooled session is reset.
+     */
+    public static void applyDefaults(WebDriver driver) {
+        driver.manage().window().setSize(new Dimension(1920, 1080));
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(
+                Long.parseLong(ConfigReader.get("pageLoadTimeout"))));
+        driver.manage().timeouts().implicitlyWait(ImplicitWaitMode.sessionImplicitWait());
+    }
+}
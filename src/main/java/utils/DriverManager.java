@@ -0,0 +1,104 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of the WebDriver owned by each running scenario.
+ * <p>
+ * Replaces the old {@code public static WebDriver Hooks.driver}. Every scenario runs on its own
+ * worker thread, so the driver is bound to that thread; it is also indexed by scenario id so
+ * listeners and reporting code can resolve it without being on the scenario thread.
+ * <p>
+ * Usage:
+ * - Hooks.setup → {@link #register(String, WebDriver)}
+ * - Step classes / page objects → {@link #getDriver()}
+ * - Hooks.tearDown → {@link #unregister()}
+ *
+ * @author Sherwin
+ * @since 17-11-2025
+ */
+
+public final class DriverManager {
+
+    private static final Logger logger = LogManager.getLogger(DriverManager.class);
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<String> SCENARIO_ID = new ThreadLocal<>();
+    private static final ThreadLocal<String> SCENARIO_KEY = new ThreadLocal<>();
+    private static final Map<String, WebDriver> BY_SCENARIO = new ConcurrentHashMap<>();
+
+    private DriverManager() {
+    }
+
+    /**
+     * Binds the driver to the current thread and indexes it under the given scenario id; {@code scenarioKey}
+     * is the id that stays the same across attempts of the scenario (see {@link ScenarioHistory#key}).
+     */
+    public static void register(String scenarioId, String scenarioKey, WebDriver driver) {
+        if (scenarioKey != null) SCENARIO_KEY.set(scenarioKey);
+        register(scenarioId, driver);
+    }
+
+    /** Binds the driver to the current thread and indexes it under the given scenario id. */
+    public static void register(String scenarioId, WebDriver driver) {
+        DRIVER.set(driver);
+        if (scenarioId != null) {
+            SCENARIO_ID.set(scenarioId);
+            if (driver != null) BY_SCENARIO.put(scenarioId, driver);
+        }
+        logger.debug("🔗 Driver registered for scenario '{}' on thread '{}' (active={})",
+                scenarioId, Thread.currentThread().getName(), BY_SCENARIO.size());
+    }
+
+    /** Replaces the driver of the current thread's scenario (e.g. compatibility steps launching their own browser). */
+    public static void setDriver(WebDriver driver) {
+        register(SCENARIO_ID.get(), driver);
+    }
+
+    /** Driver of the scenario running on the current thread, or null if none is registered. */
+    public static WebDriver getDriver() {
+        return DRIVER.get();
+    }
+
+    /** Driver of the given scenario regardless of the calling thread, or null. */
+    public static WebDriver getDriver(String scenarioId) {
+        return scenarioId == null ? null : BY_SCENARIO.get(scenarioId);
+    }
+
+    /** Scenario id bound to the current thread, or null. */
+    public static String currentScenarioId() {
+        return SCENARIO_ID.get();
+    }
+
+    /**
+     * Attempt-independent key of the current thread's scenario ({@code <feature file>:<line>}), or null.
+     * Unlike {@link #currentScenarioId()} (a fresh UUID per execution), a retry of the scenario gets the same key.
+     */
+    public static String currentScenarioKey() {
+        return SCENARIO_KEY.get();
+    }
+
+    /** Number of scenarios currently holding a driver. */
+    public static int activeCount() {
+        return BY_SCENARIO.size();
+    }
+
+    /**
+     * Removes the current thread's binding and returns the driver that was bound (caller decides
+     * whether to quit it). Safe to call when nothing is registered.
+     */
+    public static WebDriver unregister() {
+        WebDriver d = DRIVER.get();
+        String id = SCENARIO_ID.get();
+        if (id != null) BY_SCENARIO.remove(id);
+        DRIVER.remove();
+        SCENARIO_ID.remove();
+        SCENARIO_KEY.remove();
+        return d;
+    }
+}
@@ -0,0 +1,223 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of pre-launched Chrome sessions.
+ * <p>
+ * Scenarios {@link #borrow(String) borrow} a ready session instead of paying Chrome process
+ * startup, and {@link #release(WebDriver) release} it afterwards. On release the session is
+ * reset (extra tabs closed, cookies + storage wiped, timeouts restored, about:blank) and parked
+ * for the next scenario. While scenarios run, a background thread keeps {@code driver.pool.size}
+ * idle sessions warm.
+ * <p>
+ * Config:
+ * - driver.pool.enabled  (default false; -Ddriver.pool.enabled=true overrides)
+ * - driver.pool.size     idle sessions to keep warm (default 2)
+ * - driver.pool.maxReuse scenarios served per session before it is recycled (default 25)
+ *
+ * @author Sherwin
+ * @since 18-11-2025
+ */
+
+public final class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private static final LinkedBlockingDeque<WebDriver> IDLE = new LinkedBlockingDeque<>();
+    private static final Map<WebDriver, Integer> USES = new ConcurrentHashMap<>();
+    private static final AtomicInteger WARMING = new AtomicInteger();
+    private static final ExecutorService WARMER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "driver-pool-warmer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("driver.pool.enabled",
+                String.valueOf(ConfigReader.get("driver.pool.enabled"))));
+    }
+
+    /**
+     * Hands out a ready session pointed at {@code downloadDir}. Falls back to launching one
+     * synchronously when nothing is warm yet; either way tops the pool up in the background.
+     */
+    public static WebDriver borrow(String downloadDir) {
+        long t0 = System.currentTimeMillis();
+        WebDriver driver;
+        while ((driver = IDLE.pollFirst()) != null && !isAlive(driver)) {
+            discard(driver);
+        }
+        if (driver == null) {
+            driver = DriverFactory.createChromeSession(downloadDir);
+            USES.put(driver, 0);
+            logger.info("🧊 Pool empty → launched session synchronously in {} ms", System.currentTimeMillis() - t0);
+        } else {
+            DriverFactory.applyDownloadDir(driver, downloadDir);
+            logger.info("🔥 Borrowed warm session in {} ms (idle left={})", System.currentTimeMillis() - t0, IDLE.size());
+        }
+        USES.merge(driver, 1, Integer::sum);
+        warm();
+        return driver;
+    }
+
+    /** True if the session was launched by the pool (only those may be {@link #release released}). */
+    public static boolean owns(WebDriver driver) {
+        return driver != null && USES.containsKey(driver);
+    }
+
+    /** Resets the session and parks it for the next scenario; recycles it if reset fails or it is worn out. */
+    public static void release(WebDriver driver) {
+        if (driver == null) return;
+        int uses = USES.getOrDefault(driver, 0);
+        if (uses >= readInt("driver.pool.maxReuse", 25)) {
+            logger.info("♻️ Session served {} scenarios → recycling", uses);
+            discard(driver);
+            warm();
+            return;
+        }
+        long t0 = System.currentTimeMillis();
+        try {
+            reset(driver);
+            IDLE.offerLast(driver);
+            logger.info("🧽 Session reset and returned to pool in {} ms (idle={})", System.currentTimeMillis() - t0, IDLE.size());
+        } catch (Exception e) {
+            logger.warn("⚠️ Session reset failed → discarding: {}", e.toString());
+            discard(driver);
+            warm();
+        }
+    }
+
+    /** Keeps {@code driver.pool.size} idle sessions available, launching the shortfall in the background. */
+    public static void warm() {
+        int target = readInt("driver.pool.size", 2);
+        while (true) {
+            // reserve a warm-up slot atomically: concurrent release()/discard() callers must not both launch it
+            int warming = WARMING.get();
+            if (IDLE.size() + warming >= target) return;
+            if (!WARMING.compareAndSet(warming, warming + 1)) continue;
+            WARMER.submit(() -> {
+                try {
+                    long t0 = System.currentTimeMillis();
+                    WebDriver d = DriverFactory.createChromeSession(stagingDownloadDir());
+                    USES.put(d, 0);
+                    IDLE.offerLast(d);
+                    logger.info("🌡️ Warmed pooled session in {} ms (idle={})", System.currentTimeMillis() - t0, IDLE.size());
+                } catch (Exception e) {
+                    logger.warn("⚠️ Background session warm-up failed: {}", e.toString());
+                } finally {
+                    WARMING.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /** Quits every session the pool still knows about. Registered as a JVM shutdown hook. */
+    public static void shutdown() {
+        WARMER.shutdownNow();
+        List<WebDriver> all = new ArrayList<>(USES.keySet());
+        IDLE.clear();
+        for (WebDriver d : all) discard(d);
+        if (!all.isEmpty()) logger.info("🪚 Driver pool shut down ({} sessions closed)", all.size());
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static void reset(WebDriver driver) {
+        // 1) close extra tabs/windows, keep the first one
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i)).close();
+        }
+        driver.switchTo().window(handles.get(0));
+
+        // 2) page-level storage of whatever origin we are on
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try{localStorage.clear();}catch(e){} try{sessionStorage.clear();}catch(e){}");
+        } catch (Exception ignored) {
+        }
+
+        // 3) browser-wide cookies + app-origin storage via CDP
+        if (driver instanceof ChromiumDriver) {
+            ChromiumDriver cd = (ChromiumDriver) driver;
+            cd.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            String origin = appOrigin();
+            if (origin != null) {
+                cd.executeCdpCommand("Storage.clearDataForOrigin", Map.of(
+                        "origin", origin,
+                        "storageTypes", "local_storage,session_storage,indexeddb,cache_storage,service_workers,cookies"));
+            }
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+
+        // 4) neutral page + config defaults (steps may have changed timeouts/window)
+        driver.get("about:blank");
+        DriverFactory.applyDefaults(driver);
+        NetworkIdleTracker.reset(driver);
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void discard(WebDriver driver) {
+        USES.remove(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error during pooled driver.quit(): {}", e.getMessage());
+        }
+    }
+
+    private static String appOrigin() {
+        try {
+            URI u = URI.create(ConfigReader.get("baseUrl"));
+            return u.getScheme() + "://" + u.getAuthority();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** Warm sessions download here until a scenario borrows them and re-points downloads. */
+    private static String stagingDownloadDir() {
+        Path p = Paths.get(System.getProperty("user.dir"), "downloads");
+        try { Files.createDirectories(p); } catch (Exception ignored) {}
+        return p.toAbsolutePath().toString();
+    }
+
+    private static int readInt(String key, int def) {
+        String v = System.getProperty(key, ConfigReader.get(key));
+        try { return v == null ? def : Integer.parseInt(v.trim()); } catch (NumberFormatException e) { return def; }
+    }
+}
@@ -20,6 +20,12 @@ public class FileUtils {
             }
         } catch (Throwable ignored) { /* config may not be present */ }
 
+        // per-scenario dir set by Hooks (differs per worker in parallel runs)
+        Object scoped = ScenarioContext.get("download.dir");
+        if (scoped != null && !scoped.toString().trim().isEmpty()) {
+            return new File(scoped.toString().trim()).getAbsoluteFile();
+        }
+
         String sys = System.getProperty("download.dir");
         if (sys != null && !sys.trim().isEmpty()) {
             return new File(sys.trim()).getAbsoluteFile();
@@ -36,13 +42,13 @@ public class FileUtils {
         long deadline = System.currentTimeMillis() + timeoutSeconds * 1000L;
         while (System.currentTimeMillis() < deadline) {
             if (targetFile.exists() && targetFile.isFile() && targetFile.length() > 0) {
-                try { Thread.sleep(300); } catch (InterruptedException ignored) {}
+                try { Pacer.poll("FileUtils.waitForFileDownload", 300); } catch (InterruptedException ignored) {}
                 long s1 = targetFile.length();
-                try { Thread.sleep(300); } catch (InterruptedException ignored) {}
+                try { Pacer.poll("FileUtils.waitForFileDownload", 300); } catch (InterruptedException ignored) {}
                 long s2 = targetFile.length();
                 if (s1 == s2) return targetFile;
             }
-            try { Thread.sleep(500); } catch (InterruptedException ignored) {}
+            try { Pacer.poll("FileUtils.waitForFileDownload", 500); } catch (InterruptedException ignored) {}
         }
         return targetFile; // may not exist; caller should check exists()
     }
@@ -87,12 +93,12 @@ public class FileUtils {
                 }
                 if (best != null) {
                     long size1 = best.length();
-                    Thread.sleep(400);
+                    Pacer.poll("FileUtils.waitForMatchingDownload", 400);
                     long size2 = best.length();
                     if (size1 == size2 && size2 > 0) return best;
                 }
             }
-            Thread.sleep(500);
+            Pacer.poll("FileUtils.waitForMatchingDownload", 500);
         }
         return null; // timed out
     }
@@ -0,0 +1,303 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v139.network.Network;
+import org.openqa.selenium.devtools.v139.network.model.RequestId;
+import org.openqa.selenium.devtools.v139.network.model.ResourceType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Captures the grid's backend responses (fetch/XHR JSON) through the session's DevTools connection, so
+ * page objects can read rows from the exact payload instead of scraping rendered cells.
+ * <p>
+ * Listeners only record metadata ({@code Network.responseReceived} for URLs matching
+ * {@code grid.api.urlPattern}, then {@code Network.loadingFinished}); bodies are fetched lazily with
+ * {@code Network.getResponseBody} on the caller's thread (sending a CDP command from inside a listener
+ * would block the connection that has to deliver its answer). The last {@code grid.api.keep} responses
+ * are kept per session.
+ * <p>
+ * Parsing is independent of the browser: {@link #rows(String)}, {@link #toComplianceRow(JsonNode)} and
+ * {@link #status(JsonNode)} take the JSON text / nodes, so the mapping can be checked against canned payloads,
+ * and the capture itself against a local stub server (any URL matching the pattern is captured).
+ * <p>
+ * Config (system property overrides config.properties):
+ * - grid.api.enabled       attach the capture to new sessions (default false)
+ * - grid.api.urlPattern    regex (find) on the response URL (e.g. /api/.+/compliances)
+ * - grid.api.rowsPath      JSON pointer to the row array (e.g. /data/items); blank = first array of objects found
+ * - grid.api.field.name / .office / .dueDate / .status
+ *                          comma-separated candidate field names, dotted for nested objects (office.name)
+ * - grid.api.keep          responses kept per session (default 30)
+ * - grid.api.domSampleEvery page objects cross-check every N-th API read against the DOM (default 5)
+ * - grid.api.awaitMs       how long a read waits for a response newer than the last navigation (default 300)
+ *
+ * @author Sherwin
+ * @since 29-11-2025
+ */
+
+public final class GridApiCapture {
+
+    private static final Logger logger = LogManager.getLogger(GridApiCapture.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final Map<WebDriver, GridApiCapture> CAPTURES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** One captured response; the body is fetched on first access. */
+    public static final class Response {
+        public final long seq;
+        public final String url;
+        public final int status;
+        private final String requestId;
+        private volatile boolean finished;
+        private String body;
+
+        private Response(long seq, String requestId, String url, int status) {
+            this.seq = seq;
+            this.requestId = requestId;
+            this.url = url;
+            this.status = status;
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+    }
+
+    private final DevTools devTools;
+    private final Pattern urlPattern;
+    private final Deque<Response> responses = new ArrayDeque<>();
+    private final Map<String, Response> pending = new ConcurrentHashMap<>();
+    private long seq;
+
+    private GridApiCapture(DevTools devTools, Pattern urlPattern) {
+        this.devTools = devTools;
+        this.urlPattern = urlPattern;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("grid.api.enabled", String.valueOf(ConfigReader.get("grid.api.enabled"))));
+    }
+
+    /** Starts capturing on the driver's (already created) DevTools session. No-op unless enabled and configured. */
+    public static void attach(WebDriver driver) {
+        if (!isEnabled() || !(driver instanceof HasDevTools) || CAPTURES.containsKey(driver)) return;
+        String pattern = get("grid.api.urlPattern");
+        if (pattern == null || pattern.isBlank()) {
+            logger.warn("⚠️ grid.api.enabled=true but grid.api.urlPattern is blank; API capture not attached.");
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            GridApiCapture capture = new GridApiCapture(devTools, Pattern.compile(pattern.trim()));
+            devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            devTools.addListener(Network.responseReceived(), e -> {
+                ResourceType type = e.getType();
+                String url = e.getResponse().getUrl();
+                if ((type == ResourceType.XHR || type == ResourceType.FETCH) && capture.urlPattern.matcher(url).find()) {
+                    capture.received(e.getRequestId().toString(), url, e.getResponse().getStatus());
+                }
+            });
+            devTools.addListener(Network.loadingFinished(), e -> capture.finished(e.getRequestId().toString()));
+            devTools.addListener(Network.loadingFailed(), e -> capture.pending.remove(e.getRequestId().toString()));
+            CAPTURES.put(driver, capture);
+            logger.info("📡 Grid API capture enabled for responses matching '{}'", pattern.trim());
+        } catch (Throwable t) {
+            logger.warn("⚠️ Could not enable grid API capture (DOM reads only): {}", t.toString());
+        }
+    }
+
+    /** True if {@link #attach(WebDriver)} succeeded for this driver. */
+    public static boolean isTracked(WebDriver driver) {
+        return driver != null && CAPTURES.containsKey(driver);
+    }
+
+    /** Newest finished 2xx response, or null. */
+    public static Response latest(WebDriver driver) {
+        GridApiCapture c = CAPTURES.get(driver);
+        if (c == null) return null;
+        synchronized (c) {
+            Iterator<Response> it = c.responses.descendingIterator();
+            while (it.hasNext()) {
+                Response r = it.next();
+                if (r.finished && r.status >= 200 && r.status < 300) return r;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits for a finished response newer than {@code afterSeq}.
+     *
+     * @return the response, or null on timeout / untracked driver
+     */
+    public static Response awaitNext(WebDriver driver, long afterSeq, Duration timeout) {
+        GridApiCapture c = CAPTURES.get(driver);
+        if (c == null) return null;
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        synchronized (c) {
+            while (true) {
+                Response r = latest(driver);
+                if (r != null && r.seq > afterSeq) return r;
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) return null;
+                try {
+                    c.wait(left);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+    }
+
+    /** Sequence number of the newest finished response (-1 if none), for {@link #awaitNext}. */
+    public static long lastSeq(WebDriver driver) {
+        Response r = latest(driver);
+        return r == null ? -1 : r.seq;
+    }
+
+    /** Body text of a captured response ("" if Chrome no longer holds it). */
+    public static String body(WebDriver driver, Response r) {
+        GridApiCapture c = CAPTURES.get(driver);
+        if (c == null || r == null) return "";
+        synchronized (r) {
+            if (r.body != null) return r.body;
+            try {
+                Network.GetResponseBodyResponse b = c.devTools.send(Network.getResponseBody(new RequestId(r.requestId)));
+                r.body = Boolean.TRUE.equals(b.getBase64Encoded())
+                        ? new String(Base64.getDecoder().decode(b.getBody()), StandardCharsets.UTF_8)
+                        : b.getBody();
+            } catch (Exception e) {
+                logger.warn("⚠️ Body of {} no longer available: {}", r.url, e.toString());
+                r.body = "";
+            }
+            return r.body;
+        }
+    }
+
+    /** Row objects of the newest response, or null if there is none or it has no row array. */
+    public static List<JsonNode> latestRows(WebDriver driver) {
+        Response r = latest(driver);
+        return r == null ? null : rows(body(driver, r));
+    }
+
+    /** Every how many API reads page objects also read the DOM to cross-check (grid.api.domSampleEvery, default 5). */
+    public static int domSampleEvery() {
+        return (int) Math.max(1, getLong("grid.api.domSampleEvery", 5));
+    }
+
+    /** How long a page read waits for a response newer than its watermark (grid.api.awaitMs, default 300). */
+    public static Duration awaitTimeout() {
+        return Duration.ofMillis(Math.max(0, getLong("grid.api.awaitMs", 300)));
+    }
+
+    // ---------------------------------------------------------------- parsing (browser-independent)
+
+    /** Row objects of a grid payload (at grid.api.rowsPath, else the first array of objects); null if none. */
+    public static List<JsonNode> rows(String json) {
+        if (json == null || json.isBlank()) return null;
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            String path = get("grid.api.rowsPath");
+            JsonNode array = (path == null || path.isBlank()) ? firstObjectArray(root) : root.at(path.trim());
+            if (array == null || !array.isArray()) return null;
+            List<JsonNode> out = new ArrayList<>(array.size());
+            for (JsonNode n : array) if (n.isObject()) out.add(n);
+            return out;
+        } catch (Exception e) {
+            logger.warn("⚠️ Grid payload is not JSON: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Maps a payload row to ComplianceRow via the configured field names; null when it has no name. */
+    public static ComplianceRow toComplianceRow(JsonNode row) {
+        String name = field(row, "grid.api.field.name", "name,title,complianceName");
+        if (name.isEmpty()) return null;
+        ComplianceRow cr = new ComplianceRow();
+        cr.setName(name);
+        cr.setOffice(field(row, "grid.api.field.office", "office.name,officeName,office"));
+        cr.setDueDate(field(row, "grid.api.field.dueDate", "dueDate,due_date,dueOn"));
+        return cr;
+    }
+
+    /** Status text of a payload row ("" if absent). */
+    public static String status(JsonNode row) {
+        return field(row, "grid.api.field.status", "status.name,statusName,status,state");
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private synchronized void received(String requestId, String url, int status) {
+        Response r = new Response(++seq, requestId, url, status);
+        pending.put(requestId, r);
+        responses.addLast(r);
+        long keep = getLong("grid.api.keep", 30);
+        while (responses.size() > keep) responses.removeFirst();
+    }
+
+    private synchronized void finished(String requestId) {
+        Response r = pending.remove(requestId);
+        if (r == null) return;
+        r.finished = true;
+        notifyAll();
+    }
+
+    private static String field(JsonNode row, String key, String defaults) {
+        String candidates = get(key);
+        if (candidates == null || candidates.isBlank()) candidates = defaults;
+        for (String c : candidates.split(",")) {
+            JsonNode n = row;
+            for (String part : c.trim().split("\\.")) n = n == null ? null : n.get(part);
+            if (n != null && n.isValueNode() && !n.isNull()) {
+                String v = n.asText().trim();
+                if (!v.isEmpty()) return v;
+            }
+        }
+        return "";
+    }
+
+    private static JsonNode firstObjectArray(JsonNode root) {
+        Deque<JsonNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            JsonNode n = queue.removeFirst();
+            if (n.isArray() && n.size() > 0 && n.get(0).isObject()) return n;
+            if (n.isContainerNode()) n.forEach(queue::addLast);
+        }
+        return null;
+    }
+
+    private static String get(String key) {
+        return System.getProperty(key, ConfigReader.get(key));
+    }
+
+    private static long getLong(String key, long def) {
+        try {
+            String v = get(key);
+            return (v == null || v.trim().isEmpty()) ? def : Long.parseLong(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+/**
+ * Content hash of a whole grid, computed in the page in one script call: the change-detection
+ * primitive for pagination, filter reloads and sort verification.
+ * <p>
+ * Every row matched by the selector contributes its key (its {@code data-row-key} / {@code data-id} /
+ * {@code id} attribute, else its normalized text) to two independent order-sensitive 32-bit rolling
+ * hashes (FNV-1a and a multiply-add). The result is {@code "<rows>:<hash1><hash2>"}: any row added,
+ * removed, changed or reordered changes it, unlike a first/last-row signature, which collides when two
+ * pages share their edge rows.
+ * <p>
+ * {@link #changedPredicate(String)} is the same computation as a predicate for
+ * {@link WaitUtils#waitForDomCondition}, so the value captured before an action and the in-page check
+ * after it can never disagree.
+ *
+ * @author Sherwin
+ * @since 28-11-2025
+ */
+
+public final class GridHash {
+
+    private GridHash() {
+    }
+
+    /** JS expression evaluating to the hash of the rows matched by {@code rowSelector}. */
+    public static String expression(String rowSelector) {
+        return "(function (sel) {" +
+                "  var rows = document.querySelectorAll(sel), h1 = 0x811c9dc5, h2 = 7;" +
+                "  for (var r = 0; r < rows.length; r++) {" +
+                "    var e = rows[r], k = e.getAttribute('data-row-key') || e.getAttribute('data-id') || e.id ||" +
+                "        (e.innerText || '').replace(/[\\u00A0\\u200B\\u200C\\u200D]/g, ' ').replace(/\\s+/g, ' ').trim();" +
+                "    k += '\\u0001';" +
+                "    for (var i = 0; i < k.length; i++) {" +
+                "      var c = k.charCodeAt(i);" +
+                "      h1 = Math.imul(h1 ^ c, 16777619);" +
+                "      h2 = (Math.imul(h2, 31) + c) | 0;" +
+                "    }" +
+                "  }" +
+                "  function hex(h) { return ('0000000' + (h >>> 0).toString(16)).slice(-8); }" +
+                "  return rows.length + ':' + hex(h1) + hex(h2);" +
+                "})(" + jsString(rowSelector) + ")";
+    }
+
+    /** Predicate (for waitForDomCondition) that is true once the hash differs from {@code args[0]}. */
+    public static String changedPredicate(String rowSelector) {
+        return "return " + expression(rowSelector) + " !== args[0];";
+    }
+
+    /** Current hash of the grid; "" if the script could not run. */
+    public static String compute(WebDriver driver, String rowSelector) {
+        try {
+            Object h = ((JavascriptExecutor) driver).executeScript("return " + expression(rowSelector) + ";");
+            return h == null ? "" : h.toString();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    /**
+     * Waits (MutationObserver, no client polling) until the grid hash differs from {@code previous}.
+     *
+     * @return elapsed ms, or -1 if it did not change within {@code timeout}
+     */
+    public static long waitForChange(WaitUtils wait, String rowSelector, String previous, Duration timeout) {
+        return wait.waitForDomCondition(changedPredicate(rowSelector), timeout, previous == null ? "" : previous);
+    }
+
+    /** True if the hash describes a grid without rows. */
+    public static boolean isEmpty(String hash) {
+        return hash == null || hash.isEmpty() || hash.startsWith("0:");
+    }
+
+    private static String jsString(String s) {
+        return "'" + s.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+}
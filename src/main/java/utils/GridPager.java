@@ -0,0 +1,295 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Random-access pagination for a grid: jump straight to page N instead of stepping with Next/Prev.
+ * <p>
+ * Strategies, cheapest first:
+ * 1) route/query parameter ({@code grid.pager.queryParam}, e.g. "page"), when the app supports one:
+ *    one navigation, whatever N is;
+ * 2) numbered paginator items: click N if it is shown, otherwise the shown number closest to N
+ *    (windowed pagers show first/last and neighbours, so first/last are one click and any page a few);
+ * 3) Next/Prev stepping as the last resort.
+ * Every hop waits for the grid's content hash ({@link GridHash}) to change, not for staleness + a fixed delay.
+ * <p>
+ * {@link #setPageSize(int)} / {@link #maximizePageSize()} drive a rows-per-page selector (native
+ * {@code <select>} or a listbox trigger next to "Rows per page") so fewer pages need reading at all.
+ * <p>
+ * Config (system property overrides config.properties):
+ * - grid.pager.queryParam     query parameter holding the page number (default: none, strategy off)
+ * - grid.pager.maxHops        safety bound on clicks per jump (default 200)
+ *
+ * @author Sherwin
+ * @since 28-11-2025
+ */
+
+public final class GridPager {
+
+    private static final Logger logger = LogManager.getLogger(GridPager.class);
+
+    /** Reads the paginator in one call: current page, highest shown page, and the item to click toward arguments[0]. */
+    private static final String PAGER_STATE_JS =
+            "var want = arguments[0];" +
+            "var items = document.querySelectorAll(\"ul.MuiPagination-ul button, nav[aria-label*='pagination'] button," +
+            "  .pagination button, .pagination a, li.ant-pagination-item, [aria-label^='Go to page'], [aria-label^='page ']\");" +
+            "var active = \"[aria-current='page'], [aria-current='true'], .Mui-selected, .ant-pagination-item-active, li.active, li.selected\";" +
+            "function num(e) { var t = (e.innerText || '').trim(); if (/^\\d+$/.test(t)) return +t;" +
+            "  var m = (e.getAttribute('aria-label') || '').match(/page\\s+(\\d+)/i); return m ? +m[1] : -1; }" +
+            "function vis(e) { var r = e.getBoundingClientRect(); return r.width > 0 && r.height > 0; }" +
+            "var cur = -1, last = -1, pool = [];" +
+            "for (var i = 0; i < items.length; i++) { var e = items[i], n = num(e); if (n < 0 || !vis(e)) continue;" +
+            "  if (e.matches(active) || e.closest(active)) cur = n;" +
+            "  if (n > last) last = n;" +
+            "  if (!e.disabled && e.getAttribute('aria-disabled') !== 'true') pool.push([n, e]); }" +
+            "var best = null, bestN = -1;" +
+            "for (var j = 0; j < pool.length; j++) { var n2 = pool[j][0];" +
+            "  if (n2 === cur) continue;" +
+            "  if (cur > 0 && (n2 - cur) * (want - cur) <= 0) continue;" +        // wrong direction
+            "  if (bestN < 0 || Math.abs(want - n2) < Math.abs(want - bestN)) { best = pool[j][1]; bestN = n2; } }" +
+            "return { current: cur, last: last, target: bestN, el: best };";
+
+    private static final By PAGE_SIZE_SELECT_BY =
+            By.xpath("//select[option and not(option[string(number(normalize-space(.)))='NaN'])]");
+    private static final By PAGE_SIZE_TRIGGER_BY = By.xpath(
+            "//*[contains(translate(normalize-space(text()),'ROWSPERAG','rowsperag'),'rows per page')]" +
+            "/following::*[@aria-haspopup='listbox' and (@role='button' or @role='combobox')][1]");
+    private static final By LISTBOX_OPTIONS_BY = By.xpath("//li[@role='option']");
+
+    private final WebDriver driver;
+    private final WaitUtils wait;
+    private final String rowSelector;
+    private final List<By> nextBy;
+    private final List<By> prevBy;
+
+    /**
+     * @param rowSelector CSS selector of the grid body rows (what {@link GridHash} watches)
+     * @param nextBy      candidates for the Next control, most specific first (used only when no numbered item
+     *                    leads to the target); a later locator is tried only when the earlier ones find nothing usable
+     * @param prevBy      candidates for the Prev control, most specific first
+     */
+    public GridPager(WebDriver driver, WaitUtils wait, String rowSelector, List<By> nextBy, List<By> prevBy) {
+        this.driver = driver;
+        this.wait = wait;
+        this.rowSelector = rowSelector;
+        this.nextBy = nextBy;
+        this.prevBy = prevBy;
+    }
+
+    /** Current page from the paginator, or -1 if it shows none. */
+    public int currentPage() {
+        return number(state(1), "current");
+    }
+
+    /** Highest page number shown by the paginator (the last page for windowed pagers), or -1. */
+    public int lastPage() {
+        return number(state(1), "last");
+    }
+
+    public boolean goToFirst(Duration hopTimeout) {
+        return goToPage(1, hopTimeout);
+    }
+
+    /** Goes to the highest page the paginator knows about. */
+    public boolean goToLast(Duration hopTimeout) {
+        int last = lastPage();
+        if (last < 1) {
+            logger.warn("⚠️ Last page not shown by the paginator; cannot jump to it.");
+            return false;
+        }
+        return goToPage(last, hopTimeout);
+    }
+
+    /**
+     * Navigates to page {@code n}.
+     *
+     * @param hopTimeout max wait for the grid to change after each navigation
+     * @return true if the paginator reports page {@code n} afterwards (or, without a readable paginator,
+     * if the last hop changed the grid)
+     */
+    public boolean goToPage(int n, Duration hopTimeout) {
+        if (n < 1) throw new IllegalArgumentException("page must be >= 1");
+        final long t0 = System.currentTimeMillis();
+        final long maxHops = getLong("grid.pager.maxHops", 200);
+        String via = "none";
+        int hops = 0;
+        boolean queryTried = false;
+
+        while (hops < maxHops) {
+            Map<String, Object> s = state(n);
+            int current = number(s, "current");
+            if (current == n) {
+                logger.info("🔢 On page {} via {} ({} hop(s), {} ms)", n, via, hops, System.currentTimeMillis() - t0);
+                return true;
+            }
+
+            String param = System.getProperty("grid.pager.queryParam", ConfigReader.get("grid.pager.queryParam"));
+            if (!queryTried && param != null && !param.isBlank()) {
+                queryTried = true;
+                hops++;
+                via = "query parameter";
+                if (navigateByQuery(param.trim(), n, hopTimeout)) continue;
+            }
+
+            String before = GridHash.compute(driver, rowSelector);
+            WebElement target = (WebElement) s.get("el");
+            if (target != null) {
+                via = hops == 0 || "numbered item".equals(via) ? "numbered item" : via + " + numbered item";
+            } else {
+                if (current < 0 && n != 1) {
+                    logger.warn("⚠️ Page {} not shown and current page unknown; cannot step towards it.", n);
+                    return false;
+                }
+                target = firstUsable(current < 0 || n < current ? prevBy : nextBy);
+                if (target == null) {
+                    // no way further in that direction; without a paginator label, that is page 1/last
+                    boolean atEdge = current < 0 && n == 1;
+                    logger.info("🔢 No control towards page {} (current={}); {}", n, current, atEdge ? "treating as first page" : "giving up");
+                    return atEdge;
+                }
+                via = via.contains("stepping") ? via : ("none".equals(via) ? "" : via + " + ") + "stepping";
+            }
+
+            hops++;
+            click(target);
+            if (GridHash.waitForChange(wait, rowSelector, before, hopTimeout) < 0) {
+                logger.warn("⌛ Grid did not change within {} ms on the way to page {} (via {}).", hopTimeout.toMillis(), n, via);
+                return number(state(n), "current") == n;
+            }
+        }
+        logger.warn("🛑 Gave up reaching page {} after {} hop(s).", n, hops);
+        return false;
+    }
+
+    /** Selects {@code size} rows per page; false if there is no selector or no such option. */
+    public boolean setPageSize(int size) {
+        String before = GridHash.compute(driver, rowSelector);
+        boolean set = choosePageSize(String.valueOf(size));
+        if (set) GridHash.waitForChange(wait, rowSelector, before, Duration.ofMillis(ReusableCommonMethods.NAV_FAIL_MS));
+        return set;
+    }
+
+    /** Selects the largest rows-per-page option; returns it, or -1 if there is no selector. */
+    public int maximizePageSize() {
+        int max = -1;
+        List<WebElement> selects = wait.findAllNow(PAGE_SIZE_SELECT_BY);
+        if (!selects.isEmpty()) {
+            for (WebElement o : new Select(selects.get(0)).getOptions()) max = Math.max(max, parse(o.getText()));
+        } else {
+            List<WebElement> triggers = wait.findAllNow(PAGE_SIZE_TRIGGER_BY);
+            if (triggers.isEmpty()) return -1;
+            click(triggers.get(0));
+            for (WebElement o : wait.findAllNow(LISTBOX_OPTIONS_BY)) max = Math.max(max, parse(o.getText()));
+            driver.findElement(By.tagName("body")).sendKeys(org.openqa.selenium.Keys.ESCAPE);
+        }
+        if (max < 1) return -1;
+        return setPageSize(max) ? max : -1;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> state(int want) {
+        try {
+            Object r = ((JavascriptExecutor) driver).executeScript(PAGER_STATE_JS, Long.valueOf(want));
+            return r instanceof Map ? (Map<String, Object>) r : Map.of();
+        } catch (Exception e) {
+            return Map.of();
+        }
+    }
+
+    private static int number(Map<String, Object> s, String key) {
+        Object v = s.get(key);
+        return v instanceof Number ? ((Number) v).intValue() : -1;
+    }
+
+    private boolean navigateByQuery(String param, int n, Duration timeout) {
+        try {
+            URI u = URI.create(driver.getCurrentUrl());
+            String query = u.getRawQuery() == null ? "" : u.getRawQuery().replaceAll("(^|&)" + param + "=[^&]*", "");
+            query = (query.isEmpty() || query.startsWith("&") ? param + "=" + n + query : param + "=" + n + "&" + query);
+            String url = new URI(u.getScheme(), u.getRawAuthority(), u.getRawPath(), null, null) + "?" + query
+                    + (u.getRawFragment() == null ? "" : "#" + u.getRawFragment());
+            driver.get(url);
+            return wait.untilDom("return document.querySelectorAll(args[0]).length > 0;", timeout, rowSelector);
+        } catch (Exception e) {
+            logger.warn("⚠️ Query-parameter paging failed ({}); falling back to the paginator.", e.toString());
+            return false;
+        }
+    }
+
+    private boolean choosePageSize(String size) {
+        List<WebElement> selects = wait.findAllNow(PAGE_SIZE_SELECT_BY);
+        if (!selects.isEmpty()) {
+            try {
+                new Select(selects.get(0)).selectByVisibleText(size);
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+        List<WebElement> triggers = wait.findAllNow(PAGE_SIZE_TRIGGER_BY);
+        if (triggers.isEmpty()) return false;
+        click(triggers.get(0));
+        for (WebElement o : wait.findAllNow(LISTBOX_OPTIONS_BY)) {
+            if (size.equals(o.getText().trim())) {
+                click(o);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private WebElement firstUsable(List<By> tiers) {
+        for (By by : tiers) {
+            for (WebElement b : wait.findAllNow(by)) {
+                try {
+                    String cls = b.getAttribute("class");
+                    boolean disabled = "true".equalsIgnoreCase(b.getAttribute("aria-disabled")) || b.getAttribute("disabled") != null
+                            || (cls != null && cls.toLowerCase().contains("disabled"));
+                    if (b.isDisplayed() && b.isEnabled() && !disabled) return b;
+                } catch (Exception ignore) {
+                }
+            }
+        }
+        return null;
+    }
+
+    private void click(WebElement el) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        try {
+            js.executeScript("arguments[0].scrollIntoView({block:'center'});", el);
+            el.click();
+        } catch (Exception e) {
+            js.executeScript("arguments[0].click();", el);
+        }
+    }
+
+    private static int parse(String s) {
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static long getLong(String key, long def) {
+        try {
+            String v = System.getProperty(key, ConfigReader.get(key));
+            return (v == null || v.trim().isEmpty()) ? def : Long.parseLong(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
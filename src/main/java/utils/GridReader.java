@@ -0,0 +1,164 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Header-driven reader for one table of a page object, on top of {@link GridSnapshot}.
+ * <p>
+ * The page object declares its logical columns once ({@link #column(String, int, String...)}: name,
+ * fallback index, header aliases). On the first read after a page load the header texts come back with
+ * the snapshot and are matched against the aliases (exact, then prefix, then contains; case- and
+ * whitespace-insensitive); the resulting column → index mapping is cached until the page key changes
+ * (new document, route or table shape), so later reads skip the headers entirely. Rows come back as
+ * {@link GridRow}s addressed by column name.
+ * <p>
+ * Fallback indexes are used when a header cannot be found (tables without a thead); a negative fallback
+ * counts from the end of the row (-1 = last cell).
+ *
+ * @author Sherwin
+ * @since 27-11-2025
+ */
+
+public final class GridReader {
+
+    private static final Logger logger = LogManager.getLogger(GridReader.class);
+
+    private static final class Column {
+        final int fallbackIndex;
+        final List<String> aliases = new ArrayList<>();
+
+        Column(int fallbackIndex) {
+            this.fallbackIndex = fallbackIndex;
+        }
+    }
+
+    private final WebDriver driver;
+    private final String name;
+    private final List<String> rowSelectors;
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    private String pageKey;
+    private List<String> headers = List.of();
+    private Map<String, Integer> mapping = Map.of();
+    private String lastSelector;
+
+    /**
+     * @param name         label for logs (e.g. "Compliances")
+     * @param rowSelectors CSS selectors for the body rows, tried in order (see {@link GridSnapshot})
+     */
+    public GridReader(WebDriver driver, String name, String... rowSelectors) {
+        this.driver = driver;
+        this.name = name;
+        this.rowSelectors = List.of(rowSelectors);
+    }
+
+    /** Declares a logical column: header aliases to look for, and the index to use when none matches. */
+    public GridReader column(String column, int fallbackIndex, String... headerAliases) {
+        Column c = new Column(fallbackIndex);
+        for (String a : headerAliases) c.aliases.add(norm(a));
+        columns.put(column, c);
+        return this;
+    }
+
+    /** Reads every row of the current page in one script. */
+    public List<GridRow> read() {
+        GridSnapshot snap = GridSnapshot.capture(driver, pageKey, rowSelectors);
+        if (snap.page != null && !snap.page.equals(pageKey)) {
+            resolve(snap.page, snap.headers);
+        }
+        lastSelector = snap.selector;
+        List<GridRow> out = new ArrayList<>(snap.rows.size());
+        for (int i = 0; i < snap.rows.size(); i++) out.add(new GridRow(this, snap.rows.get(i), i));
+        return out;
+    }
+
+    /** Reads and maps every row; rows the mapper returns null for are skipped. */
+    public <T> List<T> read(Function<GridRow, T> mapper) {
+        List<T> out = new ArrayList<>();
+        for (GridRow row : read()) {
+            T t = mapper.apply(row);
+            if (t != null) out.add(t);
+        }
+        return out;
+    }
+
+    /**
+     * Header texts of the current page's table (raw, in column order, blanks included). Costs one snapshot;
+     * the headers themselves are only re-read after a page change.
+     */
+    public List<String> headers() {
+        read();
+        return headers;
+    }
+
+    /** Resolved index of {@code column} for a row of {@code width} cells, or -1 if it is not there. */
+    public int indexOf(String column, int width) {
+        Integer mapped = mapping.get(column);
+        if (mapped != null) return mapped < width ? mapped : -1;
+        Column c = columns.get(column);
+        if (c == null) throw new IllegalArgumentException("Unknown column '" + column + "' for grid " + name);
+        int idx = c.fallbackIndex < 0 ? width + c.fallbackIndex : c.fallbackIndex;
+        return idx >= 0 && idx < width ? idx : -1;
+    }
+
+    /** Live element of a row from the last {@link #read()} (one lookup, e.g. to click it). */
+    public WebElement element(GridRow row) {
+        if (lastSelector == null) throw new IllegalStateException("Grid " + name + " has not been read");
+        List<WebElement> rows = driver.findElements(By.cssSelector(lastSelector));
+        if (row.index() >= rows.size()) throw new IllegalStateException("Grid " + name + " changed since it was read");
+        return rows.get(row.index());
+    }
+
+    /** Forgets the cached mapping (next read re-resolves the headers). */
+    public void invalidate() {
+        pageKey = null;
+        headers = List.of();
+        mapping = Map.of();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void resolve(String page, List<String> rawHeaders) {
+        List<String> normalized = new ArrayList<>(rawHeaders.size());
+        for (String h : rawHeaders) normalized.add(norm(h));
+
+        Map<String, Integer> resolved = new LinkedHashMap<>();
+        for (Map.Entry<String, Column> e : columns.entrySet()) {
+            int idx = match(normalized, e.getValue().aliases);
+            if (idx >= 0) resolved.put(e.getKey(), idx);
+        }
+        pageKey = page;
+        headers = List.copyOf(rawHeaders);
+        mapping = resolved;
+        logger.info("🧭 {} grid columns resolved {} from headers {}", name, resolved, rawHeaders);
+    }
+
+    private static int match(List<String> headers, List<String> aliases) {
+        for (String a : aliases) {
+            int i = headers.indexOf(a);
+            if (i >= 0) return i;
+        }
+        for (String a : aliases) {
+            for (int i = 0; i < headers.size(); i++) if (!a.isEmpty() && headers.get(i).startsWith(a)) return i;
+        }
+        for (String a : aliases) {
+            for (int i = 0; i < headers.size(); i++) if (!a.isEmpty() && headers.get(i).contains(a)) return i;
+        }
+        return -1;
+    }
+
+    private static String norm(String s) {
+        return s == null ? "" : s.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,54 @@
+package utils;
+
+/**
+ * One row read by a {@link GridReader}, addressed by logical column name.
+ *
+ * @author Sherwin
+ * @since 27-11-2025
+ */
+
+public final class GridRow {
+
+    private final GridReader reader;
+    private final GridSnapshot.Row row;
+    private final int index;
+
+    GridRow(GridReader reader, GridSnapshot.Row row, int index) {
+        this.reader = reader;
+        this.row = row;
+        this.index = index;
+    }
+
+    /** Trimmed text of the column's cell, "" if the row has no such cell. */
+    public String get(String column) {
+        GridSnapshot.Cell c = cell(column);
+        return c == null ? "" : c.text;
+    }
+
+    /** The column's cell (text, parts, link attributes), or null if the row has no such cell. */
+    public GridSnapshot.Cell cell(String column) {
+        int i = reader.indexOf(column, row.cells.size());
+        return i < 0 ? null : row.cells.get(i);
+    }
+
+    /** Position of the row on the page (0-based). */
+    public int index() {
+        return index;
+    }
+
+    public boolean isEmpty() {
+        return row.cells.isEmpty();
+    }
+
+    /** Underlying snapshot row (row id / data-* attributes, all cells). */
+    public GridSnapshot.Row raw() {
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GridRow#").append(index).append('[');
+        for (int i = 0; i < row.cells.size(); i++) sb.append(i > 0 ? " | " : "").append(row.cells.get(i).text);
+        return sb.append(']').toString();
+    }
+}
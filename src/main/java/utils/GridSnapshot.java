@@ -0,0 +1,138 @@
+package utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Whole-grid read in ONE {@code executeScript}: every row and cell of a table (text plus key
+ * attributes) comes back as a single JSON payload, instead of findElements per row, a nested
+ * findElements per cell and a getText() per cell (dozens of round trips per page).
+ * <p>
+ * Per cell: {@code text} (rendered text, like getText()), {@code parts} (text of each a/span/p inside
+ * the cell, in document order), {@code href} / {@code title} / {@code download} of the first link /
+ * titled element / download link, and the cell's {@code data-*} attributes. Per row: its
+ * {@code id} and {@code data-*} attributes. {@code headers} are the texts of the owning table's header
+ * cells, when it has any; {@code page} identifies the loaded document + route + table shape, so callers
+ * that already hold the headers for that page can skip them (see {@link GridReader}).
+ * <p>
+ * Rows are taken from the first of the given CSS selectors that matches anything, mirroring the
+ * "prefer this locator, else that one" fallbacks the page objects used.
+ *
+ * @author Sherwin
+ * @since 27-11-2025
+ */
+
+public final class GridSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(GridSnapshot.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    static final String SNAPSHOT_JS =
+            "var sels = arguments[0], known = arguments[1], rows = [], sel = null;" +
+            "for (var s = 0; s < sels.length && rows.length === 0; s++) { rows = document.querySelectorAll(sels[s]); sel = sels[s]; }" +
+            "function txt(e) { return e ? (e.innerText || '').trim() : ''; }" +
+            "function data(e) { var o = {}; for (var i = 0; i < e.attributes.length; i++) {" +
+            "  var a = e.attributes[i]; if (a.name.indexOf('data-') === 0) o[a.name] = a.value; } return o; }" +
+            "var headers = [];" +
+            "var table = rows.length ? rows[0].closest('table') : null;" +
+            "var page = performance.timeOrigin + '|' + location.pathname + '|' + (table ? table.querySelectorAll('th').length : 0);" +
+            "if (table && page !== known) { var ths = table.querySelectorAll('thead th, thead td');" +
+            "  if (!ths.length) ths = table.querySelectorAll('tr:first-child th');" +
+            "  for (var h = 0; h < ths.length; h++) headers.push(txt(ths[h])); }" +
+            "var out = [];" +
+            "for (var r = 0; r < rows.length; r++) {" +
+            "  var tds = rows[r].querySelectorAll(':scope > td'), cells = [];" +
+            "  for (var c = 0; c < tds.length; c++) {" +
+            "    var td = tds[c], parts = [], inner = td.querySelectorAll('a, span, p');" +
+            "    for (var p = 0; p < inner.length; p++) parts.push(txt(inner[p]));" +
+            "    var link = td.querySelector('a[href]'), dl = td.querySelector('[download]')," +
+            "        titled = td.matches('[title]') ? td : td.querySelector('[title]');" +
+            "    cells.push({ text: txt(td), parts: parts, href: link ? link.getAttribute('href') : null," +
+            "                 download: dl ? dl.getAttribute('download') : null," +
+            "                 title: titled ? titled.getAttribute('title') : null, data: data(td) });" +
+            "  }" +
+            "  out.push({ id: rows[r].id || null, data: data(rows[r]), cells: cells });" +
+            "}" +
+            "return JSON.stringify({ page: page, selector: rows.length ? sel : null, headers: headers, rows: out });";
+
+    /** One cell of a row. */
+    public static class Cell {
+        public String text = "";
+        public List<String> parts = new ArrayList<>();
+        public String href;
+        public String download;
+        public String title;
+        public Map<String, String> data = new LinkedHashMap<>();
+
+        /** First non-blank a/span/p text, else the cell text (what the name readers used). */
+        public String lead() {
+            for (String p : parts) if (p != null && !p.isEmpty()) return p;
+            return text;
+        }
+    }
+
+    /** One row of the grid. */
+    public static class Row {
+        public String id;
+        public Map<String, String> data = new LinkedHashMap<>();
+        public List<Cell> cells = new ArrayList<>();
+
+        /** Cell text at {@code index}, "" when the row is shorter. */
+        public String text(int index) {
+            return index >= 0 && index < cells.size() ? cells.get(index).text : "";
+        }
+
+        /** Last cell, or null for a row without cells. */
+        public Cell last() {
+            return cells.isEmpty() ? null : cells.get(cells.size() - 1);
+        }
+    }
+
+    /** Page-load key (document time origin, path, header count). */
+    public String page;
+    /** Row selector that matched, null if none did. */
+    public String selector;
+    public List<String> headers = new ArrayList<>();
+    public List<Row> rows = new ArrayList<>();
+
+    /**
+     * Captures the rows matched by the first non-empty selector.
+     *
+     * @return the snapshot; empty (no rows) when nothing matched or the script failed
+     */
+    public static GridSnapshot capture(WebDriver driver, String... rowSelectors) {
+        return capture(driver, null, List.of(rowSelectors));
+    }
+
+    /**
+     * Same as {@link #capture(WebDriver, String...)}, but header texts are only collected when the page key
+     * differs from {@code knownPage} (headers stay empty otherwise).
+     */
+    public static GridSnapshot capture(WebDriver driver, String knownPage, List<String> rowSelectors) {
+        long t0 = System.currentTimeMillis();
+        try {
+            Object json = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_JS, rowSelectors, knownPage);
+            GridSnapshot snap = json == null ? new GridSnapshot() : MAPPER.readValue(json.toString(), GridSnapshot.class);
+            logger.debug("📸 Grid snapshot: {} row(s), {} header(s) in {} ms",
+                    snap.rows.size(), snap.headers.size(), System.currentTimeMillis() - t0);
+            return snap;
+        } catch (Exception e) {
+            logger.warn("⚠️ Grid snapshot failed for {}: {}", rowSelectors, e.toString());
+            return new GridSnapshot();
+        }
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+}
@@ -0,0 +1,172 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Progress of a long page-by-page harvest (rows and page fingerprint per page), saved after every page so
+ * that a retry of the same scenario within the run resumes where the failed attempt stopped instead of
+ * walking from page 1 again.
+ * <p>
+ * A checkpoint is keyed by the scenario's attempt-independent key ({@code <feature file>:<line>}, see
+ * {@link DriverManager#currentScenarioKey()}) + harvest name + a caller context (e.g. the displayed total, so
+ * a changed list starts fresh) and written to {@code target/harvest-checkpoints/}. Cucumber's scenario id is
+ * a new UUID per execution, so it cannot be used: only the feature/line key lets a later attempt find it.
+ * Callers must verify the page they resume on against {@link #fingerprint(int)} before trusting the saved
+ * rows, and {@link #complete()} the checkpoint once the harvest finished.
+ * Checkpoints older than {@code grid.checkpoint.ttl.minutes} are ignored.
+ * <p>
+ * Retrying: {@code runners.TestRunner} writes the failed scenarios to {@code target/rerun.txt} (a sharded run
+ * merges every shard's list into it); rerun them (without {@code mvn clean}, which would delete the
+ * checkpoints) with {@code mvn test -Dcucumber.features=@target/rerun.txt -Dgrid.checkpoint.enabled=true}.
+ * Checkpoints are only saved while {@code grid.checkpoint.enabled} is on, so the FIRST run must have it
+ * enabled too; enabling it only on the rerun finds nothing to resume from.
+ * <p>
+ * Config (system property overrides config.properties):
+ * - grid.checkpoint.enabled      (default false)
+ * - grid.checkpoint.ttl.minutes  (default 60)
+ *
+ * @author Sherwin
+ * @since 30-11-2025
+ */
+
+public final class HarvestCheckpoint<T> {
+
+    private static final Logger logger = LogManager.getLogger(HarvestCheckpoint.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final File DIR = new File(System.getProperty("user.dir"), "target/harvest-checkpoints");
+
+    private final String key;
+    private final File file;
+    private final JavaType rowsType;
+    private final TreeMap<Integer, List<T>> pages = new TreeMap<>();
+    private final TreeMap<Integer, String> fingerprints = new TreeMap<>();
+
+    private HarvestCheckpoint(String key, Class<T> rowType) {
+        this.key = key;
+        this.file = new File(DIR, key.replaceAll("[^A-Za-z0-9._-]+", "_") + ".json");
+        this.rowsType = MAPPER.getTypeFactory().constructCollectionType(List.class, rowType);
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("grid.checkpoint.enabled",
+                String.valueOf(ConfigReader.get("grid.checkpoint.enabled"))));
+    }
+
+    /**
+     * Opens the checkpoint of this scenario's harvest {@code name}, loading saved progress when there is a fresh one.
+     *
+     * @return the checkpoint (possibly empty), or null when checkpointing is disabled
+     */
+    public static <T> HarvestCheckpoint<T> openIfEnabled(String name, String context, Class<T> rowType) {
+        if (!isEnabled()) return null;
+        String scenario = DriverManager.currentScenarioKey();
+        HarvestCheckpoint<T> cp = new HarvestCheckpoint<>((scenario == null ? "no-scenario" : scenario) + "|" + name + "|" + context, rowType);
+        cp.load();
+        return cp;
+    }
+
+    public boolean isEmpty() {
+        return pages.isEmpty();
+    }
+
+    public int firstPage() {
+        return pages.isEmpty() ? -1 : pages.firstKey();
+    }
+
+    public int lastPage() {
+        return pages.isEmpty() ? -1 : pages.lastKey();
+    }
+
+    /** Saved pages in page order. */
+    public Map<Integer, List<T>> pages() {
+        return new LinkedHashMap<>(pages);
+    }
+
+    /** Fingerprint recorded for {@code page}, or null. */
+    public String fingerprint(int page) {
+        return fingerprints.get(page);
+    }
+
+    /** All recorded fingerprints. */
+    public Collection<String> fingerprints() {
+        return new ArrayList<>(fingerprints.values());
+    }
+
+    /** Records a harvested page and persists the checkpoint. */
+    public void save(int page, List<T> rows, String fingerprint) {
+        pages.put(page, new ArrayList<>(rows));
+        fingerprints.put(page, fingerprint == null ? "" : fingerprint);
+        try {
+            ObjectNode root = MAPPER.createObjectNode();
+            root.put("key", key);
+            root.put("savedAt", System.currentTimeMillis());
+            root.set("fingerprints", MAPPER.valueToTree(fingerprints));
+            root.set("pages", MAPPER.valueToTree(pages));
+            DIR.mkdirs();
+            MAPPER.writeValue(file, root);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not persist harvest checkpoint {}: {}", file.getName(), e.toString());
+        }
+    }
+
+    /** The harvest finished: drop the checkpoint. */
+    public void complete() {
+        clear();
+        logger.debug("✅ Harvest checkpoint {} completed", key);
+    }
+
+    /** The saved progress is unusable (e.g. fingerprint mismatch): drop it and start over. */
+    public void discard(String reason) {
+        logger.info("🗑️ Discarding harvest checkpoint at page {} ({})", lastPage(), reason);
+        clear();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void clear() {
+        pages.clear();
+        fingerprints.clear();
+        if (file.exists() && !file.delete()) logger.warn("⚠️ Could not delete harvest checkpoint {}", file);
+    }
+
+    private void load() {
+        if (!file.isFile()) return;
+        try {
+            JsonNode root = MAPPER.readTree(file);
+            long age = System.currentTimeMillis() - root.path("savedAt").asLong(0);
+            if (age > getLong("grid.checkpoint.ttl.minutes", 60) * 60_000L) {
+                discard("expired");
+                return;
+            }
+            root.path("fingerprints").fields().forEachRemaining(e -> fingerprints.put(Integer.valueOf(e.getKey()), e.getValue().asText()));
+            root.path("pages").fields().forEachRemaining(e -> pages.put(Integer.valueOf(e.getKey()), MAPPER.convertValue(e.getValue(), rowsType)));
+            logger.info("📂 Harvest checkpoint found: pages {}-{} saved {} s ago", firstPage(), lastPage(), age / 1000);
+        } catch (Exception e) {
+            logger.warn("⚠️ Unreadable harvest checkpoint {}: {}", file, e.toString());
+            pages.clear();
+            fingerprints.clear();
+        }
+    }
+
+    private static long getLong(String key, long def) {
+        try {
+            String v = System.getProperty(key, ConfigReader.get(key));
+            return (v == null || v.trim().isEmpty()) ? def : Long.parseLong(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
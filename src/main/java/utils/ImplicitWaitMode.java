@@ -0,0 +1,62 @@
+package utils;
+
+import java.time.Duration;
+
+/**
+ * Implicit-wait execution mode.
+ * <p>
+ * Default ("implicit"): every session gets the global {@code implicitWait} from config, so each
+ * {@code findElements(...)} that matches nothing blocks for that long.
+ * Zero mode ("zero-implicit", {@code implicit.wait.zero=true}): sessions run with implicit wait 0;
+ * presence/absence checks go through the bounded helpers in {@link WaitUtils}
+ * ({@code findAllNow}, {@code isPresent}, {@code isVisible}, {@code isAbsent}) and optional UI
+ * (promo popups, banners) is probed for {@code implicit.wait.zero.optionalTimeoutMs} instead of the
+ * full explicit wait.
+ * <p>
+ * Scenario durations are recorded per mode ({@link ScenarioHistory#record}), so
+ * {@link ScenarioHistory#writeModeComparison()} can show before/after once both modes have run.
+ *
+ * @author Sherwin
+ * @since 26-11-2025
+ */
+
+public final class ImplicitWaitMode {
+
+    private ImplicitWaitMode() {
+    }
+
+    public static boolean isZero() {
+        return Boolean.parseBoolean(System.getProperty("implicit.wait.zero",
+                String.valueOf(ConfigReader.get("implicit.wait.zero"))));
+    }
+
+    /** "zero-implicit" or "implicit". */
+    public static String label() {
+        return isZero() ? "zero-implicit" : "implicit";
+    }
+
+    /** Implicit wait every session should run with in the current mode. */
+    public static Duration sessionImplicitWait() {
+        if (isZero()) return Duration.ZERO;
+        try {
+            return Duration.ofSeconds(Long.parseLong(ConfigReader.get("implicitWait").trim()));
+        } catch (Exception e) {
+            return Duration.ZERO;
+        }
+    }
+
+    /**
+     * Bound for probing optional UI: {@code legacy} in implicit mode (unchanged behaviour), the configured
+     * short bound in zero mode.
+     */
+    public static Duration optionalElementTimeout(Duration legacy) {
+        if (!isZero()) return legacy;
+        try {
+            String v = System.getProperty("implicit.wait.zero.optionalTimeoutMs",
+                    ConfigReader.get("implicit.wait.zero.optionalTimeoutMs"));
+            return Duration.ofMillis(v == null ? 3000 : Long.parseLong(v.trim()));
+        } catch (Exception e) {
+            return Duration.ofMillis(3000);
+        }
+    }
+}
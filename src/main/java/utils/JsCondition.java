@@ -0,0 +1,230 @@
+package utils;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Composable wait condition that compiles to ONE JavaScript probe, so a poll costs a single driver
+ * command no matter how many branches it checks (instead of getCurrentUrl + findElement + isDisplayed
+ * per branch). Evaluated by {@link WaitUtils#waitFor(JsCondition, java.time.Duration)}.
+ * <p>
+ * Leaves: {@link #urlContains}, {@link #urlMatches}, {@link #urlChangedFrom}, {@link #visible},
+ * {@link #absent}, {@link #present}, {@link #notPresent}, {@link #textPresent}.
+ * Combinators: {@link #anyOf}, {@link #allOf} (nestable). The probe reports which top-level branch
+ * fired, by its label (see {@link #as(String)}).
+ * <p>
+ * Supported locators: By.id, By.cssSelector, By.xpath, By.className, By.name, By.tagName,
+ * By.linkText, By.partialLinkText. Visibility mirrors WebDriver's notion closely enough for waits:
+ * non-zero box, not display:none / visibility:hidden, opacity &gt; 0.
+ *
+ * @author Sherwin
+ * @since 25-11-2025
+ */
+
+public final class JsCondition {
+
+    /** Shared helpers prepended to every probe: q(kind, value) → elements, vis(el) → boolean. */
+    static final String PRELUDE =
+            "var a = arguments;" +
+            "function q(kind, v) {" +
+            "  var d = document;" +
+            "  switch (kind) {" +
+            "    case 'xpath': var r = d.evaluate(v, d, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+            "                  for (var i = 0; i < r.snapshotLength; i++) out.push(r.snapshotItem(i)); return out;" +
+            "    case 'id': return d.querySelectorAll('[id=\"' + CSS.escape(v) + '\"]');" +
+            "    case 'className': return d.getElementsByClassName(v);" +
+            "    case 'name': return d.getElementsByName(v);" +
+            "    case 'tagName': return d.getElementsByTagName(v);" +
+            "    case 'linkText': return Array.prototype.filter.call(d.getElementsByTagName('a'), function (e) { return (e.innerText || '').trim() === v; });" +
+            "    case 'partialLinkText': return Array.prototype.filter.call(d.getElementsByTagName('a'), function (e) { return (e.innerText || '').indexOf(v) >= 0; });" +
+            "    default: return d.querySelectorAll(v);" +
+            "  }" +
+            "}" +
+            "function vis(e) {" +
+            "  var r = e.getBoundingClientRect(), s = getComputedStyle(e);" +
+            "  return r.width > 0 && r.height > 0 && s.display !== 'none' && s.visibility !== 'hidden' && s.opacity !== '0';" +
+            "}" +
+            "function some(list, f) { for (var i = 0; i < list.length; i++) if (f(list[i])) return true; return false; }";
+
+    private enum Kind { LEAF, ANY, ALL }
+
+    private interface Emitter {
+        String emit(List<Object> args);
+    }
+
+    private final Kind kind;
+    private final String label;
+    private final Emitter leaf;
+    private final List<JsCondition> children;
+
+    private JsCondition(Kind kind, String label, Emitter leaf, List<JsCondition> children) {
+        this.kind = kind;
+        this.label = label;
+        this.leaf = leaf;
+        this.children = children;
+    }
+
+    // ---------------------------------------------------------------- leaves
+
+    public static JsCondition urlContains(String fragment) {
+        return leaf("url contains '" + fragment + "'", args -> "location.href.indexOf(" + arg(args, fragment) + ") >= 0");
+    }
+
+    /** JS RegExp semantics ({@code test}, i.e. find anywhere unless anchored). */
+    public static JsCondition urlMatches(String regex) {
+        return leaf("url matches /" + regex + "/", args -> "new RegExp(" + arg(args, regex) + ").test(location.href)");
+    }
+
+    public static JsCondition urlChangedFrom(String oldUrl) {
+        return leaf("url changed", args -> "location.href !== " + arg(args, oldUrl));
+    }
+
+    /** At least one match is displayed. */
+    public static JsCondition visible(By locator) {
+        return leaf("visible " + locator, args -> "some(" + query(args, locator) + ", vis)");
+    }
+
+    /** No match is displayed (absent from the DOM or hidden), like invisibilityOfElementLocated. */
+    public static JsCondition absent(By locator) {
+        return leaf("absent " + locator, args -> "!some(" + query(args, locator) + ", vis)");
+    }
+
+    /** At least one match is in the DOM. */
+    public static JsCondition present(By locator) {
+        return leaf("present " + locator, args -> query(args, locator) + ".length > 0");
+    }
+
+    /** No match in the DOM at all. */
+    public static JsCondition notPresent(By locator) {
+        return leaf("not present " + locator, args -> query(args, locator) + ".length === 0");
+    }
+
+    /** A match's text contains {@code text}. */
+    public static JsCondition textPresent(By locator, String text) {
+        return leaf("text '" + text + "' in " + locator, args -> "some(" + query(args, locator) + ", function (e) {"
+                + " return ((e.innerText || e.textContent || '') + '').indexOf(" + arg(args, text) + ") >= 0; })");
+    }
+
+    // ---------------------------------------------------------------- combinators
+
+    public static JsCondition anyOf(JsCondition... branches) {
+        return new JsCondition(Kind.ANY, "anyOf", null, Arrays.asList(branches));
+    }
+
+    public static JsCondition allOf(JsCondition... branches) {
+        return new JsCondition(Kind.ALL, "allOf", null, Arrays.asList(branches));
+    }
+
+    /** Same condition with a readable label (what {@link Result#branch} reports). */
+    public JsCondition as(String newLabel) {
+        return new JsCondition(kind, newLabel, leaf, children);
+    }
+
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        if (kind == Kind.LEAF) return label;
+        StringBuilder sb = new StringBuilder(label).append('(');
+        for (int i = 0; i < children.size(); i++) sb.append(i > 0 ? ", " : "").append(children.get(i));
+        return sb.append(')').toString();
+    }
+
+    // ---------------------------------------------------------------- compilation
+
+    /** Compiled probe: script body + its arguments. The script returns the fired branch label, or null. */
+    static final class Probe {
+        final String script;
+        final Object[] args;
+
+        Probe(String script, Object[] args) {
+            this.script = script;
+            this.args = args;
+        }
+    }
+
+    Probe compile() {
+        List<Object> args = new ArrayList<>();
+        StringBuilder body = new StringBuilder(PRELUDE);
+        if (kind == Kind.ANY) {
+            // first true top-level branch wins, reported by label
+            for (JsCondition c : children) {
+                body.append("if (").append(c.expr(args)).append(") return ").append(arg(args, c.label)).append(';');
+            }
+            body.append("return null;");
+        } else {
+            body.append("return (").append(expr(args)).append(") ? ").append(arg(args, label)).append(" : null;");
+        }
+        return new Probe(body.toString(), args.toArray());
+    }
+
+    private String expr(List<Object> args) {
+        switch (kind) {
+            case LEAF:
+                return "(" + leaf.emit(args) + ")";
+            case ANY:
+            case ALL:
+            default:
+                if (children.isEmpty()) return kind == Kind.ALL ? "(true)" : "(false)";
+                String op = kind == Kind.ANY ? " || " : " && ";
+                StringBuilder sb = new StringBuilder("(");
+                for (int i = 0; i < children.size(); i++) {
+                    if (i > 0) sb.append(op);
+                    sb.append(children.get(i).expr(args));
+                }
+                return sb.append(')').toString();
+        }
+    }
+
+    private static JsCondition leaf(String label, Emitter e) {
+        return new JsCondition(Kind.LEAF, label, e, List.of());
+    }
+
+    /** Adds a value to the argument list and returns its reference inside the probe. */
+    private static String arg(List<Object> args, Object value) {
+        args.add(value);
+        return "a[" + (args.size() - 1) + "]";
+    }
+
+    /** {@code By.toString()} is "By.&lt;kind&gt;: &lt;value&gt;" for the built-in locators. */
+    private static String query(List<Object> args, By locator) {
+        String s = locator.toString();
+        int colon = s.indexOf(':');
+        if (!s.startsWith("By.") || colon < 0) {
+            throw new IllegalArgumentException("Unsupported locator for JsCondition: " + s);
+        }
+        String kind = s.substring(3, colon).trim();
+        String value = s.substring(colon + 1).trim();
+        if ("cssSelector".equals(kind)) kind = "css";
+        return "q(" + arg(args, kind) + ", " + arg(args, value) + ")";
+    }
+
+    /** Outcome of {@link WaitUtils#waitFor(JsCondition, java.time.Duration)}. */
+    public static final class Result {
+        /** Label of the branch that fired (top-level branch for anyOf), or null on timeout. */
+        public final String branch;
+        public final long elapsedMs;
+        public final int polls;
+
+        public Result(String branch, long elapsedMs, int polls) {
+            this.branch = branch;
+            this.elapsedMs = elapsedMs;
+            this.polls = polls;
+        }
+
+        public boolean isMet() {
+            return branch != null;
+        }
+
+        @Override
+        public String toString() {
+            return isMet() ? "'" + branch + "' after " + elapsedMs + " ms (" + polls + " probe(s))"
+                    : "timeout after " + elapsedMs + " ms (" + polls + " probe(s))";
+        }
+    }
+}
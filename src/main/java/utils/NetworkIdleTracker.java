@@ -0,0 +1,153 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v139.network.Network;
+import org.openqa.selenium.devtools.v139.network.model.ResourceType;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks in-flight fetch/XHR requests of a Chrome session through its DevTools session and waits
+ * for "network idle": no tracked request in flight for a quiet window.
+ * <p>
+ * {@code document.readyState} says nothing about an SPA's API calls; this is the signal to use
+ * after a navigation, refresh or grid action instead of a fixed sleep. Requests older than
+ * {@code network.idle.maxRequestAgeMs} (long polls, streams) are ignored so they cannot block idle.
+ * <p>
+ * Attached by {@link DriverFactory} to every session it creates; sessions without a tracker
+ * (other browsers, attached context drivers) get {@code false} from {@link #isTracked(WebDriver)}.
+ * <p>
+ * Config:
+ * - network.idle.quietMs       quiet window (default 500)
+ * - network.idle.timeoutMs     max wait (default 15000)
+ * - network.idle.maxRequestAgeMs ignore requests in flight longer than this (default 10000)
+ *
+ * @author Sherwin
+ * @since 24-11-2025
+ */
+
+public final class NetworkIdleTracker {
+
+    private static final Logger logger = LogManager.getLogger(NetworkIdleTracker.class);
+
+    private static final Map<WebDriver, NetworkIdleTracker> TRACKERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** requestId → start time (ms). */
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private volatile long lastActivityMs = System.currentTimeMillis();
+
+    private NetworkIdleTracker() {
+    }
+
+    /** Starts tracking on the driver's (already created) DevTools session. Safe to call more than once. */
+    public static void attach(WebDriver driver) {
+        if (!(driver instanceof HasDevTools) || TRACKERS.containsKey(driver)) return;
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            NetworkIdleTracker tracker = new NetworkIdleTracker();
+            devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+            devTools.addListener(Network.requestWillBeSent(), e -> {
+                ResourceType type = e.getType().orElse(null);
+                if (type == ResourceType.XHR || type == ResourceType.FETCH) {
+                    tracker.inFlight.putIfAbsent(e.getRequestId().toString(), System.currentTimeMillis());
+                    tracker.lastActivityMs = System.currentTimeMillis();
+                }
+            });
+            devTools.addListener(Network.loadingFinished(), e -> tracker.done(e.getRequestId().toString()));
+            devTools.addListener(Network.loadingFailed(), e -> tracker.done(e.getRequestId().toString()));
+            TRACKERS.put(driver, tracker);
+            logger.info("📡 Network idle tracking enabled for session");
+        } catch (Throwable t) {
+            logger.warn("⚠️ Could not enable network idle tracking (falling back to fixed waits): {}", t.toString());
+        }
+    }
+
+    /** True if {@link #attach(WebDriver)} succeeded for this driver. */
+    public static boolean isTracked(WebDriver driver) {
+        return driver != null && TRACKERS.containsKey(driver);
+    }
+
+    /** Forgets requests still marked in flight (e.g. when a pooled session is reset). */
+    public static void reset(WebDriver driver) {
+        NetworkIdleTracker tracker = TRACKERS.get(driver);
+        if (tracker != null) tracker.inFlight.clear();
+    }
+
+    /** Waits for network idle with the configured quiet window and timeout. */
+    public static boolean waitForIdle(WebDriver driver) {
+        return waitForIdle(driver,
+                Duration.ofMillis(getLong("network.idle.quietMs", 500)),
+                Duration.ofMillis(getLong("network.idle.timeoutMs", 15_000)));
+    }
+
+    /**
+     * Blocks until no fetch/XHR has been in flight for {@code quiet}, or {@code timeout} elapses.
+     * The quiet window never starts before this call, so an action whose requests have not been sent yet
+     * still gets {@code quiet} ms for them to appear.
+     *
+     * @return true if idle was reached; false on timeout or if the driver is not tracked
+     */
+    public static boolean waitForIdle(WebDriver driver, Duration quiet, Duration timeout) {
+        NetworkIdleTracker tracker = TRACKERS.get(driver);
+        if (tracker == null) return false;
+
+        final long start = System.currentTimeMillis();
+        final long deadline = start + timeout.toMillis();
+        final long maxAge = getLong("network.idle.maxRequestAgeMs", 10_000);
+        while (true) {
+            long now = System.currentTimeMillis();
+            tracker.inFlight.values().removeIf(startedAt -> now - startedAt > maxAge);
+
+            if (tracker.inFlight.isEmpty()) {
+                long quietFor = now - Math.max(tracker.lastActivityMs, start);
+                if (quietFor >= quiet.toMillis()) {
+                    logger.debug("Network idle after {} ms", now - start);
+                    return true;
+                }
+                if (!sleepUntil(Math.min(deadline, now + quiet.toMillis() - quietFor))) break;
+            } else if (!sleepUntil(Math.min(deadline, now + 50))) {
+                break;
+            }
+            if (System.currentTimeMillis() >= deadline) break;
+        }
+        logger.warn("⌛ Network not idle within {} ms ({} request(s) still in flight)",
+                timeout.toMillis(), tracker.inFlight.size());
+        return false;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void done(String requestId) {
+        if (inFlight.remove(requestId) != null) lastActivityMs = System.currentTimeMillis();
+    }
+
+    private static boolean sleepUntil(long untilMs) {
+        long ms = untilMs - System.currentTimeMillis();
+        if (ms <= 0) return true;
+        try {
+            Pacer.poll("NetworkIdleTracker.waitForIdle", ms);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long getLong(String key, long def) {
+        try {
+            String v = System.getProperty(key, ConfigReader.get(key));
+            return (v == null || v.trim().isEmpty()) ? def : Long.parseLong(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
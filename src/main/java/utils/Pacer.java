@@ -0,0 +1,127 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Single entry point for every deliberate pause in the framework (instead of bare {@code Thread.sleep}).
+ * <p>
+ * Two kinds of pause:
+ * - {@link #pause(String, long)}: a settle/animation/"give the UI a moment" delay. Scaled by the pacing
+ *   multiplier; a multiplier of 0 skips it entirely ("fast mode").
+ * - {@link #poll(String, long)}: the interval of a condition loop (download size checks, deadline loops).
+ *   Recorded but never scaled, since shrinking a poll interval saves nothing and can break stability checks.
+ * <p>
+ * Every pause has a purpose (by convention {@code Class.method}); per-thread totals are kept per purpose so
+ * Hooks can attach the scenario's idle-time breakdown to the report ({@link #report()}) and {@link #reset()} it.
+ * <p>
+ * Config (system property overrides config.properties):
+ * - pacing.multiplier            global multiplier (default 1.0; 0 = fast mode)
+ * - pacing.multiplier.&lt;purpose&gt;  per-purpose override, e.g. pacing.multiplier.HomePage.clickMenu=0
+ *
+ * @author Sherwin
+ * @since 24-11-2025
+ */
+
+public final class Pacer {
+
+    private static final Logger logger = LogManager.getLogger(Pacer.class);
+
+    /** purpose → {count, requestedMs, sleptMs} for the current thread (i.e. the current scenario). */
+    private static final ThreadLocal<Map<String, long[]>> STATS = ThreadLocal.withInitial(TreeMap::new);
+
+    private Pacer() {
+    }
+
+    /**
+     * Settle pause, scaled by the pacing multiplier (0 → skipped).
+     *
+     * @throws InterruptedException like {@link Thread#sleep(long)}, so existing catch blocks keep their meaning
+     */
+    public static void pause(String purpose, long ms) throws InterruptedException {
+        sleep(purpose, ms, Math.round(ms * multiplier(purpose)));
+    }
+
+    /**
+     * Settle pause for generic {@code sleep(ms)} helpers: the purpose is the method that called the helper.
+     */
+    public static void pause(long ms) throws InterruptedException {
+        pause(callerOfHelper(), ms);
+    }
+
+    /** Poll interval of a condition loop: recorded but not scaled. */
+    public static void poll(String purpose, long ms) throws InterruptedException {
+        sleep(purpose, ms, ms);
+    }
+
+    /** Total ms actually slept on this thread since the last {@link #reset()}. */
+    public static long totalIdleMs() {
+        long total = 0;
+        for (long[] s : STATS.get().values()) total += s[2];
+        return total;
+    }
+
+    /** Idle-time breakdown for this thread, slowest purpose first; empty string if nothing paused. */
+    public static String report() {
+        Map<String, long[]> stats = STATS.get();
+        if (stats.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "Total idle: %.2f s (multiplier %s)%n", totalIdleMs() / 1000.0, globalMultiplier()));
+        stats.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue()[2], a.getValue()[2]))
+                .forEach(e -> sb.append(String.format(Locale.ROOT, "  %-55s x%-4d requested=%6d ms  slept=%6d ms%n",
+                        e.getKey(), e.getValue()[0], e.getValue()[1], e.getValue()[2])));
+        return sb.toString();
+    }
+
+    /** Clears this thread's accounting (call at the end of each scenario). */
+    public static void reset() {
+        STATS.remove();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static void sleep(String purpose, long requestedMs, long actualMs) throws InterruptedException {
+        long[] s = STATS.get().computeIfAbsent(purpose, k -> new long[3]);
+        s[0]++;
+        s[1] += Math.max(0, requestedMs);
+        if (actualMs <= 0) return;
+        long t0 = System.currentTimeMillis();
+        try {
+            Thread.sleep(actualMs);
+        } finally {
+            s[2] += System.currentTimeMillis() - t0;
+        }
+    }
+
+    private static double multiplier(String purpose) {
+        String v = System.getProperty("pacing.multiplier." + purpose, ConfigReader.get("pacing.multiplier." + purpose));
+        if (v == null) return globalMultiplier();
+        try {
+            return Math.max(0, Double.parseDouble(v.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("⚠️ Invalid pacing.multiplier.{}='{}', using global", purpose, v);
+            return globalMultiplier();
+        }
+    }
+
+    private static double globalMultiplier() {
+        String v = System.getProperty("pacing.multiplier", ConfigReader.get("pacing.multiplier"));
+        try {
+            return v == null ? 1.0 : Math.max(0, Double.parseDouble(v.trim()));
+        } catch (NumberFormatException e) {
+            return 1.0;
+        }
+    }
+
+    /** Frame 0 = this method, 1 = pause(long), 2 = the sleep helper, 3 = its caller. */
+    private static String callerOfHelper() {
+        return StackWalker.getInstance().walk(frames -> frames.skip(3).findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,186 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits a paged grid's page range across K browsers and reads the ranges concurrently.
+ * <p>
+ * Range 1 is read by the scenario's own browser on the calling thread. Every other range gets a helper
+ * browser (a context in the shared Chrome when browser.contexts.enabled, a pooled session when
+ * driver.pool.enabled, else a fresh Chrome) that is authenticated by replaying the scenario browser's
+ * cookies and storage ({@link SessionSnapshot#take} / {@link SessionSnapshot#replay}) and opened on the same
+ * URL. Ranges whose helper fails are re-read by the scenario browser afterwards, so a failed worker costs
+ * time, never pages. Results are merged in page order.
+ * <p>
+ * Config (system property overrides config.properties):
+ * - grid.harvest.workers            browsers reading in parallel, scenario browser included (default 1 = off)
+ * - grid.harvest.minPagesPerWorker  below this many pages per browser the fan-out is not worth the start-up (default 3)
+ * - grid.harvest.timeoutMinutes     upper bound for the helpers (default 10)
+ *
+ * @author Sherwin
+ * @since 29-11-2025
+ */
+
+public final class PageFanOut {
+
+    private static final Logger logger = LogManager.getLogger(PageFanOut.class);
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /** Reads pages {@code fromPage..toPage} (inclusive) with {@code driver}; returns page → rows. */
+    @FunctionalInterface
+    public interface RangeReader<T> {
+        Map<Integer, List<T>> read(WebDriver driver, boolean primary, int fromPage, int toPage, int worker) throws Exception;
+    }
+
+    private PageFanOut() {
+    }
+
+    /** Configured number of browsers (1 = sequential). */
+    public static int workers() {
+        return (int) Math.max(1, getLong("grid.harvest.workers", 1));
+    }
+
+    /** Browsers worth using for {@code pages} pages: min(workers, pages / minPagesPerWorker), at least 1. */
+    public static int workersFor(int pages) {
+        long perWorker = Math.max(1, getLong("grid.harvest.minPagesPerWorker", 3));
+        return (int) Math.max(1, Math.min(workers(), pages / perWorker));
+    }
+
+    /** Contiguous, near-equal ranges {from, to} covering 1..pages. */
+    public static List<int[]> split(int pages, int k) {
+        List<int[]> ranges = new ArrayList<>();
+        int start = 1;
+        for (int i = 0; i < k; i++) {
+            int size = pages / k + (i < pages % k ? 1 : 0);
+            if (size == 0) continue;
+            ranges.add(new int[]{start, start + size - 1});
+            start += size;
+        }
+        return ranges;
+    }
+
+    /**
+     * Reads pages 1..{@code lastPage} with {@code k} browsers.
+     *
+     * @return page number → rows, in page order
+     */
+    public static <T> Map<Integer, List<T>> harvest(WebDriver primary, int lastPage, int k, RangeReader<T> reader) throws Exception {
+        List<int[]> ranges = split(lastPage, k);
+        long t0 = System.currentTimeMillis();
+        logger.info("🧵 Harvesting {} page(s) with {} browser(s): {}", lastPage, ranges.size(), describe(ranges));
+
+        Map<String, Object> session = SessionSnapshot.take(primary);   // read before the scenario browser moves on
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, ranges.size() - 1), r -> {
+            Thread t = new Thread(r, "grid-harvest-" + THREADS.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<Future<Map<Integer, List<T>>>> futures = new ArrayList<>();
+        for (int i = 1; i < ranges.size(); i++) {
+            final int[] range = ranges.get(i);
+            final int worker = i + 1;
+            futures.add(pool.submit(() -> readWithHelper(session, range, worker, reader)));
+        }
+        pool.shutdown();
+
+        Map<Integer, List<T>> merged;
+        try {
+            merged = new TreeMap<>(reader.read(primary, true, ranges.get(0)[0], ranges.get(0)[1], 1));
+        } catch (Exception e) {
+            pool.shutdownNow();   // helpers close their browsers on interrupt
+            throw e;
+        }
+
+        long deadline = System.currentTimeMillis() + getLong("grid.harvest.timeoutMinutes", 10) * 60_000L;
+        List<int[]> failed = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            int[] range = ranges.get(i + 1);
+            try {
+                merged.putAll(futures.get(i).get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS));
+            } catch (Exception e) {
+                futures.get(i).cancel(true);
+                logger.warn("⚠️ Worker {} (pages {}-{}) failed: {} → re-reading with the scenario browser.",
+                        i + 2, range[0], range[1], e.toString());
+                failed.add(range);
+            }
+        }
+        pool.shutdownNow();
+
+        for (int[] range : failed) merged.putAll(reader.read(primary, true, range[0], range[1], 1));
+
+        logger.info("🧵 Harvest of {} page(s) finished in {} ms ({} range(s) re-read sequentially)",
+                merged.size(), System.currentTimeMillis() - t0, failed.size());
+        return new LinkedHashMap<>(merged);
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static <T> Map<Integer, List<T>> readWithHelper(Map<String, Object> session, int[] range, int worker,
+                                                             RangeReader<T> reader) throws Exception {
+        long t0 = System.currentTimeMillis();
+        WebDriver helper = open(worker);
+        try {
+            SessionSnapshot.replay(helper, session);
+            logger.info("🪟 Worker {} ready in {} ms (pages {}-{})", worker, System.currentTimeMillis() - t0, range[0], range[1]);
+            return reader.read(helper, false, range[0], range[1], worker);
+        } finally {
+            close(helper);
+        }
+    }
+
+    private static WebDriver open(int worker) throws Exception {
+        Path dir = Paths.get(System.getProperty("user.dir"), "downloads", Thread.currentThread().getName());
+        Files.createDirectories(dir);
+        String downloadDir = dir.toAbsolutePath().toString();
+        if (BrowserContextManager.isEnabled()) {
+            try {
+                return BrowserContextManager.open(downloadDir);
+            } catch (Exception e) {
+                logger.warn("⚠️ Browser context for worker {} failed, launching a dedicated Chrome: {}", worker, e.toString());
+            }
+        }
+        return DriverPool.isEnabled() ? DriverPool.borrow(downloadDir) : DriverFactory.createChromeSession(downloadDir);
+    }
+
+    private static void close(WebDriver driver) {
+        try {
+            if (BrowserContextManager.owns(driver)) BrowserContextManager.close(driver);
+            else if (DriverPool.owns(driver)) DriverPool.release(driver);
+            else driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error closing harvest browser: {}", e.getMessage());
+        }
+    }
+
+    private static String describe(List<int[]> ranges) {
+        StringBuilder sb = new StringBuilder();
+        for (int[] r : ranges) sb.append(sb.length() > 0 ? ", " : "").append(r[0]).append('-').append(r[1]);
+        return sb.toString();
+    }
+
+    private static long getLong(String key, long def) {
+        try {
+            String v = System.getProperty(key, ConfigReader.get(key));
+            return (v == null || v.trim().isEmpty()) ? def : Long.parseLong(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
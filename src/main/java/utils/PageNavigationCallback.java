@@ -8,9 +8,27 @@ public interface PageNavigationCallback {
     default void onPage(int pageNumber) {
     }
 
+    /**
+     * Name under which the harvester itself attaches a screenshot of this page, or null for none.
+     * Unlike onPage this also works for parallel harvests (see PageFanOut): every browser captures the
+     * pages it shows and the scenario thread attaches them in page order; onPage is then called afterwards,
+     * in page order, when the page is no longer on screen.
+     */
+    default String pageShotName(int pageNumber) {
+        return null;
+    }
+
     /**
      * Called after clicking NEXT and the new page finished loading.
      */
     default void onTiming(int fromPage, int toPage, long elapsedMs) {
     }
+
+    /**
+     * Called once per browser when a page range was read in parallel (see PageFanOut):
+     * which worker (1 = the scenario browser), the pages it read and its total time.
+     * onTiming is still called for every page hop of every worker, never concurrently.
+     */
+    default void onWorkerTiming(int worker, int fromPage, int toPage, long elapsedMs) {
+    }
 }
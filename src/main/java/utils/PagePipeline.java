@@ -0,0 +1,121 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pipelined pagination: the per-page screenshot work of page N (decoding the captured PNG and writing the
+ * Allure attachment) runs on a worker thread while the scenario thread has already clicked Next and the
+ * browser renders page N+1.
+ * <p>
+ * Anything that needs the browser (reading the rows, taking the screenshot) and the per-page logging still
+ * happen on the scenario thread before Next is clicked; only work on the captured data is handed over. Tasks
+ * run on ONE worker in submission order, so attachments keep page order. {@link #close()} waits for every
+ * queued task: an attachment slot was already prepared on the scenario thread, so dropping its write would
+ * leave a broken link in the report.
+ * <p>
+ * The pipeline is bound to the opening thread ({@link #current()}), which lets helpers such as
+ * {@link ScreenshotUtils#attachScreenshotToAllure} defer their work without new parameters.
+ * <p>
+ * Config: grid.pipeline.enabled (default false; -Dgrid.pipeline.enabled=true overrides)
+ *
+ * @author Sherwin
+ * @since 29-11-2025
+ */
+
+public final class PagePipeline implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(PagePipeline.class);
+    private static final ThreadLocal<PagePipeline> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final String name;
+    private final ExecutorService worker;
+    private final long openedAt = System.currentTimeMillis();
+    private final AtomicLong busyMs = new AtomicLong();
+    private final AtomicInteger tasks = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private PagePipeline(String name) {
+        this.name = name;
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "page-pipeline-" + THREADS.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("grid.pipeline.enabled",
+                String.valueOf(ConfigReader.get("grid.pipeline.enabled"))));
+    }
+
+    /** Opens a pipeline bound to the current thread, or returns null when pipelining is disabled. */
+    public static PagePipeline openIfEnabled(String name) {
+        if (!isEnabled()) return null;
+        PagePipeline p = new PagePipeline(name);
+        CURRENT.set(p);
+        return p;
+    }
+
+    /** Pipeline opened by the current thread, or null. */
+    public static PagePipeline current() {
+        return CURRENT.get();
+    }
+
+    /** Queues work on the captured data of a page; failures are logged, never thrown at the scenario thread. */
+    public void submit(String label, Runnable task) {
+        tasks.incrementAndGet();
+        worker.execute(() -> {
+            long t0 = System.currentTimeMillis();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failures.incrementAndGet();
+                logger.warn("⚠️ Pipeline '{}' task '{}' failed: {}", name, label, t.toString());
+            } finally {
+                busyMs.addAndGet(System.currentTimeMillis() - t0);
+            }
+        });
+    }
+
+    /** Number of tasks that threw. */
+    public int failures() {
+        return failures.get();
+    }
+
+    /**
+     * Waits for every queued task (never abandons one: each holds a prepared attachment), then unbinds the
+     * pipeline from the thread. If the calling thread is interrupted, the tasks not yet started run inline.
+     */
+    @Override
+    public void close() {
+        long t0 = System.currentTimeMillis();
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(ReusableCommonMethods.NAV_FAIL_MS, TimeUnit.MILLISECONDS)) {
+                logger.warn("⌛ Pipeline '{}' still busy after {} ms; waiting for the remaining tasks.", name, ReusableCommonMethods.NAV_FAIL_MS);
+                while (!worker.awaitTermination(ReusableCommonMethods.NAV_FAIL_MS, TimeUnit.MILLISECONDS)) {
+                    logger.warn("⌛ Pipeline '{}' still draining.", name);
+                }
+            }
+        } catch (InterruptedException e) {
+            List<Runnable> pending = worker.shutdownNow();
+            logger.warn("⚠️ Pipeline '{}' interrupted; running {} pending task(s) inline.", name, pending.size());
+            for (Runnable r : pending) r.run();
+            Thread.currentThread().interrupt();
+        } finally {
+            if (CURRENT.get() == this) CURRENT.remove();
+        }
+        long drainMs = System.currentTimeMillis() - t0;
+        logger.info("🔀 Pipeline '{}': {} task(s), {} ms of work overlapped with page loads ({} ms drain at the end, {} failure(s), {} ms total)",
+                name, tasks.get(), Math.max(0, busyMs.get() - drainMs), drainMs, failures.get(), System.currentTimeMillis() - openedAt);
+    }
+}
@@ -0,0 +1,83 @@
+package utils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy, one-page-at-a-time iteration over a paginated grid.
+ * <p>
+ * The first page is read on the first {@link #hasNext()}; the next page is only navigated to and read once
+ * every row of the current one has been consumed. So {@code stream().anyMatch(...)} / {@code findFirst()}
+ * stop paging as soon as the target row is seen, and at most one page of rows is held at a time (unlike
+ * collecting {@code Map<Integer, List<...>>} for every page first).
+ * <p>
+ * Not thread-safe, single use (like any iterator over a live browser).
+ *
+ * @author Sherwin
+ * @since 29-11-2025
+ */
+
+public final class PagedRows<T> implements Iterator<T> {
+
+    /** How a page object reads and turns pages. */
+    public interface PageSource<T> {
+        /** Rows of the page currently shown (empty list = no rows). */
+        List<T> readPage();
+
+        /** Moves to the next page and waits until it is ready; false when there is none. */
+        boolean advance(int fromPage);
+    }
+
+    private final PageSource<T> source;
+    private List<T> rows;
+    private int page;
+    private int next;
+    private int lastIndex = -1;
+    private boolean exhausted;
+
+    public PagedRows(PageSource<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!exhausted && (rows == null || next >= rows.size())) {
+            if (rows != null && (rows.isEmpty() || !source.advance(page))) {
+                exhausted = true;
+                rows = List.of();   // release the last page
+                break;
+            }
+            rows = source.readPage();
+            page++;
+            next = 0;
+        }
+        return !exhausted;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException("No more rows after page " + page);
+        lastIndex = next;
+        return rows.get(next++);
+    }
+
+    /** 1-based page of the row last returned by {@link #next()}. */
+    public int page() {
+        return page;
+    }
+
+    /** 0-based position, on its page, of the row last returned by {@link #next()}. */
+    public int index() {
+        return lastIndex;
+    }
+
+    /** Sequential, ordered stream over the remaining rows; closing it early stops paging. */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
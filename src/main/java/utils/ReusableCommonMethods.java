@@ -86,8 +86,13 @@ public class ReusableCommonMethods {
 
     public void refreshPage() {
         driver.navigate().refresh();
+        if (NetworkIdleTracker.isTracked(driver)) {
+            // refresh() returns after the load event; the SPA's data calls are what we actually wait for
+            NetworkIdleTracker.waitForIdle(driver);
+            return;
+        }
         try {
-            Thread.sleep(3000);
+            Pacer.pause("ReusableCommonMethods.refreshPage", 3000);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             System.out.println("Thread interrupted during page refresh.");
@@ -121,7 +126,7 @@ public class ReusableCommonMethods {
                 // Scroll into centered view
                 try {
                     ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center', inline:'center'});", element);
-                    Thread.sleep(120);
+                    Pacer.pause("ReusableCommonMethods.safeClick", 120);
                 } catch (Exception ignore) {
                 }
 
@@ -131,7 +136,7 @@ public class ReusableCommonMethods {
                     if (result instanceof Boolean && !((Boolean) result).booleanValue()) {
                         logger.warn("🧱 '{}' center point overlapped; nudging scroll and retrying this attempt.", name);
                         ((JavascriptExecutor) driver).executeScript("window.scrollBy(0,-80);");
-                        Thread.sleep(120);
+                        Pacer.pause("ReusableCommonMethods.safeClick", 120);
                     }
                 } catch (Exception ignore) {
                 }
@@ -174,7 +179,7 @@ public class ReusableCommonMethods {
             }
 
             try {
-                Thread.sleep(250);
+                Pacer.pause("ReusableCommonMethods.safeClick", 250);
             } catch (InterruptedException ignored) {
             }
         }
@@ -201,7 +206,7 @@ public class ReusableCommonMethods {
     public void scrollIntoViewCenter(WebElement element) {
         try {
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center', inline: 'center'});", element);
-            Thread.sleep(80);
+            Pacer.pause("ReusableCommonMethods.scrollIntoViewCenter", 80);
 
             // Small upward nudge if a sticky header might overlap
             ((JavascriptExecutor) driver).executeScript("window.scrollBy(0, -60);");
@@ -418,7 +423,7 @@ public class ReusableCommonMethods {
     public void pauseForScreenshot() {
         try {
             waitForDomReady(5000);      // up to ~5s for readyState=complete
-            Thread.sleep(600);          // small buffer for UI paints/animations
+            Pacer.pause("ReusableCommonMethods.pauseForScreenshot", 600);          // small buffer for UI paints/animations
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
         } catch (Exception ignored) {
@@ -438,7 +443,7 @@ public class ReusableCommonMethods {
             } catch (Exception ignored) {
             }
             try {
-                Thread.sleep(200);
+                Pacer.poll("ReusableCommonMethods.waitForDomReady", 200);
             } catch (InterruptedException ie) {
                 Thread.currentThread().interrupt();
                 return;
@@ -578,7 +583,7 @@ public class ReusableCommonMethods {
 
         clickWithRetry(button, actionName);
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofMillis(failMs));
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofMillis(failMs)).slaLimit();
         wait.pollingEvery(Duration.ofMillis(500));
 
         try {
@@ -612,6 +617,35 @@ public class ReusableCommonMethods {
     }
 
 
+    /**
+     * Single-probe variant of {@link #clickAndWaitFor(WebElement, String, Supplier, long, long, long, long, By)}:
+     * the overlay check and the target condition are evaluated together in one JS call per poll
+     * ({@code allOf(notPresent(overlay), condition)}).
+     */
+    public WaitOutcome clickAndWaitFor(WebElement button, String actionName, JsCondition condition, long warn1Ms, long warn2Ms, long warn3Ms, long failMs, By overlayOrBackdrop) {
+        WaitOutcome out = new WaitOutcome();
+        long start = System.currentTimeMillis();
+
+        clickWithRetry(button, actionName);
+
+        JsCondition probe = overlayOrBackdrop == null ? condition
+                : JsCondition.allOf(JsCondition.notPresent(overlayOrBackdrop), condition).as(condition.label());
+        JsCondition.Result r = wait.waitForSla(probe, Duration.ofMillis(failMs), Duration.ofMillis(500));
+
+        // timed from before the click, like the Supplier overload, so both report the same SLA metric
+        long elapsed = System.currentTimeMillis() - start;
+        out.elapsedMs = elapsed;
+        out.warned1 = elapsed >= warn1Ms;
+        out.warned2 = elapsed >= warn2Ms;
+        out.warned3 = elapsed >= warn3Ms;
+        if (!r.isMet()) {
+            throw new TimeoutException("'" + actionName + "' did not reach " + condition + " within " + failMs + " ms");
+        }
+        logger.info("✔ '{}' reached {}", actionName, r);
+        return out;
+    }
+
+
     /**
      * Clicks an element safely with retry logic for:
      * - ElementClickInterceptedException
@@ -632,7 +666,7 @@ public class ReusableCommonMethods {
                 // Scroll slightly to avoid Tailwind popups covering
                 ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center', inline:'center'});", element);
 
-                Thread.sleep(150);
+                Pacer.pause("ReusableCommonMethods.clickWithRetry", 150);
 
                 element.click();
 
@@ -683,7 +717,7 @@ public class ReusableCommonMethods {
      */
     public void sleep(long ms) {
         try {
-            Thread.sleep(ms);
+            Pacer.pause(ms);
         } catch (InterruptedException ignored) {
         }
     }
@@ -696,7 +730,7 @@ public class ReusableCommonMethods {
 
     public void safeType(WebElement element, String value, String fieldName, int timeoutSeconds) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(timeoutSeconds));
             wait.until(ExpectedConditions.visibilityOf(element));
             wait.until(ExpectedConditions.elementToBeClickable(element));
 
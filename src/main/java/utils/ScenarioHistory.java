@@ -0,0 +1,222 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-scenario wall-time history, persisted between runs in {@code scenario-history/durations.json}
+ * (outside target/ so {@code mvn clean} keeps it).
+ * <p>
+ * Each scenario is keyed by {@code <feature file>:<line>}; a {@code <feature file>::<name>} alias is
+ * also kept so predictions survive edits that shift line numbers. Durations are smoothed with an
+ * exponential moving average so one slow run doesn't reorder the whole queue.
+ * <p>
+ * Line keys are additionally recorded per implicit-wait mode ({@code <key>@<mode>}, see
+ * {@link ImplicitWaitMode}) so {@link #writeModeComparison()} can compare the two modes.
+ *
+ * @author Sherwin
+ * @since 20-11-2025
+ */
+
+public final class ScenarioHistory {
+
+    private static final Logger logger = LogManager.getLogger(ScenarioHistory.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final File FILE = new File(System.getProperty("user.dir"), "scenario-history/durations.json");
+    private static final double EMA_WEIGHT = 0.4;   // weight of the newest run
+
+    /** Persisted record for one scenario key. */
+    public static class Entry {
+        public long emaMs;
+        public long lastMs;
+        public int runs;
+    }
+
+    private static final Map<String, Entry> HISTORY = new ConcurrentHashMap<>(load());
+    /** Scenario key → {startEpochMs, endEpochMs} for this run only. */
+    private static final Map<String, long[]> THIS_RUN = new ConcurrentHashMap<>();
+    /** Keys updated in this JVM (what a shard contributes back). */
+    private static final Set<String> TOUCHED = ConcurrentHashMap.newKeySet();
+
+    private ScenarioHistory() {
+    }
+
+    /** Stable key for a scenario: feature file name + line of the scenario (or example row). */
+    public static String key(URI featureUri, int line) {
+        return fileName(featureUri) + ":" + line;
+    }
+
+    /** Name-based alias for the same scenario. */
+    public static String nameKey(URI featureUri, String scenarioName) {
+        return fileName(featureUri) + "::" + scenarioName;
+    }
+
+    /** Records one finished scenario of this run. */
+    public static void record(String key, String nameKey, long startEpochMs, long endEpochMs) {
+        long ms = Math.max(0, endEpochMs - startEpochMs);
+        THIS_RUN.put(key, new long[]{startEpochMs, endEpochMs});
+        update(key, ms);
+        update(key + "@" + ImplicitWaitMode.label(), ms);
+        if (nameKey != null) update(nameKey, ms);
+    }
+
+    /** Smoothed historical duration, by line key first, then by name. */
+    public static OptionalLong predict(String key, String nameKey) {
+        Entry e = HISTORY.get(key);
+        if (e == null && nameKey != null) e = HISTORY.get(nameKey);
+        return e == null ? OptionalLong.empty() : OptionalLong.of(e.emaMs);
+    }
+
+    /** This run's actual durations (ms) by key. */
+    public static Map<String, Long> thisRunDurations() {
+        Map<String, Long> out = new TreeMap<>();
+        THIS_RUN.forEach((k, v) -> out.put(k, v[1] - v[0]));
+        return out;
+    }
+
+    /**
+     * Wall time from the first start to the last end among the given scenario keys in this run
+     * (0 if none of them ran).
+     */
+    public static long makespanMs(Collection<String> keys) {
+        long first = Long.MAX_VALUE, last = Long.MIN_VALUE;
+        for (String k : keys) {
+            long[] v = THIS_RUN.get(k);
+            if (v == null) continue;
+            first = Math.min(first, v[0]);
+            last = Math.max(last, v[1]);
+        }
+        return first == Long.MAX_VALUE ? 0 : last - first;
+    }
+
+    /** Sum of the smoothed durations of every scenario (line keys) recorded for a feature file. */
+    public static long featureTotalMs(String featureFileName) {
+        String prefix = featureFileName + ":";
+        long sum = 0;
+        for (Map.Entry<String, Entry> e : HISTORY.entrySet()) {
+            String k = e.getKey();
+            if (k.startsWith(prefix) && k.substring(prefix.length()).matches("\\d+")) sum += e.getValue().emaMs;
+        }
+        return sum;
+    }
+
+    /**
+     * Before/after table for this run's scenarios: smoothed duration with the session implicit wait vs
+     * with implicit wait 0, written to target/wait-mode-comparison.txt and the log.
+     */
+    public static String writeModeComparison() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "Scenario durations by wait mode (this run: %s)%n%n%-45s %10s %14s %9s%n",
+                ImplicitWaitMode.label(), "scenario", "implicit", "zero-implicit", "delta"));
+        long sumImplicit = 0, sumZero = 0;
+        int compared = 0;
+        for (String k : new TreeMap<>(THIS_RUN).keySet()) {
+            Entry implicit = HISTORY.get(k + "@implicit");
+            Entry zero = HISTORY.get(k + "@zero-implicit");
+            String delta = "n/a";
+            if (implicit != null && zero != null) {
+                sumImplicit += implicit.emaMs;
+                sumZero += zero.emaMs;
+                compared++;
+                delta = String.format(Locale.ROOT, "%+.1f%%", 100.0 * (zero.emaMs - implicit.emaMs) / Math.max(1, implicit.emaMs));
+            }
+            sb.append(String.format(Locale.ROOT, "%-45s %10s %14s %9s%n", k,
+                    implicit == null ? "-" : (implicit.emaMs / 1000) + "s", zero == null ? "-" : (zero.emaMs / 1000) + "s", delta));
+        }
+        sb.append(compared == 0
+                ? String.format("%nRun once in each mode (-Dimplicit.wait.zero=true|false) to get a comparison.%n")
+                : String.format(Locale.ROOT, "%nCompared %d scenario(s): implicit %ds → zero-implicit %ds (%+.1f%%)%n",
+                        compared, sumImplicit / 1000, sumZero / 1000, 100.0 * (sumZero - sumImplicit) / Math.max(1, sumImplicit)));
+
+        String text = sb.toString();
+        File out = new File(System.getProperty("user.dir"), "target/wait-mode-comparison" + ShardPlanner.suffix() + ".txt");
+        try {
+            out.getParentFile().mkdirs();
+            java.nio.file.Files.writeString(out.toPath(), text, java.nio.charset.StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not write wait mode comparison: {}", e.toString());
+        }
+        logger.info("\n{}", text);
+        return text;
+    }
+
+    /**
+     * Writes the merged history back to disk. A shard JVM only writes the keys it touched, to its
+     * own {@code durations-shard-N.json}; the launcher folds those in with {@link #mergeShardFiles()}.
+     */
+    public static synchronized void save() {
+        File target = FILE;
+        Map<String, Entry> out = new TreeMap<>(HISTORY);
+        if (ShardPlanner.isShard()) {
+            target = new File(FILE.getParentFile(), "durations" + ShardPlanner.suffix() + ".json");
+            out.keySet().retainAll(TOUCHED);
+        }
+        try {
+            target.getParentFile().mkdirs();
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(target, out);
+            logger.info("💾 Scenario duration history saved ({} keys) → {}", out.size(), target);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not save scenario history: {}", e.toString());
+        }
+    }
+
+    /** Overlays every {@code durations-shard-N.json} onto the main history, saves it and removes the shard files. */
+    public static synchronized void mergeShardFiles() {
+        File[] parts = FILE.getParentFile().listFiles((d, n) -> n.startsWith("durations-shard-") && n.endsWith(".json"));
+        if (parts == null) return;
+        for (File part : parts) {
+            try {
+                Map<String, Entry> m = MAPPER.readValue(part, new TypeReference<Map<String, Entry>>() {});
+                HISTORY.putAll(m);
+                if (!part.delete()) logger.warn("⚠️ Could not delete merged shard history {}", part);
+            } catch (Exception e) {
+                logger.warn("⚠️ Skipping unreadable shard history {}: {}", part, e.toString());
+            }
+        }
+        save();
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static void update(String key, long ms) {
+        TOUCHED.add(key);
+        HISTORY.compute(key, (k, e) -> {
+            if (e == null) {
+                e = new Entry();
+                e.emaMs = ms;
+            } else {
+                e.emaMs = Math.round(EMA_WEIGHT * ms + (1 - EMA_WEIGHT) * e.emaMs);
+            }
+            e.lastMs = ms;
+            e.runs++;
+            return e;
+        });
+    }
+
+    private static Map<String, Entry> load() {
+        if (!FILE.isFile()) return Map.of();
+        try {
+            return MAPPER.readValue(FILE, new TypeReference<Map<String, Entry>>() {});
+        } catch (Exception e) {
+            logger.warn("⚠️ Unreadable scenario history {} (starting fresh): {}", FILE, e.toString());
+            return Map.of();
+        }
+    }
+
+    private static String fileName(URI uri) {
+        String s = uri == null ? "unknown" : uri.toString();
+        return s.substring(s.lastIndexOf('/') + 1);
+    }
+}
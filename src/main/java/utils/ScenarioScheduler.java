@@ -0,0 +1,132 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Longest-processing-time-first (LPT) ordering of the scenario queue, driven by {@link ScenarioHistory}.
+ * <p>
+ * Workers pull scenarios in queue order, so putting the slowest ones first keeps a multi-minute
+ * compliance/signup scenario from starting last while every other worker sits idle. Scenarios with
+ * no history are assumed to take the mean of the known ones.
+ * <p>
+ * Each planned bucket (e.g. "parallel", "serial") keeps its predicted makespan so
+ * {@link #writeReport()} can compare it with what actually happened.
+ *
+ * @author Sherwin
+ * @since 20-11-2025
+ */
+
+public final class ScenarioScheduler {
+
+    private static final Logger logger = LogManager.getLogger(ScenarioScheduler.class);
+    private static final File REPORT = new File(System.getProperty("user.dir"),
+            "target/scenario-schedule-report" + ShardPlanner.suffix() + ".txt");
+    private static final long DEFAULT_UNKNOWN_MS = 60_000;
+
+    /** Bucket name → plan. */
+    private static final Map<String, Plan> PLANS = new LinkedHashMap<>();
+
+    private static class Plan {
+        int workers;
+        long predictedMakespanMs;
+        final Map<String, Long> predictedMs = new LinkedHashMap<>();
+    }
+
+    private ScenarioScheduler() {
+    }
+
+    /**
+     * Returns {@code items} ordered longest-predicted-first and records the plan for {@code bucket}.
+     *
+     * @param keyFn     line key of an item (see {@link ScenarioHistory#key})
+     * @param nameKeyFn name alias of an item (see {@link ScenarioHistory#nameKey})
+     * @param workers   number of workers that will drain the queue
+     */
+    public static synchronized <T> List<T> longestFirst(String bucket, List<T> items,
+                                                        Function<T, String> keyFn,
+                                                        Function<T, String> nameKeyFn,
+                                                        int workers) {
+        Map<T, Long> predicted = new LinkedHashMap<>();
+        List<T> unknown = new ArrayList<>();
+        long knownSum = 0;
+        for (T item : items) {
+            OptionalLong p = ScenarioHistory.predict(keyFn.apply(item), nameKeyFn.apply(item));
+            if (p.isPresent()) {
+                predicted.put(item, p.getAsLong());
+                knownSum += p.getAsLong();
+            } else {
+                unknown.add(item);
+            }
+        }
+        long assumed = predicted.isEmpty() ? DEFAULT_UNKNOWN_MS : knownSum / predicted.size();
+        for (T item : unknown) predicted.put(item, assumed);
+
+        List<T> ordered = new ArrayList<>(items);
+        ordered.sort(Comparator.comparing(predicted::get, Comparator.reverseOrder()));   // stable for ties
+
+        Plan plan = new Plan();
+        plan.workers = Math.max(1, workers);
+        for (T item : ordered) plan.predictedMs.put(keyFn.apply(item), predicted.get(item));
+        plan.predictedMakespanMs = simulate(new ArrayList<>(plan.predictedMs.values()), plan.workers);
+        PLANS.put(bucket, plan);
+
+        logger.info("📋 Scheduled {} '{}' scenarios longest-first on {} worker(s): {} with history, predicted makespan {}",
+                ordered.size(), bucket, plan.workers, items.size() - unknown.size(), fmt(plan.predictedMakespanMs));
+        return ordered;
+    }
+
+    /** Greedy list-scheduling simulation: each duration goes to the worker that frees up first. */
+    static long simulate(List<Long> durationsInQueueOrder, int workers) {
+        PriorityQueue<Long> free = new PriorityQueue<>();
+        for (int i = 0; i < workers; i++) free.add(0L);
+        long makespan = 0;
+        for (long d : durationsInQueueOrder) {
+            long end = free.poll() + d;
+            makespan = Math.max(makespan, end);
+            free.add(end);
+        }
+        return makespan;
+    }
+
+    /** Predicted vs actual per bucket and per scenario, written to target/ and the log. */
+    public static synchronized String writeReport() {
+        Map<String, Long> actual = ScenarioHistory.thisRunDurations();
+        StringBuilder sb = new StringBuilder("Scenario schedule: predicted vs actual\n");
+        for (Map.Entry<String, Plan> e : PLANS.entrySet()) {
+            Plan plan = e.getValue();
+            long actualMakespan = ScenarioHistory.makespanMs(plan.predictedMs.keySet());
+            sb.append(String.format("%n[%s] workers=%d  predicted makespan=%s  actual makespan=%s%n",
+                    e.getKey(), plan.workers, fmt(plan.predictedMakespanMs), fmt(actualMakespan)));
+            plan.predictedMs.forEach((k, p) -> {
+                Long a = actual.get(k);
+                sb.append(String.format("  %-45s predicted=%-9s actual=%s%n", k, fmt(p), a == null ? "not run" : fmt(a)));
+            });
+        }
+        String text = sb.toString();
+        try {
+            REPORT.getParentFile().mkdirs();
+            Files.writeString(REPORT.toPath(), text, StandardCharsets.UTF_8);
+        } catch (Exception ex) {
+            logger.warn("⚠️ Could not write schedule report: {}", ex.toString());
+        }
+        logger.info("\n{}", text);
+        return text;
+    }
+
+    private static String fmt(long ms) {
+        return String.format("%dm%02ds", ms / 60000, (ms / 1000) % 60);
+    }
+}
@@ -1,6 +1,7 @@
 package utils;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -13,6 +14,7 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.Base64;
 import java.util.Date;
 
 public class ScreenshotUtils {
@@ -57,9 +59,26 @@ public class ScreenshotUtils {
      * Attaches screenshot to Allure Report using ByteArrayInputStream (CI safe, reliable).
      */
     public static void attachScreenshotToAllure(WebDriver driver, String screenshotName) {
+        attach(driver, screenshotName, true);
+    }
+
+    /**
+     * Same, for a page the caller has already awaited ready (e.g. a grid page after its status wait):
+     * no settle pause.
+     */
+    public static void attachReadyScreenshotToAllure(WebDriver driver, String screenshotName) {
+        attach(driver, screenshotName, false);
+    }
+
+    private static void attach(WebDriver driver, String screenshotName, boolean settle) {
+        PagePipeline pipeline = PagePipeline.current();
+        if (pipeline != null) {
+            attachScreenshotPipelined(driver, screenshotName, pipeline);
+            return;
+        }
         try {
             // Wait a bit to ensure page is fully rendered
-            Thread.sleep(200);
+            if (settle) Pacer.pause("ScreenshotUtils.attachScreenshotToAllure", 200);
 
             byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
             System.out.println("🧾 Screenshot size: " + screenshot.length + " bytes");
@@ -72,6 +91,32 @@ public class ScreenshotUtils {
         }
     }
 
+    /** Attaches a screenshot captured earlier (e.g. by a helper browser of a parallel harvest). */
+    public static void attachScreenshotToAllure(String screenshotName, byte[] png) {
+        try {
+            Allure.addAttachment(screenshotName, "image/png", new ByteArrayInputStream(png), ".png");
+        } catch (Exception e) {
+            System.err.println("❌ Failed to attach screenshot to Allure: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pipelined variant: the capture and the attachment slot (which must be on the scenario thread, for
+     * Allure's current step) happen now; decoding and writing the PNG run on the pipeline worker. No settle
+     * pause: pipelined pages were already awaited ready before the capture.
+     */
+    private static void attachScreenshotPipelined(WebDriver driver, String screenshotName, PagePipeline pipeline) {
+        try {
+            String base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String source = lifecycle.prepareAttachment(screenshotName, "image/png", ".png");
+            pipeline.submit("screenshot " + screenshotName, () ->
+                    lifecycle.writeAttachment(source, new ByteArrayInputStream(Base64.getDecoder().decode(base64))));
+        } catch (Exception e) {
+            System.err.println("❌ Failed to attach screenshot to Allure: " + e.getMessage());
+        }
+    }
+
     /**
      * Clears or creates the screenshot folder at test start.
      */
@@ -0,0 +1,132 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the items of a virtualized / lazily-loaded list in ONE async script: the browser scrolls the
+ * list's scroll container itself and accumulates unique item texts in a JS buffer, returned as one payload.
+ * <p>
+ * A MutationObserver drives the loop: after each scroll step, the next step is taken as soon as the DOM has
+ * settled ({@code grid.scroll.settleMs} without mutations), so collection time follows the grid's render speed
+ * rather than a fixed sleep per step. A step that renders nothing is followed by the next one after a
+ * couple of frames; at the bottom the harvester waits {@code grid.scroll.quietMs} (room for a lazy-load
+ * request) and is done when nothing new arrived. Steps are 90% of the viewport, so virtualized rows overlap
+ * and none are skipped. The container is the table's nearest scrollable ancestor, else the document.
+ * <p>
+ * Config (system property overrides config.properties):
+ * - grid.scroll.settleMs   mutation-free time that counts as "rendered" (default 32)
+ * - grid.scroll.quietMs    wait at the bottom for more rows to load (default 400)
+ *
+ * @author Sherwin
+ * @since 29-11-2025
+ */
+
+public final class ScrollHarvester {
+
+    private static final Logger logger = LogManager.getLogger(ScrollHarvester.class);
+
+    private static final String HARVEST_JS =
+            "var tableSel = arguments[0], itemSel = arguments[1], budget = arguments[2], settleMs = arguments[3]," +
+            "    quietMs = arguments[4], done = arguments[arguments.length - 1];" +
+            "var table = document.querySelector(tableSel), scroller = null;" +
+            "for (var el = table; el && el !== document.body; el = el.parentElement) {" +
+            "  var oy = getComputedStyle(el).overflowY;" +
+            "  if (el.scrollHeight > el.clientHeight && (oy === 'auto' || oy === 'scroll')) { scroller = el; break; } }" +
+            "scroller = scroller || document.scrollingElement || document.documentElement;" +
+            "var seen = new Set(), items = [], steps = 0, finished = false, settleTimer, quietTimer, budgetTimer, observer;" +
+            "var t0 = performance.now();" +
+            "function collect() { var n = 0, els = document.querySelectorAll(itemSel);" +
+            "  for (var i = 0; i < els.length; i++) { var t = (els[i].innerText || '').replace(/\\s+/g, ' ').trim();" +
+            "    if (t && t.toLowerCase() !== 'no records found' && !seen.has(t)) { seen.add(t); items.push(t); n++; } }" +
+            "  return n; }" +
+            "function atEnd() { return scroller.scrollTop + scroller.clientHeight >= scroller.scrollHeight - 2; }" +
+            "function finish(reason) { if (finished) return; finished = true; observer.disconnect();" +
+            "  clearTimeout(settleTimer); clearTimeout(quietTimer); clearTimeout(budgetTimer); collect();" +
+            "  done({ items: items, steps: steps, ms: Math.round(performance.now() - t0), reason: reason }); }" +
+            "function step() { if (finished) return; clearTimeout(settleTimer); clearTimeout(quietTimer);" +
+            "  var grew = collect() > 0;" +
+            "  if (atEnd()) { if (!grew && steps > 0) { finish('end'); return; } }" +
+            "  else { steps++; scroller.scrollTop += Math.max(200, Math.floor(scroller.clientHeight * 0.9)); }" +
+            "  var end = atEnd();" +   // at the bottom: allow a lazy-load round trip; mid-list: a couple of frames
+            "  quietTimer = setTimeout(function () { if (!finished && atEnd() && collect() === 0) finish('end'); else step(); }," +
+            "      end ? quietMs : Math.max(100, settleMs * 3)); }" +
+            "observer = new MutationObserver(function () { if (finished) return;" +   // quietTimer stays armed: endless animations cannot stall the loop
+            "  clearTimeout(settleTimer); settleTimer = setTimeout(step, settleMs); });" +
+            "observer.observe(scroller === document.documentElement || scroller === document.scrollingElement ? document.body : scroller," +
+            "  { childList: true, subtree: true, characterData: true });" +
+            "budgetTimer = setTimeout(function () { finish('budget'); }, budget);" +
+            "step();";
+
+    /** Outcome of a harvest. */
+    public static final class Result {
+        public final List<String> items;
+        public final int steps;
+        public final long ms;
+        /** "end" (bottom reached, nothing new) or "budget" (time budget hit). */
+        public final String reason;
+
+        private Result(List<String> items, int steps, long ms, String reason) {
+            this.items = items;
+            this.steps = steps;
+            this.ms = ms;
+            this.reason = reason;
+        }
+    }
+
+    private ScrollHarvester() {
+    }
+
+    /**
+     * Scrolls the list holding {@code tableSelector} to the end and returns the unique texts of the elements
+     * matching {@code itemSelector}, in first-seen order.
+     *
+     * @param budget hard upper bound for the whole harvest
+     */
+    @SuppressWarnings("unchecked")
+    public static Result harvest(WebDriver driver, String tableSelector, String itemSelector, Duration budget) {
+        long t0 = System.currentTimeMillis();
+        // The script timeout is session-wide (WaitUtils tracks what it applied): raise it only for this call.
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration previous = timeouts.getScriptTimeout();
+        Object r;
+        try {
+            timeouts.scriptTimeout(budget.plusSeconds(5));
+            r = ((JavascriptExecutor) driver).executeAsyncScript(HARVEST_JS, tableSelector, itemSelector,
+                    budget.toMillis(), getLong("grid.scroll.settleMs", 32), getLong("grid.scroll.quietMs", 400));
+        } finally {
+            timeouts.scriptTimeout(previous);
+        }
+
+        List<String> items = new ArrayList<>();
+        int steps = 0;
+        long inPageMs = 0;
+        String reason = "none";
+        if (r instanceof Map) {
+            Map<String, Object> m = (Map<String, Object>) r;
+            for (Object o : (List<Object>) m.getOrDefault("items", List.of())) items.add(String.valueOf(o));
+            steps = ((Number) m.getOrDefault("steps", 0)).intValue();
+            inPageMs = ((Number) m.getOrDefault("ms", 0)).longValue();
+            reason = String.valueOf(m.get("reason"));
+        }
+        logger.info("🌀 Scroll harvest: {} item(s) in {} step(s), {} ms in page / {} ms total (stopped: {})",
+                items.size(), steps, inPageMs, System.currentTimeMillis() - t0, reason);
+        return new Result(items, steps, inPageMs, reason);
+    }
+
+    private static long getLong(String key, long def) {
+        try {
+            String v = System.getProperty(key, ConfigReader.get(key));
+            return (v == null || v.trim().isEmpty()) ? def : Long.parseLong(v.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Captures an authenticated browser session (cookies + localStorage + sessionStorage + landing URL)
+ * after the first successful OTP login, and replays it into later sessions so they can skip the
+ * mobile → OTP → chooser → popup flow.
+ * <p>
+ * The snapshot lives in memory for the JVM and is mirrored to {@code target/session/auth-snapshot.json}
+ * so other forks/shards of the same run can reuse it. That file holds the auth cookies and storage tokens
+ * in plain JSON: it is written owner-readable only, {@code target/} is git-ignored, and it must stay out of
+ * archived CI artifacts (the Jenkinsfile archives only reports and logs).
+ * <p>
+ * A snapshot is considered expired when it is older than {@code session.snapshot.ttl.minutes} or one of
+ * the auth cookies ({@code session.snapshot.authCookies}) has expired; callers fall back to the full login
+ * flow in that case. Other expired cookies (analytics, CSRF…) are just not replayed, and the caller's
+ * probe decides whether the restored session is authenticated.
+ * <p>
+ * Config:
+ * - session.snapshot.enabled     (default false; -Dsession.snapshot.enabled=true overrides)
+ * - session.snapshot.ttl.minutes (default 30)
+ * - session.snapshot.authCookies comma-separated auth/session cookie names whose expiry invalidates the
+ *                                snapshot (default blank = only the TTL and the probe decide)
+ *
+ * @author Sherwin
+ * @since 19-11-2025
+ */
+
+public final class SessionSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(SessionSnapshot.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final File FILE = new File(System.getProperty("user.dir"), "target/session/auth-snapshot.json");
+
+    private static volatile Map<String, Object> current;
+
+    private SessionSnapshot() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("session.snapshot.enabled",
+                String.valueOf(ConfigReader.get("session.snapshot.enabled"))));
+    }
+
+    /** True if a non-expired snapshot is available (memory first, then the on-disk copy). */
+    public static boolean isAvailable() {
+        Map<String, Object> s = load();
+        return s != null && !isExpired(s);
+    }
+
+    /** Records the authenticated state of {@code driver}. Call right after a verified login. */
+    public static synchronized void capture(WebDriver driver) {
+        try {
+            long t0 = System.currentTimeMillis();
+            Map<String, Object> snap = take(driver);
+            current = snap;
+
+            FILE.getParentFile().mkdirs();
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(FILE, snap);
+            restrictToOwner(FILE);
+            logger.info("📸 Session snapshot captured ({} cookies) in {} ms",
+                    ((List<?>) snap.get("cookies")).size(), System.currentTimeMillis() - t0);
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not capture session snapshot: {}", e.toString());
+        }
+    }
+
+    /**
+     * Reads the session state of {@code driver} (cookies, both storages, current URL) without storing it,
+     * e.g. to clone a live session into helper browsers with {@link #replay(WebDriver, Map)}.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> take(WebDriver driver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie c : driver.manage().getCookies()) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("name", c.getName());
+            m.put("value", c.getValue());
+            m.put("domain", c.getDomain());
+            m.put("path", c.getPath());
+            m.put("secure", c.isSecure());
+            m.put("httpOnly", c.isHttpOnly());
+            if (c.getSameSite() != null) m.put("sameSite", c.getSameSite());
+            if (c.getExpiry() != null) m.put("expiry", c.getExpiry().getTime() / 1000);
+            cookies.add(m);
+        }
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+                "const dump = s => { const o = {}; for (let i = 0; i < s.length; i++) { const k = s.key(i); o[k] = s.getItem(k); } return o; };" +
+                "return { local: dump(localStorage), session: dump(sessionStorage) };");
+
+        Map<String, Object> snap = new LinkedHashMap<>();
+        snap.put("capturedAt", System.currentTimeMillis());
+        snap.put("url", driver.getCurrentUrl());
+        snap.put("cookies", cookies);
+        snap.put("localStorage", storage == null ? Map.of() : storage.getOrDefault("local", Map.of()));
+        snap.put("sessionStorage", storage == null ? Map.of() : storage.getOrDefault("session", Map.of()));
+        return snap;
+    }
+
+    /** Writes a state read by {@link #take(WebDriver)} into {@code driver} and opens its URL. */
+    @SuppressWarnings("unchecked")
+    public static void replay(WebDriver driver, Map<String, Object> snap) {
+        // cookies and storage can only be written while on the app origin
+        driver.get(ConfigReader.get("baseUrl"));
+        long nowSec = System.currentTimeMillis() / 1000;
+        int skipped = 0;
+        for (Map<String, Object> c : (List<Map<String, Object>>) snap.get("cookies")) {
+            if (isExpired(c, nowSec)) {
+                skipped++;
+                continue;
+            }
+            addCookie(driver, c);
+        }
+        if (skipped > 0) logger.debug("Skipped {} expired cookie(s) on replay", skipped);
+        ((JavascriptExecutor) driver).executeScript(
+                "const [l, s] = arguments;" +
+                "Object.entries(l || {}).forEach(([k, v]) => localStorage.setItem(k, v));" +
+                "Object.entries(s || {}).forEach(([k, v]) => sessionStorage.setItem(k, v));",
+                snap.get("localStorage"), snap.get("sessionStorage"));
+        driver.get(String.valueOf(snap.get("url")));
+    }
+
+    /**
+     * Injects the snapshot into {@code driver} and verifies it with {@code probe}.
+     *
+     * @return true if the session is authenticated; false if there is no usable snapshot or the
+     *         probe rejected it (the snapshot is then invalidated and cookies cleared)
+     */
+    public static boolean restore(WebDriver driver, Predicate<WebDriver> probe) {
+        Map<String, Object> snap = load();
+        if (snap == null) return false;
+        if (isExpired(snap)) {
+            logger.info("⌛ Session snapshot expired → full login required.");
+            invalidate();
+            return false;
+        }
+
+        long t0 = System.currentTimeMillis();
+        try {
+            replay(driver, snap);
+
+            if (probe.test(driver)) {
+                logger.info("⚡ Session restored from snapshot in {} ms (OTP login skipped)", System.currentTimeMillis() - t0);
+                return true;
+            }
+            logger.warn("⚠️ Snapshot probe failed after {} ms → invalidating, falling back to full login.",
+                    System.currentTimeMillis() - t0);
+        } catch (Exception e) {
+            logger.warn("⚠️ Snapshot replay failed → falling back to full login: {}", e.toString());
+        }
+        invalidate();
+        try { driver.manage().deleteAllCookies(); } catch (Exception ignored) {}
+        return false;
+    }
+
+    /** Drops the in-memory and on-disk snapshot. */
+    public static synchronized void invalidate() {
+        current = null;
+        if (FILE.exists() && !FILE.delete()) {
+            logger.warn("⚠️ Could not delete stale snapshot file: {}", FILE);
+        }
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static Map<String, Object> load() {
+        Map<String, Object> s = current;
+        if (s != null || !FILE.isFile()) return s;
+        try {
+            s = MAPPER.readValue(FILE, new TypeReference<LinkedHashMap<String, Object>>() {});
+            current = s;
+            logger.info("📂 Loaded session snapshot from {}", FILE);
+        } catch (Exception e) {
+            logger.warn("⚠️ Unreadable session snapshot {}: {}", FILE, e.toString());
+        }
+        return s;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isExpired(Map<String, Object> snap) {
+        long ttlMs = readLong("session.snapshot.ttl.minutes", 30) * 60_000L;
+        long age = System.currentTimeMillis() - ((Number) snap.get("capturedAt")).longValue();
+        if (age > ttlMs) return true;
+        String names = System.getProperty("session.snapshot.authCookies", ConfigReader.get("session.snapshot.authCookies"));
+        if (names == null || names.isBlank()) return false;
+        List<String> auth = new ArrayList<>();
+        for (String n : names.split(",")) if (!n.isBlank()) auth.add(n.trim());
+        long nowSec = System.currentTimeMillis() / 1000;
+        for (Map<String, Object> c : (List<Map<String, Object>>) snap.get("cookies")) {
+            if (auth.contains(String.valueOf(c.get("name"))) && isExpired(c, nowSec)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isExpired(Map<String, Object> cookie, long nowSec) {
+        Object exp = cookie.get("expiry");
+        return exp != null && ((Number) exp).longValue() <= nowSec;
+    }
+
+    /** Best effort: the snapshot holds credentials, so only the owner may read it. */
+    private static void restrictToOwner(File f) {
+        boolean ok = f.setReadable(false, false) & f.setReadable(true, true)
+                & f.setWritable(false, false) & f.setWritable(true, true);
+        if (!ok) logger.debug("Could not restrict permissions of {}", f);
+    }
+
+    private static void addCookie(WebDriver driver, Map<String, Object> c) {
+        // CDP can set cookies for any domain (e.g. SSO/parent domains); WebDriver only for the current one.
+        if (driver instanceof ChromiumDriver) {
+            Map<String, Object> params = new HashMap<>(c);
+            params.remove("expiry");
+            if (c.get("expiry") != null) params.put("expires", c.get("expiry"));
+            if (params.get("sameSite") == null) params.remove("sameSite");
+            ((ChromiumDriver) driver).executeCdpCommand("Network.setCookie", params);
+            return;
+        }
+        try {
+            Cookie.Builder b = new Cookie.Builder((String) c.get("name"), (String) c.get("value"))
+                    .domain((String) c.get("domain"))
+                    .path((String) c.get("path"))
+                    .isSecure(Boolean.TRUE.equals(c.get("secure")))
+                    .isHttpOnly(Boolean.TRUE.equals(c.get("httpOnly")));
+            if (c.get("expiry") != null) b.expiresOn(new Date(((Number) c.get("expiry")).longValue() * 1000));
+            driver.manage().addCookie(b.build());
+        } catch (Exception e) {
+            logger.debug("Skipped cookie '{}' for other domain: {}", c.get("name"), e.getMessage());
+        }
+    }
+
+    private static long readLong(String key, long def) {
+        String v = System.getProperty(key, ConfigReader.get(key));
+        try { return v == null ? def : Long.parseLong(v.trim()); } catch (NumberFormatException e) { return def; }
+    }
+}
@@ -0,0 +1,108 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Splits feature files into N shards of roughly equal predicted duration, and tells a shard JVM
+ * which features belong to it.
+ * <p>
+ * The launcher ({@code runners.ShardLauncher}) computes the plan once from {@link ScenarioHistory}
+ * and hands each child JVM its feature list via system properties:
+ * - shard.index    0-based index of this shard
+ * - shard.count    total number of shards
+ * - shard.features comma-separated feature file names assigned to this shard
+ * <p>
+ * Without {@code shard.index} the JVM is not a shard and every feature is in scope.
+ *
+ * @author Sherwin
+ * @since 21-11-2025
+ */
+
+public final class ShardPlanner {
+
+    private static final Logger logger = LogManager.getLogger(ShardPlanner.class);
+    private static final long DEFAULT_FEATURE_MS = 5 * 60_000;
+
+    private ShardPlanner() {
+    }
+
+    /** True when this JVM was started by the shard launcher. */
+    public static boolean isShard() {
+        return System.getProperty("shard.index") != null;
+    }
+
+    /** 0-based index of this shard (0 when not sharded). */
+    public static int index() {
+        return Integer.parseInt(System.getProperty("shard.index", "0"));
+    }
+
+    /** File-name suffix that keeps per-shard outputs apart ("" when not sharded). */
+    public static String suffix() {
+        return isShard() ? "-shard-" + index() : "";
+    }
+
+    /** True if the feature at {@code featureUri} should run in this JVM. */
+    public static boolean isInThisShard(URI featureUri) {
+        if (!isShard()) return true;
+        String s = featureUri.toString();
+        String file = s.substring(s.lastIndexOf('/') + 1);
+        return assignedFeatures().contains(file);
+    }
+
+    private static Set<String> assignedFeatures() {
+        return Arrays.stream(System.getProperty("shard.features", "").split(","))
+                .map(String::trim).filter(f -> !f.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Longest-first partition of feature files over {@code shards} bins, each feature going to the
+     * currently lightest shard. Features with no history are assumed to take the mean of known ones.
+     *
+     * @return one list of feature file names per shard (index = shard index)
+     */
+    public static List<List<String>> plan(List<String> featureFiles, int shards) {
+        Map<String, Long> predicted = new LinkedHashMap<>();
+        long knownSum = 0;
+        int known = 0;
+        for (String f : featureFiles) {
+            long ms = ScenarioHistory.featureTotalMs(f);
+            if (ms > 0) {
+                predicted.put(f, ms);
+                knownSum += ms;
+                known++;
+            }
+        }
+        long assumed = known == 0 ? DEFAULT_FEATURE_MS : knownSum / known;
+        for (String f : featureFiles) predicted.putIfAbsent(f, assumed);
+
+        List<String> ordered = new ArrayList<>(featureFiles);
+        ordered.sort(Comparator.comparing((String f) -> predicted.get(f)).reversed().thenComparing(f -> f));
+
+        List<List<String>> bins = new ArrayList<>();
+        long[] load = new long[shards];
+        for (int i = 0; i < shards; i++) bins.add(new ArrayList<>());
+        for (String f : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < shards; i++) if (load[i] < load[lightest]) lightest = i;
+            bins.get(lightest).add(f);
+            load[lightest] += predicted.get(f);
+        }
+        for (int i = 0; i < shards; i++) {
+            logger.info("🧩 Shard {} → predicted {} s: {}", i, load[i] / 1000, bins.get(i));
+        }
+        return bins;
+    }
+}
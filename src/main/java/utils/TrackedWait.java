@@ -0,0 +1,111 @@
+package utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Drop-in {@link WebDriverWait} that reports every {@code until(...)} to {@link WaitTelemetry}
+ * (call site, timeout, actual time, poll count, outcome). With {@link AdaptiveWaits} enabled the poll
+ * interval (and in full mode the timeout) comes from the call site's latency history; otherwise
+ * behaviour is unchanged. Waits bounded by an SLA threshold call {@link #slaLimit()} so their timeout
+ * is never learned.
+ *
+ * @author Sherwin
+ * @since 25-11-2025
+ */
+
+public class TrackedWait extends WebDriverWait {
+
+    private static final Duration DEFAULT_SLEEP = Duration.ofMillis(500);
+
+    private Duration timeout;
+    private boolean slaLimit;
+    private final AdaptiveSleeper sleeper;
+
+    public TrackedWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, DEFAULT_SLEEP);
+    }
+
+    public TrackedWait(WebDriver driver, Duration timeout, Duration sleep) {
+        this(driver, timeout, sleep, new AdaptiveSleeper());
+    }
+
+    private TrackedWait(WebDriver driver, Duration timeout, Duration sleep, AdaptiveSleeper sleeper) {
+        super(driver, timeout, sleep, Clock.systemDefaultZone(), sleeper);
+        this.timeout = timeout;
+        this.sleeper = sleeper;
+    }
+
+    /** Current (configured) timeout of this wait. */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /** The timeout is a pass/fail SLA limit: keep it as given (polling still adapts). */
+    public TrackedWait slaLimit() {
+        this.slaLimit = true;
+        return this;
+    }
+
+    @Override
+    public FluentWait<WebDriver> withTimeout(Duration duration) {
+        this.timeout = duration;
+        return super.withTimeout(duration);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        final String site = WaitTelemetry.callSite();
+        final Duration configured = timeout;
+        final Duration effective = slaLimit ? configured : AdaptiveWaits.timeout(site, configured);
+        final int[] polls = {0};
+        final long start = System.currentTimeMillis();
+        sleeper.arm(AdaptiveWaits.schedule(site), start, start + effective.toMillis());
+        if (effective != configured) super.withTimeout(effective);
+        WaitTelemetry.Outcome outcome = WaitTelemetry.Outcome.ERROR;
+        try {
+            V value = super.until((Function<WebDriver, V>) d -> {
+                polls[0]++;
+                return isTrue.apply(d);
+            });
+            outcome = WaitTelemetry.Outcome.MET;
+            return value;
+        } catch (TimeoutException e) {
+            outcome = WaitTelemetry.Outcome.TIMEOUT;
+            throw e;
+        } finally {
+            if (effective != configured) super.withTimeout(configured);
+            sleeper.arm(null, 0, 0);
+            WaitTelemetry.record(site, effective.toMillis(), System.currentTimeMillis() - start, polls[0], outcome);
+        }
+    }
+
+    /** Sleeps the configured interval, or the adaptive schedule's interval while a wait is armed. */
+    private static final class AdaptiveSleeper implements Sleeper {
+        private AdaptiveWaits.Schedule schedule;
+        private long start, deadline;
+
+        void arm(AdaptiveWaits.Schedule schedule, long start, long deadline) {
+            this.schedule = schedule;
+            this.start = start;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            if (schedule == null) {
+                Thread.sleep(duration.toMillis());
+                return;
+            }
+            long now = System.currentTimeMillis();
+            Thread.sleep(Math.max(1, Math.min(schedule.next(now - start), deadline - now)));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Run-level telemetry for every explicit wait: call site, timeout, actual time, poll count and outcome,
+ * folded into a per-site latency histogram.
+ * <p>
+ * Fed by {@link TrackedWait} (all WebDriverWaits) and by the JS-based waits in {@link WaitUtils}.
+ * {@link #writeReport()} (called from TestListener.onFinish) ranks call sites by total wall time and
+ * shows how much of it was spent in waits that ran into their timeout ("wasted"): typically absence
+ * probes written as visibility waits, or timeouts far larger than the page ever needs.
+ * Each record also feeds {@link AdaptiveWaits}' per-site latency history.
+ * <p>
+ * Sites are keyed by {@code Class.method} without a line number, so the persisted history survives edits
+ * that move code. A method with several waits of the same kind labels them with {@link #label(String)}.
+ *
+ * @author Sherwin
+ * @since 25-11-2025
+ */
+
+public final class WaitTelemetry {
+
+    private static final Logger logger = LogManager.getLogger(WaitTelemetry.class);
+    private static final File REPORT = new File(System.getProperty("user.dir"),
+            "target/wait-telemetry-report" + ShardPlanner.suffix() + ".txt");
+
+    /** Histogram upper bounds (ms); the last bucket is open-ended. */
+    static final long[] BUCKETS_MS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 20_000, 30_000, Long.MAX_VALUE};
+
+    /** Classes whose frames are skipped when resolving the call site. */
+    private static final Set<String> WAIT_INFRA = Set.of(
+            WaitTelemetry.class.getName(), TrackedWait.class.getName(), WaitUtils.class.getName(),
+            TrackedWait.class.getName() + "$AdaptiveSleeper");
+
+    public enum Outcome { MET, TIMEOUT, ERROR }
+
+    /** Aggregates for one call site. */
+    static final class Site {
+        long calls, met, timeouts, errors, totalMs, wastedMs, maxMs, polls, timeoutMs;
+        final long[] histogram = new long[BUCKETS_MS.length];
+
+        synchronized void add(long timeout, long elapsed, int pollCount, Outcome outcome) {
+            calls++;
+            totalMs += elapsed;
+            polls += pollCount;
+            maxMs = Math.max(maxMs, elapsed);
+            timeoutMs = Math.max(timeoutMs, timeout);
+            switch (outcome) {
+                case MET: met++; break;
+                case TIMEOUT: timeouts++; wastedMs += elapsed; break;
+                default: errors++;
+            }
+            for (int i = 0; i < BUCKETS_MS.length; i++) {
+                if (elapsed < BUCKETS_MS[i]) {
+                    histogram[i]++;
+                    break;
+                }
+            }
+        }
+
+        /** Upper bound of the bucket holding the given percentile. */
+        synchronized long percentileBound(double p) {
+            long target = (long) Math.ceil(calls * p);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= target) return BUCKETS_MS[i];
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final Map<String, Site> SITES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> LABEL = new ThreadLocal<>();
+
+    /** Closes a {@link #label(String)} scope, restoring the enclosing label. */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private WaitTelemetry() {
+    }
+
+    public static void record(String site, long timeoutMs, long elapsedMs, int polls, Outcome outcome) {
+        SITES.computeIfAbsent(site, k -> new Site()).add(timeoutMs, elapsedMs, polls, outcome);
+        AdaptiveWaits.observe(site, elapsedMs, outcome);
+    }
+
+    /**
+     * Labels the waits made on this thread until the returned scope is closed; their site becomes
+     * "Caller.method#label". Use it where one method has several waits that would otherwise share a key:
+     * <pre>
+     * try (WaitTelemetry.Scope s = WaitTelemetry.label("quick")) { wait.isVisible(row, QUICK); }
+     * </pre>
+     */
+    public static Scope label(String label) {
+        String outer = LABEL.get();
+        LABEL.set(label);
+        return () -> {
+            if (outer == null) LABEL.remove();
+            else LABEL.set(outer);
+        };
+    }
+
+    /**
+     * "Caller.method" of the first frame outside the wait infrastructure, plus "#label" inside a
+     * {@link #label(String)} scope; if WaitUtils was in between, its method is appended
+     * ("… via WaitUtils.waitForVisibility"). No line number: the key must stay stable across edits.
+     */
+    public static String callSite() {
+        String label = LABEL.get();
+        return StackWalker.getInstance().walk(frames -> {
+            String via = null;
+            for (StackWalker.StackFrame f : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String cls = f.getClassName();
+                if (cls.startsWith("org.openqa.selenium.")) continue;
+                if (WAIT_INFRA.contains(cls)) {
+                    if (cls.equals(WaitUtils.class.getName()) && !f.getMethodName().startsWith("lambda$")) {
+                        via = "WaitUtils." + f.getMethodName();
+                    }
+                    continue;
+                }
+                String site = simple(cls) + "." + method(f.getMethodName()) + (label == null || label.isEmpty() ? "" : "#" + label);
+                return via == null ? site : site + " via " + via;
+            }
+            return "unknown";
+        });
+    }
+
+    /** Ranked report (most total wall time first), written to target/ and the log. */
+    public static String writeReport() {
+        List<Map.Entry<String, Site>> ranked = new ArrayList<>(SITES.entrySet());
+        ranked.sort((a, b) -> Long.compare(b.getValue().totalMs, a.getValue().totalMs));
+
+        long total = 0, wasted = 0, calls = 0;
+        for (Map.Entry<String, Site> e : ranked) {
+            total += e.getValue().totalMs;
+            wasted += e.getValue().wastedMs;
+            calls += e.getValue().calls;
+        }
+
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "Wait telemetry: %d wait(s), %.1f s total, %.1f s spent in timed-out waits%n",
+                calls, total / 1000.0, wasted / 1000.0));
+        sb.append(String.format(Locale.ROOT, "%n%-4s %-70s %6s %6s %6s %9s %9s %8s %8s %8s %7s %6s%n",
+                "#", "call site", "calls", "met", "t/o", "total", "wasted", "p50<=", "p95<=", "max", "timeout", "polls"));
+        int rank = 0;
+        for (Map.Entry<String, Site> e : ranked) {
+            Site s = e.getValue();
+            synchronized (s) {
+                sb.append(String.format(Locale.ROOT, "%-4d %-70s %6d %6d %6d %8.1fs %8.1fs %8s %8s %7.1fs %6.0fs %6d%n",
+                        ++rank, truncate(e.getKey(), 70), s.calls, s.met, s.timeouts,
+                        s.totalMs / 1000.0, s.wastedMs / 1000.0,
+                        bound(s.percentileBound(0.5)), bound(s.percentileBound(0.95)),
+                        s.maxMs / 1000.0, s.timeoutMs / 1000.0, s.polls));
+            }
+        }
+        sb.append(String.format(Locale.ROOT, "%nHistogram buckets (ms): <100 <250 <500 <1000 <2500 <5000 <10000 <20000 <30000 >=30000%n"));
+        for (int i = 0; i < Math.min(15, ranked.size()); i++) {
+            Site s = ranked.get(i).getValue();
+            StringBuilder h = new StringBuilder();
+            synchronized (s) {
+                for (long c : s.histogram) h.append(String.format(Locale.ROOT, "%6d", c));
+            }
+            sb.append(String.format(Locale.ROOT, "%-4d%s%n", i + 1, h));
+        }
+
+        String text = sb.toString();
+        try {
+            REPORT.getParentFile().mkdirs();
+            Files.writeString(REPORT.toPath(), text, StandardCharsets.UTF_8);
+        } catch (Exception ex) {
+            logger.warn("⚠️ Could not write wait telemetry report: {}", ex.toString());
+        }
+        logger.info("\n{}", text);
+        return text;
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private static String simple(String className) {
+        String s = className.substring(className.lastIndexOf('.') + 1);
+        int inner = s.indexOf('$');
+        return inner > 0 ? s.substring(0, inner) : s;
+    }
+
+    /** "lambda$clickNext$3" → "clickNext". */
+    private static String method(String name) {
+        if (name.startsWith("lambda$")) {
+            int end = name.indexOf('$', 7);
+            return end > 7 ? name.substring(7, end) : name;
+        }
+        return name;
+    }
+
+    private static String bound(long ms) {
+        return ms == Long.MAX_VALUE ? ">30s" : ms >= 1000 ? (ms / 1000.0) + "s" : ms + "ms";
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : "…" + s.substring(s.length() - max + 1);
+    }
+}
@@ -10,6 +10,7 @@ import pages.DocumentPage;
 
 import java.util.function.Supplier;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -26,7 +27,7 @@ import java.util.function.Function;
 public class WaitUtils {
 
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final TrackedWait wait;
     private static final Logger logger = LogManager.getLogger(WaitUtils.class);
 
 
@@ -38,7 +39,7 @@ public class WaitUtils {
         this.driver = driver;
         int timeout = 10;
         try { timeout = Integer.parseInt(ConfigReader.get("explicitWait")); } catch (Exception ignore) {}
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(timeout));
     }
 
     /**
@@ -59,7 +60,7 @@ public class WaitUtils {
      * Waits for the visibility of a specific WebElement, with a custom timeout.
      */
     public WebElement waitForVisibilitywithacustomtimeout(WebElement element, Duration timeout) {
-        WebDriverWait customWait = new WebDriverWait(driver, timeout);
+        WebDriverWait customWait = new TrackedWait(driver, timeout);
         return customWait.until(ExpectedConditions.visibilityOf(element));
     }
 
@@ -70,7 +71,7 @@ public class WaitUtils {
      */
 
     public WebElement waitForVisibilityCustomTimeOut(By locator, Duration timeout) {
-        WebDriverWait customWait = new WebDriverWait(driver, timeout);
+        WebDriverWait customWait = new TrackedWait(driver, timeout);
         return customWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
@@ -123,7 +124,7 @@ public class WaitUtils {
     }
 
     public void waitForInvisibilityOfElement(By locator, int timeoutSeconds) {
-        WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        WebDriverWait w = new TrackedWait(driver, Duration.ofSeconds(timeoutSeconds));
         w.until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
@@ -248,7 +249,7 @@ public class WaitUtils {
      *                  Typically used for custom waits like checking element text, attribute, or state.
      */
     public void waitUntil(Function<WebDriver, Boolean> condition) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(10));
         wait.until(condition);
     }
 
@@ -269,18 +270,35 @@ public class WaitUtils {
     }
 
 
+    /**
+     * Waits for {@code document.readyState == complete}, then for the SPA's fetch/XHR traffic to go quiet
+     * ({@link NetworkIdleTracker}). Sessions without network tracking keep the old fixed 1s settle.
+     */
     public void waitForPageToLoad() {
-        new WebDriverWait(driver, Duration.ofSeconds(20)).until(webDriver -> ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+        new TrackedWait(driver, Duration.ofSeconds(20)).until(webDriver -> ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+        if (NetworkIdleTracker.isTracked(driver)) {
+            NetworkIdleTracker.waitForIdle(driver);
+            return;
+        }
         try {
-            Thread.sleep(1000);
+            Pacer.pause("WaitUtils.waitForPageToLoad", 1000);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Waits until no fetch/XHR has been in flight for the configured quiet window.
+     *
+     * @return true if the network went idle; false on timeout or when the session is not tracked
+     */
+    public boolean waitForNetworkIdle() {
+        return NetworkIdleTracker.waitForIdle(driver);
+    }
+
 
     public void waitForDocumentReady() {
-        WebDriverWait jsWait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        WebDriverWait jsWait = new TrackedWait(driver, Duration.ofSeconds(15));
         jsWait.until(webDriver -> {
             String state = ((JavascriptExecutor) webDriver)
                     .executeScript("return document.readyState")
@@ -291,7 +309,7 @@ public class WaitUtils {
 
 
     public void waitForUrlNotContains(String partialUrl, int timeoutInSeconds) {
-        WebDriverWait urlWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        WebDriverWait urlWait = new TrackedWait(driver, Duration.ofSeconds(timeoutInSeconds));
         urlWait.until(ExpectedConditions.not(ExpectedConditions.urlContains(partialUrl)));
     }
 
@@ -303,7 +321,7 @@ public class WaitUtils {
 
     /** Use a custom timeout ad-hoc */
     public <T> T until(ExpectedCondition<T> condition, Duration timeout) {
-        return new WebDriverWait(driver, timeout).until(condition);
+        return new TrackedWait(driver, timeout).until(condition);
     }
 
     /**
@@ -329,7 +347,7 @@ public class WaitUtils {
                 lastError = t;
             }
             try {
-                Thread.sleep(pollMillis);
+                Pacer.poll("WaitUtils.waitUntilTrue", pollMillis);
             } catch (InterruptedException ignored) {
                 Thread.currentThread().interrupt();
                 break;
@@ -340,7 +358,7 @@ public class WaitUtils {
 
     /** Visibility with refreshed() and custom timeout */
     public WebElement waitForVisibilityRefreshed(WebElement element, Duration timeout) {
-        return new WebDriverWait(driver, timeout)
+        return new TrackedWait(driver, timeout)
                 .until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)));
     }
 
@@ -351,7 +369,7 @@ public class WaitUtils {
 
     /** Clickable with refreshed() and custom timeout */
     public WebElement waitForClickableRefreshed(WebElement element, Duration timeout) {
-        return new WebDriverWait(driver, timeout)
+        return new TrackedWait(driver, timeout)
                 .until(ExpectedConditions.refreshed(ExpectedConditions.elementToBeClickable(element)));
     }
 
@@ -363,7 +381,7 @@ public class WaitUtils {
     /** Returns true when element becomes displayed (refreshed), false on timeout */
     public boolean waitUntilDisplayedRefreshed(WebElement element, Duration timeout) {
         try {
-            new WebDriverWait(driver, timeout)
+            new TrackedWait(driver, timeout)
                     .until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)));
             return element.isDisplayed();
         } catch (TimeoutException e) {
@@ -377,7 +395,7 @@ public class WaitUtils {
 
 
     public void waitForUrlToChange(String oldUrl) {
-        new WebDriverWait(driver, Duration.ofSeconds(10))
+        new TrackedWait(driver, Duration.ofSeconds(10))
                 .until(d -> !d.getCurrentUrl().equals(oldUrl));
     }
 
@@ -390,7 +408,7 @@ public class WaitUtils {
      */
     public boolean isElementDisplayed(By locator, int timeoutSeconds) {
         try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait shortWait = new TrackedWait(driver, Duration.ofSeconds(timeoutSeconds));
             WebElement el = shortWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
             return el.isDisplayed();
         } catch (Exception e) {
@@ -413,36 +431,21 @@ public class WaitUtils {
         logger.info("⏳ Waiting for either URL change from '{}' OR visibility of element: {}",
                 oldUrl, locator);
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-
-        try {
-            Boolean result = wait.until(d -> {
-                // 1) URL changed?
-                try {
-                    String current = d.getCurrentUrl();
-                    if (!current.equals(oldUrl)) {
-                        logger.info("🔄 URL changed: {} → {}", oldUrl, current);
-                        return true;
-                    }
-                } catch (Exception ignored) {}
-
-                // 2) Target element visible?
-                try {
-                    WebElement el = d.findElement(locator);
-                    if (el != null && el.isDisplayed()) {
-                        logger.info("👀 Target element now visible for locator: {}", locator);
-                        return true;
-                    }
-                } catch (Exception ignored) {}
+        // one JS probe per poll instead of getCurrentUrl + findElement + isDisplayed
+        JsCondition.Result result = waitFor(JsCondition.anyOf(
+                JsCondition.urlChangedFrom(oldUrl).as("url"),
+                JsCondition.visible(locator).as("element")), Duration.ofSeconds(timeoutSeconds));
 
-                return false; // keep waiting
-            });
-
-            return Boolean.TRUE.equals(result);
-        } catch (Exception e) {
-            logger.warn("⚠️ Neither URL changed nor element became visible within {} seconds", timeoutSeconds);
-            return false;
+        if ("url".equals(result.branch)) {
+            logger.info("🔄 URL changed from {} ({} ms)", oldUrl, result.elapsedMs);
+            return true;
         }
+        if ("element".equals(result.branch)) {
+            logger.info("👀 Target element now visible for locator: {} ({} ms)", locator, result.elapsedMs);
+            return true;
+        }
+        logger.warn("⚠️ Neither URL changed nor element became visible within {} seconds", timeoutSeconds);
+        return false;
     }
 
 
@@ -456,7 +459,7 @@ public class WaitUtils {
      */
     public WebElement waitForElementLocated(By locator, int timeoutInSeconds) {
         try {
-            WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+            WebDriverWait webDriverWait = new TrackedWait(driver, Duration.ofSeconds(timeoutInSeconds));
             return webDriverWait.until(ExpectedConditions.presenceOfElementLocated(locator));
         } catch (Exception e) {
             logger.error("❌ Element not located within timeout. Locator: {}", locator, e);
@@ -469,11 +472,244 @@ public class WaitUtils {
      * Waits for all elements matching the locator and returns list.
      */
     public List<WebElement> waitForElementsLocated(By locator, int timeoutSec) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSec))
+        return new TrackedWait(driver, Duration.ofSeconds(timeoutSec))
                 .until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
     }
 
 
-}
 
+    // ===================== Event-driven DOM waits (MutationObserver) =====================
+
+    /**
+     * Async script behind {@link #waitForDomCondition}: evaluates the predicate once, then re-evaluates it on
+     * every batch of DOM mutations (one observer callback per microtask checkpoint, so no rAF throttling in
+     * background tabs) until it is truthy or the timeout fires.
+     * Calls back with the in-page elapsed ms, or -1 on timeout.
+     */
+    private static final String DOM_WAIT_JS =
+            "var predicate = new Function('args', arguments[0]);" +
+            "var timeoutMs = arguments[1], args = arguments[2], done = arguments[arguments.length - 1];" +
+            "var t0 = performance.now(), finished = false, observer, timer;" +
+            "function check() { try { return !!predicate(args); } catch (e) { return false; } }" +
+            "function finish(ok) {" +
+            "  if (finished) return; finished = true;" +
+            "  if (observer) observer.disconnect(); clearTimeout(timer);" +
+            "  done(ok ? Math.round(performance.now() - t0) : -1);" +
+            "}" +
+            "if (check()) { finish(true); return; }" +
+            "observer = new MutationObserver(function () { if (!finished && check()) finish(true); });" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, characterData: true, attributes: true});" +
+            "timer = setTimeout(function () { finish(check()); }, timeoutMs);";
+
+    /** Script timeout last applied to this driver by {@link #waitForDomCondition} (W3C default is 30s). */
+    private Duration appliedScriptTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Waits for a DOM condition without client-side polling: a MutationObserver is injected and the call blocks
+     * in a single {@code executeAsyncScript} until {@code jsPredicate} returns truthy or {@code timeout} elapses.
+     * If the page navigates mid-wait (which aborts the script) the wait is re-armed for the remaining time;
+     * any other script failure (syntax error in the predicate, dead session…) is rethrown.
+     *
+     * @param jsPredicate body of a JS function returning a boolean; extra arguments are available as {@code args}
+     *                    (e.g. {@code "return !document.contains(args[0]);"})
+     * @param timeout     max wait time
+     * @param args        values/WebElements passed to the predicate as {@code args[0..n]}
+     * @return wall-clock ms until the predicate became true, or -1 if it timed out
+     */
+    public long waitForDomCondition(String jsPredicate, Duration timeout, Object... args) {
+        final long start = System.currentTimeMillis();
+        final long deadline = start + timeout.toMillis();
+        final JavascriptExecutor js = (JavascriptExecutor) driver;
+        final String site = WaitTelemetry.callSite();
+        int scripts = 0;
+
+        Duration needed = timeout.plusSeconds(5);
+        if (needed.compareTo(appliedScriptTimeout) > 0) {
+            driver.manage().timeouts().scriptTimeout(needed);
+            appliedScriptTimeout = needed;
+        }
+
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                WaitTelemetry.record(site, timeout.toMillis(), System.currentTimeMillis() - start, scripts, WaitTelemetry.Outcome.TIMEOUT);
+                return -1;
+            }
+            try {
+                scripts++;
+                Object r = js.executeAsyncScript(DOM_WAIT_JS, jsPredicate, remaining, Arrays.asList(args));
+                boolean met = r instanceof Number && ((Number) r).longValue() >= 0;
+                long elapsed = System.currentTimeMillis() - start;
+                WaitTelemetry.record(site, timeout.toMillis(), elapsed, scripts,
+                        met ? WaitTelemetry.Outcome.MET : WaitTelemetry.Outcome.TIMEOUT);
+                return met ? elapsed : -1;
+            } catch (StaleElementReferenceException | NoSuchElementException e) {
+                WaitTelemetry.record(site, timeout.toMillis(), System.currentTimeMillis() - start, scripts, WaitTelemetry.Outcome.ERROR);
+                throw e;
+            } catch (WebDriverException e) {
+                if (!isNavigationAbort(e)) {
+                    WaitTelemetry.record(site, timeout.toMillis(), System.currentTimeMillis() - start, scripts, WaitTelemetry.Outcome.ERROR);
+                    throw e;
+                }
+                // document replaced under the observer (navigation/reload) → re-arm on the new document
+                logger.debug("DOM wait interrupted ({}); re-arming for {} ms", e.getClass().getSimpleName(), remaining);
+                if (e instanceof ScriptTimeoutException) {
+                    // someone lowered the session's script timeout under us: apply ours again
+                    driver.manage().timeouts().scriptTimeout(needed);
+                    appliedScriptTimeout = needed;
+                }
+                try {
+                    Pacer.poll("WaitUtils.waitForDomCondition", 50);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return -1;
+                }
+            }
+        }
+    }
+
+    /** True for failures caused by the document going away mid-script (navigation, reload), not by the script. */
+    private static boolean isNavigationAbort(WebDriverException e) {
+        if (e instanceof ScriptTimeoutException) return true;
+        if (!(e instanceof JavascriptException)) return false;
+        String m = String.valueOf(e.getMessage()).toLowerCase();
+        return m.contains("unload") || m.contains("navigat") || m.contains("context was destroyed")
+                || m.contains("detached") || m.contains("document was replaced");
+    }
+
+    /** Boolean convenience for {@link #waitForDomCondition}: true if the predicate held within {@code timeout}. */
+    public boolean untilDom(String jsPredicate, Duration timeout, Object... args) {
+        return waitForDomCondition(jsPredicate, timeout, args) >= 0;
+    }
+
+
+    // ===================== Composite single-probe conditions =====================
+
+    /**
+     * Polls a {@link JsCondition} (every 100 ms, or per {@link AdaptiveWaits}) with ONE {@code executeScript} per poll and reports which
+     * branch fired. Does not throw on timeout; check {@link JsCondition.Result#isMet()}.
+     */
+    public JsCondition.Result waitFor(JsCondition condition, Duration timeout) {
+        return waitFor(condition, timeout, Duration.ofMillis(100));
+    }
+
+    public JsCondition.Result waitFor(JsCondition condition, Duration timeout, Duration pollEvery) {
+        return waitFor(condition, timeout, pollEvery, WaitTelemetry.callSite(), true);
+    }
+
+    /**
+     * {@link #waitFor(JsCondition, Duration, Duration)} for a wait bounded by an SLA threshold: {@code limit}
+     * is the pass/fail limit and is never shortened by {@link AdaptiveWaits} (polling still adapts).
+     */
+    public JsCondition.Result waitForSla(JsCondition condition, Duration limit, Duration pollEvery) {
+        return waitFor(condition, limit, pollEvery, WaitTelemetry.callSite(), false);
+    }
 
+    private JsCondition.Result waitFor(JsCondition condition, Duration timeout, Duration pollEvery, String site, boolean learnTimeout) {
+        final JsCondition.Probe probe = condition.compile();
+        final JavascriptExecutor js = (JavascriptExecutor) driver;
+        if (learnTimeout) timeout = AdaptiveWaits.timeout(site, timeout);
+        final AdaptiveWaits.Schedule schedule = AdaptiveWaits.schedule(site);
+        final long start = System.currentTimeMillis();
+        final long deadline = start + timeout.toMillis();
+        int polls = 0;
+        while (true) {
+            polls++;
+            try {
+                Object fired = js.executeScript(probe.script, probe.args);
+                if (fired != null) {
+                    JsCondition.Result r = new JsCondition.Result(fired.toString(), System.currentTimeMillis() - start, polls);
+                    WaitTelemetry.record(site, timeout.toMillis(), r.elapsedMs, polls, WaitTelemetry.Outcome.MET);
+                    logger.debug("✅ {} → {}", condition, r);
+                    return r;
+                }
+            } catch (WebDriverException e) {
+                // navigation in progress / document not ready → treat as "not yet"
+                logger.debug("Probe failed ({}), retrying", e.getClass().getSimpleName());
+            }
+            if (System.currentTimeMillis() >= deadline) break;
+            try {
+                long every = schedule == null ? pollEvery.toMillis() : schedule.next(System.currentTimeMillis() - start);
+                Pacer.poll("WaitUtils.waitFor", Math.min(every, Math.max(1, deadline - System.currentTimeMillis())));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        JsCondition.Result r = new JsCondition.Result(null, System.currentTimeMillis() - start, polls);
+        WaitTelemetry.record(site, timeout.toMillis(), r.elapsedMs, polls, WaitTelemetry.Outcome.TIMEOUT);
+        logger.debug("⌛ {} → {}", condition, r);
+        return r;
+    }
+
+
+    // ===================== Bounded presence / absence probes =====================
+
+    /**
+     * {@code findElements} used as an existence probe. Instant in zero-implicit mode
+     * ({@link ImplicitWaitMode}); in implicit mode the session's implicit wait applies as before.
+     */
+    public List<WebElement> findAllNow(By locator) {
+        try {
+            return driver.findElements(locator);
+        } catch (WebDriverException e) {
+            return List.of();
+        }
+    }
+
+    /** True once any match is in the DOM, polling for at most {@code within} (ZERO = single check). */
+    public boolean isPresent(By locator, Duration within) {
+        return probe(locator, within, els -> !els.isEmpty());
+    }
+
+    /** True once any match is displayed, polling for at most {@code within} (ZERO = single check). */
+    public boolean isVisible(By locator, Duration within) {
+        return probe(locator, within, WaitUtils::anyDisplayed);
+    }
+
+    /** True once no match is displayed (or none exists), polling for at most {@code within}. */
+    public boolean isAbsent(By locator, Duration within) {
+        return probe(locator, within, els -> !anyDisplayed(els));
+    }
+
+    private boolean probe(By locator, Duration within, java.util.function.Predicate<List<WebElement>> test) {
+        final String site = WaitTelemetry.callSite();
+        within = AdaptiveWaits.timeout(site, within);
+        final AdaptiveWaits.Schedule schedule = AdaptiveWaits.schedule(site);
+        final long start = System.currentTimeMillis();
+        final long deadline = start + within.toMillis();
+        int polls = 0;
+        boolean met;
+        while (true) {
+            polls++;
+            met = test.test(findAllNow(locator));
+            if (met || System.currentTimeMillis() >= deadline) break;
+            try {
+                long every = schedule == null ? 100 : schedule.next(System.currentTimeMillis() - start);
+                Pacer.poll("WaitUtils.probe", Math.min(every, Math.max(1, deadline - System.currentTimeMillis())));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        WaitTelemetry.record(site, within.toMillis(), System.currentTimeMillis() - start, polls,
+                met ? WaitTelemetry.Outcome.MET : WaitTelemetry.Outcome.TIMEOUT);
+        return met;
+    }
+
+    private static boolean anyDisplayed(List<WebElement> els) {
+        for (WebElement e : els) {
+            try {
+                if (e.isDisplayed()) return true;
+            } catch (StaleElementReferenceException ignored) {
+            }
+        }
+        return false;
+    }
+
+    /** Bound for optional UI (popups, banners): explicit wait in implicit mode, the short probe in zero mode. */
+    public Duration optionalElementTimeout() {
+        return ImplicitWaitMode.optionalElementTimeout(wait.getTimeout());
+    }
+
+}
@@ -3,24 +3,18 @@ package hooks;
 import com.aventstack.extentreports.*;
 import com.aventstack.extentreports.Status;
 import io.cucumber.java.*;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.*;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.*;
 import pages.HomePage;
+import listeners.ParallelSuiteListener;
 import pages.LoginPage;
 import utils.*;
-import org.openqa.selenium.devtools.DevTools;
-import org.openqa.selenium.devtools.HasDevTools;
-import org.openqa.selenium.devtools.v139.browser.Browser;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -31,9 +25,12 @@ import java.util.stream.Stream;
  * before and after each test scenario. It supports:
  * <p>
  * ✅ WebDriver initialization with Chrome (headless or headed)
+ * ✅ Per-scenario driver registration in DriverManager (thread-safe, no shared static driver)
  * ✅ Screenshot folder cleanup (once per test run)
- * ✅ Page timeouts and window sizing
- * ✅ Auto-login before non-login scenarios
+ * ✅ Page timeouts and window sizing (DriverFactory)
+ * ✅ Optional pool of pre-warmed Chrome sessions, reset instead of quit (DriverPool)
+ * ✅ Optional per-scenario browser contexts inside one shared Chrome (BrowserContextManager)
+ * ✅ Auto-login before non-login scenarios (optionally replayed from a SessionSnapshot)
  * ✅ ExtentReports & Allure reporting integration
  * ✅ Screenshot capture and embedding for failed scenarios
  * <p>
@@ -44,6 +41,7 @@ import java.util.stream.Stream;
  * - login credentials (email, OTP)
  * <p>
  * Associated Utilities:
+ * - DriverManager: Per-thread/per-scenario WebDriver registry used by steps and listeners
  * - ScreenshotUtils: Folder cleanup, capture, Allure attachment
  * - ExtentReportManager & ExtentTestManager: Reporting
  * - ConfigReader: Loads config from properties file
@@ -60,8 +58,8 @@ import java.util.stream.Stream;
 
 public class Hooks {
 
-    public static WebDriver driver;
     private static final Logger logger = LogManager.getLogger(Hooks.class);
+    private static final Object LOGIN_LOCK = new Object();
 
     static {
         // Create Allure environment.properties once before all tests
@@ -70,28 +68,42 @@ public class Hooks {
 
     @Before
     public void setup(Scenario scenario) throws InterruptedException {
-        // ---- one-time project bootstrapping
-        if (System.getProperty("init.once") == null) {
-            ScreenshotUtils.clearScreenshotFolder();
-            AllureTrendUtils.preserveTrendHistory();
-            AllureEnvironmentWriter.createEnvironmentFile();
-            System.setProperty("init.once", "true");
-            logger.info("✅ One-time setup done: screenshots, trend, environment file created.");
+        ScenarioContext.set("scenario.startMs", System.currentTimeMillis());
+
+        // ---- one-time project bootstrapping (guarded: parallel workers hit this concurrently)
+        synchronized (Hooks.class) {
+            if (System.getProperty("init.once") == null) {
+                if (!ShardPlanner.isShard()) {   // shard JVMs share these folders; runners.ShardLauncher prepares them once
+                    ScreenshotUtils.clearScreenshotFolder();
+                    AllureTrendUtils.preserveTrendHistory();
+                    AllureEnvironmentWriter.createEnvironmentFile();
+                }
+                System.setProperty("init.once", "true");
+                if (DriverPool.isEnabled()) DriverPool.warm();   // start launching sessions while scenario 1 boots
+                logger.info("✅ One-time setup done: screenshots, trend, environment file created.");
+            }
         }
 
         if (scenario.getSourceTagNames().contains("@compatibility")) {
             logger.info("🔧 Compatibility scenario detected — skipping default Chrome setup & auto-login.");
+            DriverManager.register(scenario.getId(), null); // steps launch their own browser via DriverManager.setDriver
             return;
         }
 
-        WebDriverManager.chromedriver().setup();
-
         // ---- downloads dir (native absolute path, Windows-safe)
+        // Parallel workers each get their own sub-folder so one scenario's cleanup never deletes another's files.
         Path downloadDirPath = Paths.get(System.getProperty("user.dir"), "downloads");
+        if (ShardPlanner.isShard()) {
+            downloadDirPath = downloadDirPath.resolve("shard-" + ShardPlanner.index());
+        }
+        if (isParallelRun()) {
+            downloadDirPath = downloadDirPath.resolve(Thread.currentThread().getName().replaceAll("[^A-Za-z0-9._-]", "_"));
+        }
         try { Files.createDirectories(downloadDirPath); } catch (IOException ignored) {}
         String downloadDir = downloadDirPath.toAbsolutePath().toString();
 
-        System.setProperty("download.dir", downloadDir);
+        ScenarioContext.set("download.dir", downloadDir);
+        if (!isParallelRun()) System.setProperty("download.dir", downloadDir);   // one scenario at a time in this JVM
         logger.info("📂 Using download dir: {}", downloadDir);
 
 
@@ -115,69 +127,10 @@ public class Hooks {
             logger.warn("⚠️ Failed to clean download folder: {}", e.getMessage());
         }
 
-        // ---- Chrome options & prefs
-        ChromeOptions options = new ChromeOptions();
-
-        String headless = System.getProperty("headless", ConfigReader.get("headless"));
-
-        Map<String, Object> prefs = new HashMap<>();
-        prefs.put("download.default_directory", downloadDir);             // absolute native path
-        prefs.put("download.prompt_for_download", false);
-        prefs.put("download.directory_upgrade", true);
-        prefs.put("profile.default_content_setting_values.automatic_downloads", 1);
-        prefs.put("safebrowsing.enabled", true);
-        options.setExperimentalOption("prefs", prefs);
-
-        if (Boolean.parseBoolean(headless)) {
-            // If you don’t add DevTools, prefer old --headless to avoid download issues:
-            // options.addArguments("--headless");
-            options.addArguments("--headless=new");
-            logger.info("🔧 Running in headless mode (system or config).");
-        } else {
-            logger.info("🖥️ Running in visible (headed) mode.");
-        }
-
-        options.addArguments(
-                "--disable-gpu",
-                "--no-sandbox",
-                "--disable-dev-shm-usage",
-                "--window-size=1920,1080",
-                "--force-device-scale-factor=1",
-                "--hide-scrollbars",
-                "--remote-allow-origins=*"
-        );
-
-        logger.info("🔧 ChromeOptions set for 1920x1080 headless/visual run");
-
-        // ---- Create driver
-        driver = new ChromeDriver(options);
-
-        // ---- Allow downloads via DevTools (works in headless=new; harmless in headed)
-        // Requires selenium-devtools-v139; adjust v### if your devtools artifact differs.
-        try {
-            HasDevTools devToolsDriver = (HasDevTools) driver;
-            DevTools devTools = devToolsDriver.getDevTools();
-            devTools.createSession();
-
-            devTools.send(Browser.setDownloadBehavior(
-                    Browser.SetDownloadBehaviorBehavior.ALLOW,
-                    java.util.Optional.empty(),          // BrowserContextID (none)
-                    java.util.Optional.of(downloadDir),  // your downloads folder
-                    java.util.Optional.of(true)          // eventsEnabled
-            ));
-            logger.info("✅ DevTools download behavior set to ALLOW → {}", downloadDir);
-
-        } catch (Throwable t) {
-            // If the devtools module/version isn’t on classpath, we still proceed with prefs.
-            logger.warn("⚠️ Could not set DevTools download behavior. Using Chrome prefs only. {}", t.toString());
-        }
-
-        // ---- window & timeouts
-        driver.manage().window().setSize(new Dimension(1920, 1080));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(
-                Long.parseLong(ConfigReader.get("pageLoadTimeout"))));
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(
-                Long.parseLong(ConfigReader.get("implicitWait"))));
+        // ---- Create (or borrow a pre-warmed / context-multiplexed) Chrome session:
+        //      options, DevTools downloads, window & timeouts
+        WebDriver driver = openBrowser(downloadDir);
+        DriverManager.register(scenario.getId(), ScenarioHistory.key(scenario.getUri(), scenario.getLine()), driver);
 
         logger.info("🚀 WebDriver setup complete for scenario: {}", scenario.getName());
 
@@ -194,7 +147,7 @@ public class Hooks {
                         scenario.getName().toLowerCase().contains("login");
 
         if (!skipAutoLogin) {
-            performLogin();
+            loginOrRestoreSession(driver);
         } else {
             logger.info("🔍 Skipping pre-scenario login for scenario: {}", scenario.getName());
         }
@@ -205,6 +158,7 @@ public class Hooks {
     @After
     public void tearDown(Scenario scenario) {
         String scenarioName = scenario.getName().replace(" ", "_");
+        WebDriver driver = DriverManager.getDriver();
 
         try {
             if (scenario.isFailed() && driver instanceof TakesScreenshot) {
@@ -218,16 +172,95 @@ public class Hooks {
             }
         } finally {
             try {
-                if (driver != null) {
+                if (BrowserContextManager.owns(driver)) {
+                    BrowserContextManager.close(driver);
+                    logger.info("🧹 Browser context disposed after scenario: {}", scenario.getName());
+                } else if (DriverPool.owns(driver)) {
+                    DriverPool.release(driver);
+                    logger.info("🔁 Browser returned to pool after scenario: {}", scenario.getName());
+                } else if (driver != null) {
                     driver.quit();
                     logger.info("🪚 Browser closed after scenario: {}", scenario.getName());
                 }
             } catch (Exception e) {
                 logger.warn("Error during driver.quit(): {}", e.getMessage());
+            } finally {
+                attachPacingReport(scenario);
+                recordDuration(scenario);
+                DriverManager.unregister();
+                ScenarioContext.clear();
+                ScenarioState.clear();
             }
         }
     }
 
+    /** Attaches the scenario's idle-time breakdown ({@link Pacer}) to Allure and resets the counters. */
+    private static void attachPacingReport(Scenario scenario) {
+        try {
+            String report = Pacer.report();
+            if (!report.isEmpty()) {
+                AllureLoggerUtils.logToAllure("⏸️ Pacing (idle time)", report);
+                logger.info("⏸️ Idle time in '{}': {} ms", scenario.getName(), Pacer.totalIdleMs());
+            }
+        } catch (Exception e) {
+            logger.warn("Could not attach pacing report: {}", e.getMessage());
+        } finally {
+            Pacer.reset();
+        }
+    }
+
+    /**
+     * Picks the browser lifecycle for the scenario: an isolated context in a shared Chrome
+     * (browser.contexts.enabled), a pooled session (driver.pool.enabled) or a fresh Chrome.
+     */
+    private static WebDriver openBrowser(String downloadDir) {
+        if (BrowserContextManager.isEnabled()) {
+            try {
+                return BrowserContextManager.open(downloadDir);
+            } catch (Exception e) {
+                logger.warn("⚠️ Browser context creation failed, launching a dedicated Chrome instead: {}", e.toString());
+            }
+        }
+        return DriverPool.isEnabled()
+                ? DriverPool.borrow(downloadDir)
+                : DriverFactory.createChromeSession(downloadDir);
+    }
+
+    /**
+     * Authenticates the scenario's browser, replaying the captured session snapshot when
+     * {@code session.snapshot.enabled=true} and a valid one exists; otherwise runs the full
+     * {@link #performLogin()} flow and captures a snapshot for the following scenarios.
+     * The first full login is serialized so parallel workers don't all do OTP logins at start-up.
+     */
+    private static void loginOrRestoreSession(WebDriver driver) throws InterruptedException {
+        if (!SessionSnapshot.isEnabled()) {
+            performLogin();
+            return;
+        }
+        if (SessionSnapshot.restore(driver, Hooks::isAuthenticatedHome)) return;
+
+        synchronized (LOGIN_LOCK) {
+            // another worker may have logged in while we waited
+            if (SessionSnapshot.isAvailable() && SessionSnapshot.restore(driver, Hooks::isAuthenticatedHome)) return;
+            performLogin();
+            SessionSnapshot.capture(driver);
+        }
+    }
+
+    /** Cheap post-replay probe: not bounced to login and the home logo is present (short implicit wait). */
+    private static boolean isAuthenticatedHome(WebDriver driver) {
+        if (safeGetUrl(driver).toLowerCase().contains("/login")) return false;
+        Duration implicit = driver.manage().timeouts().getImplicitWaitTimeout();
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(3));
+        try {
+            return new HomePage(driver).isLoginSuccessful("Vakilsearch");
+        } catch (Exception e) {
+            return false;
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicit);
+        }
+    }
+
     /**
      * Performs automated login before executing test scenarios.
      *
@@ -239,6 +272,7 @@ public class Hooks {
     public static void performLogin() throws InterruptedException {
         final String ctx = "Pre-Scenario Login";
         final long t0 = System.currentTimeMillis();
+        final WebDriver driver = DriverManager.getDriver();
 
         // --------- Read & validate config upfront ----------
         final String baseUrl = ConfigReader.get("baseUrl");
@@ -408,6 +442,21 @@ public class Hooks {
         return "****" + tail;
     }
 
+    /** Feeds the scenario's wall time (setup → teardown) into the history used for longest-first scheduling. */
+    private static void recordDuration(Scenario scenario) {
+        Object start = ScenarioContext.get("scenario.startMs");
+        if (start == null) return;
+        ScenarioHistory.record(
+                ScenarioHistory.key(scenario.getUri(), scenario.getLine()),
+                ScenarioHistory.nameKey(scenario.getUri(), scenario.getName()),
+                (Long) start, System.currentTimeMillis());
+    }
+
+    /** True when scenarios are fanned out across more than one worker (see listeners.ParallelSuiteListener). */
+    private static boolean isParallelRun() {
+        return ParallelSuiteListener.resolveThreadCount() > 1;
+    }
+
     /** Safe current URL for logs. */
     private static String safeGetUrl(WebDriver driver) {
         try { return driver.getCurrentUrl(); } catch (Exception e) { return "<unavailable>"; }
@@ -0,0 +1,49 @@
+package listeners;
+
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import utils.ConfigReader;
+import utils.LoggerUtils;
+
+import java.util.List;
+
+/**
+ * Applies the configured scenario parallelism to the suite before TestNG starts it.
+ * <p>
+ * Thread count resolution (first non-blank wins):
+ * - system property {@code -Dparallel.threads=N}
+ * - {@code parallel.threads} in config.properties
+ * - 1 (serial)
+ * <p>
+ * Only the DataProvider thread pool is sized; {@code runners.TestRunner#scenarios()} is the
+ * parallel DataProvider, while {@code @serial} scenarios always run single-threaded.
+ *
+ * @author Sherwin
+ * @since 17-11-2025
+ */
+
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    private static final Logger LOGGER = LoggerUtils.getLogger(ParallelSuiteListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = resolveThreadCount();
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(threads);
+        }
+        LOGGER.info("🧵 Scenario parallelism: {} worker thread(s) (@serial scenarios run one at a time)", threads);
+    }
+
+    public static int resolveThreadCount() {
+        String raw = System.getProperty("parallel.threads");
+        if (raw == null || raw.isBlank()) raw = ConfigReader.get("parallel.threads");
+        try {
+            return Math.max(1, Integer.parseInt(raw == null ? "1" : raw.trim()));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("⚠️ Invalid parallel.threads '{}'; falling back to 1.", raw);
+            return 1;
+        }
+    }
+}
@@ -15,7 +15,7 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onTestStart(ITestResult result) {
-        if ("runScenario".equals(result.getMethod().getMethodName())) {
+        if (isCucumberScenario(result)) {
             LOGGER.warn("Skipping test start logic for Cucumber scenario.");
             return;
         }
@@ -25,7 +25,7 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onTestSuccess(ITestResult result) {
-        if ("runScenario".equals(result.getMethod().getMethodName())) {
+        if (isCucumberScenario(result)) {
             LOGGER.info("Skipping onTestSuccess for Cucumber scenario.");
             return;
         }
@@ -39,7 +39,7 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onTestFailure(ITestResult result) {
-        if ("runScenario".equals(result.getMethod().getMethodName())) {
+        if (isCucumberScenario(result)) {
             LOGGER.info("Skipping onTestFailure for Cucumber scenario.");
             return;
         }
@@ -64,9 +64,27 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onFinish(ITestContext context) {
+        ScenarioHistory.save();
+        AdaptiveWaits.save();
+        ScenarioScheduler.writeReport();
+        WaitTelemetry.writeReport();
+        ScenarioHistory.writeModeComparison();
+        LOGGER.info("🔎 Driver binary resolution took {} ms in this JVM", DriverBinaryCache.totalResolutionMs());
+
+        if (ShardPlanner.isShard()) {
+            LOGGER.info("Shard {} finished; runners.ShardLauncher sends the combined notification.", ShardPlanner.index());
+            return;
+        }
+
         int passed = context.getPassedTests().size();
         int failed = context.getFailedTests().size();
         int skipped = context.getSkippedTests().size();
+        long ms = context.getEndDate().getTime() - context.getStartDate().getTime();
+        sendRunNotification(passed, failed, skipped, ms);
+    }
+
+    /** Posts the run summary to Google Chat (also used by runners.ShardLauncher for merged shard runs). */
+    public static void sendRunNotification(int passed, int failed, int skipped, long ms) {
         int total = passed + failed + skipped;
 
         String buildStatus = failed > 0 ? "FAILURE" : "SUCCESS";
@@ -87,7 +105,6 @@ public class TestListener implements ITestListener {
 
         String allureReportUrl = buildUrl + "allure/";
 
-        long ms = context.getEndDate().getTime() - context.getStartDate().getTime();
         String duration = String.format("%d min %d sec", (ms / 60000), (ms / 1000) % 60);
 
         try {
@@ -105,6 +122,12 @@ public class TestListener implements ITestListener {
     }
 
 
+    /** Both TestRunner entry points (parallel + @serial) execute Cucumber scenarios. */
+    private static boolean isCucumberScenario(ITestResult result) {
+        String name = result.getMethod().getMethodName();
+        return "runScenario".equals(name) || "runSerialScenario".equals(name);
+    }
+
     /** Helper you already use elsewhere */
     private static String ensureTrailingSlash(String s) {
         if (s == null || s.isEmpty()) return "/";
@@ -113,7 +136,8 @@ public class TestListener implements ITestListener {
 
 
     private void takeAndAttachScreenshot(ITestResult result, String suffix) {
-        WebDriver driver = getDriverFromTestInstance(result.getInstance());
+        WebDriver driver = DriverManager.getDriver();
+        if (driver == null) driver = getDriverFromTestInstance(result.getInstance());
 
         if (driver != null) {
             String methodName = result.getMethod().getMethodName() + suffix;
@@ -0,0 +1,191 @@
+package runners;
+
+import listeners.TestListener;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.Logger;
+import utils.AllureEnvironmentWriter;
+import utils.AllureTrendUtils;
+import utils.ConfigReader;
+import utils.LoggerUtils;
+import utils.ScenarioHistory;
+import utils.ScreenshotUtils;
+import utils.ShardPlanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the suite as N isolated JVM shards and merges their results into one Allure report.
+ * <p>
+ * Flow:
+ * 1) one-time bootstrap for the whole run (screenshots folder, Allure trend history, environment file)
+ * 2) split src/test/resources/*.feature into N shards balanced on historical durations ({@link ShardPlanner})
+ * 3) launch one TestNG JVM per shard, each with its own allure-results/shard-N, downloads/shard-N
+ *    and TestNG output folder (Cucumber's own html/json plugins are additive-only, so those files
+ *    are last-shard-wins; Allure is the merged report)
+ * 4) move every shard's Allure results into allure-results/ (next to the preserved history),
+ *    merge the shards' failed-scenario lists (target/rerun-shard-N.txt) into target/rerun.txt,
+ *    fold the shards' duration history back into scenario-history/durations.json and send one
+ *    combined Google Chat notification
+ * <p>
+ * Usage: {@code mvn -Psharded test -Dshards=4} (see the "sharded" profile in pom.xml).
+ * Config-backed system properties (headless, parallel.threads, driver.pool.*, …) are forwarded to every shard.
+ *
+ * @author Sherwin
+ * @since 21-11-2025
+ */
+
+public class ShardLauncher {
+
+    private static final Logger LOGGER = LoggerUtils.getLogger(ShardLauncher.class);
+    private static final File PROJECT_DIR = new File(System.getProperty("user.dir"));
+    private static final File ALLURE_RESULTS = new File(PROJECT_DIR, "allure-results");
+    private static final File SHARD_OUT = new File(PROJECT_DIR, "target/shards");
+    private static final File RERUN = new File(PROJECT_DIR, "target/rerun.txt");
+
+    public static void main(String[] args) throws Exception {
+        int shards = Math.max(1, Integer.parseInt(System.getProperty("shards",
+                String.valueOf(Math.max(1, Runtime.getRuntime().availableProcessors() / 2)))));
+        long t0 = System.currentTimeMillis();
+
+        // ---- 1) shared bootstrap, done once here instead of in every shard's Hooks
+        ScreenshotUtils.clearScreenshotFolder();
+        AllureTrendUtils.preserveTrendHistory();
+        AllureEnvironmentWriter.createEnvironmentFile();
+        FileUtils.deleteQuietly(SHARD_OUT);
+        File[] staleReruns = RERUN.getParentFile().listFiles((d, n) -> n.matches("rerun-shard-\\d+\\.txt"));
+        if (staleReruns != null) Arrays.stream(staleReruns).forEach(FileUtils::deleteQuietly);
+
+        // ---- 2) plan
+        File[] featureFiles = new File(PROJECT_DIR, "src/test/resources").listFiles((d, n) -> n.endsWith(".feature"));
+        List<String> features = new ArrayList<>();
+        if (featureFiles != null) Arrays.stream(featureFiles).map(File::getName).sorted().forEach(features::add);
+        List<List<String>> plan = ShardPlanner.plan(features, Math.min(shards, Math.max(1, features.size())));
+
+        // ---- 3) launch
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < plan.size(); i++) {
+            processes.add(launchShard(i, plan.size(), plan.get(i)));
+        }
+        int exit = 0;
+        for (int i = 0; i < processes.size(); i++) {
+            int code = processes.get(i).waitFor();
+            LOGGER.info("🏁 Shard {} exited with {} (log: target/shards/shard-{}.log)", i, code, i);
+            exit = Math.max(exit, code);
+        }
+
+        // ---- 4) merge
+        mergeAllureResults(plan.size());
+        mergeRerunFiles(plan.size());
+        ScenarioHistory.mergeShardFiles();
+        notifyCombined(plan.size(), System.currentTimeMillis() - t0);
+
+        LOGGER.info("✅ {} shard(s) finished in {} s; Allure results merged into {}",
+                plan.size(), (System.currentTimeMillis() - t0) / 1000, ALLURE_RESULTS);
+        System.exit(exit);
+    }
+
+    private static Process launchShard(int index, int count, List<String> features) throws IOException {
+        File out = new File(SHARD_OUT, "shard-" + index);
+        Files.createDirectories(out.toPath());
+        List<String> cmd = new ArrayList<>();
+        cmd.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        forwardConfigProperties(cmd);
+        cmd.add("-Dshard.index=" + index);
+        cmd.add("-Dshard.count=" + count);
+        cmd.add("-Dshard.features=" + String.join(",", features));
+        cmd.add("-Dallure.results.directory=" + new File(ALLURE_RESULTS, "shard-" + index).getPath());
+        // added to TestRunner's plugins: every shard also writes target/rerun.txt, so that one is last-shard-wins
+        cmd.add("-Dcucumber.plugin=rerun:" + rerunFile(index).getPath());
+        cmd.add("org.testng.TestNG");
+        cmd.add("-d");
+        cmd.add(new File(out, "testng-output").getPath());
+        cmd.add(new File(PROJECT_DIR, "testng.xml").getPath());
+
+        File log = new File(SHARD_OUT, "shard-" + index + ".log");
+        LOGGER.info("🚀 Launching shard {} / {} with {}", index, count, features);
+        return new ProcessBuilder(cmd)
+                .directory(PROJECT_DIR)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+    }
+
+    /** Forwards -D overrides for keys known to config.properties (plus headless) to the shard JVMs. */
+    private static void forwardConfigProperties(List<String> cmd) {
+        for (Map.Entry<Object, Object> e : System.getProperties().entrySet()) {
+            String key = String.valueOf(e.getKey());
+            if (key.equals("headless") || ConfigReader.get(key) != null) {
+                cmd.add("-D" + key + "=" + e.getValue());
+            }
+        }
+    }
+
+    /** Moves allure-results/shard-N/* up into allure-results/ (result files are UUID-named, so no clashes). */
+    private static void mergeAllureResults(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            File dir = new File(ALLURE_RESULTS, "shard-" + i);
+            File[] files = dir.listFiles();
+            if (files == null) continue;
+            for (File f : files) {
+                if (f.isDirectory()) continue;   // a shard never owns history/; the trend copy stays at the top level
+                FileUtils.moveFileToDirectory(f, ALLURE_RESULTS, false);
+            }
+            FileUtils.deleteDirectory(dir);
+        }
+    }
+
+    private static File rerunFile(int index) {
+        return new File(RERUN.getParentFile(), "rerun-shard-" + index + ".txt");
+    }
+
+    /** Concatenates the shards' failed-scenario lists into target/rerun.txt (empty when nothing failed). */
+    private static void mergeRerunFiles(int count) throws IOException {
+        StringBuilder merged = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            File f = rerunFile(i);
+            if (!f.isFile()) continue;
+            for (String line : Files.readAllLines(f.toPath(), StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) merged.append(line.trim()).append('\n');
+            }
+        }
+        Files.createDirectories(RERUN.getParentFile().toPath());
+        Files.writeString(RERUN.toPath(), merged.toString(), StandardCharsets.UTF_8);
+        LOGGER.info("🔁 Failed scenarios of {} shard(s) merged into {}", count, RERUN);
+    }
+
+    /** Sums the shards' testng-results.xml counters and posts a single run notification. */
+    private static void notifyCombined(int count, long elapsedMs) {
+        Pattern attr = Pattern.compile("<testng-results[^>]*?\\b(passed|failed|skipped)=\"(\\d+)\"[^>]*?\\b(passed|failed|skipped)=\"(\\d+)\"[^>]*?\\b(passed|failed|skipped)=\"(\\d+)\"");
+        int passed = 0, failed = 0, skipped = 0;
+        for (int i = 0; i < count; i++) {
+            File xml = new File(SHARD_OUT, "shard-" + i + "/testng-output/testng-results.xml");
+            try {
+                Matcher m = attr.matcher(Files.readString(xml.toPath(), StandardCharsets.UTF_8));
+                if (!m.find()) continue;
+                for (int g = 1; g <= 5; g += 2) {
+                    int v = Integer.parseInt(m.group(g + 1));
+                    switch (m.group(g)) {
+                        case "passed": passed += v; break;
+                        case "failed": failed += v; break;
+                        default: skipped += v;
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("⚠️ No TestNG results for shard {}: {}", i, e.getMessage());
+                failed++;
+            }
+        }
+        TestListener.sendRunNotification(passed, failed, skipped, elapsedMs);
+    }
+}
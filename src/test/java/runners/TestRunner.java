@@ -2,13 +2,97 @@ package runners;
 
 import io.cucumber.testng.CucumberOptions;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import listeners.ParallelSuiteListener;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import utils.ScenarioHistory;
+import utils.ScenarioScheduler;
+import utils.ShardPlanner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Cucumber/TestNG entry point.
+ * <p>
+ * Scenarios are split into two buckets:
+ * - read-only scenarios → {@link #scenarios()} (parallel DataProvider, fanned out across
+ *   {@code parallel.threads} workers; see {@link listeners.ParallelSuiteListener})
+ * - scenarios tagged {@code @serial} (archive/unarchive, create compliance, uploads…) →
+ *   {@link #serialScenarios()}, run one at a time after the parallel bucket has drained,
+ *   so they never race each other or the readers on shared account state.
+ * <p>
+ * Both buckets are ordered longest-first from recorded durations (see {@link ScenarioScheduler});
+ * with {@code parallel.threads=1} (default) the behaviour is otherwise that of a plain serial run.
+ * When started by {@link ShardLauncher} only the features assigned to this shard are run.
+ * <p>
+ * Failed scenarios are listed in {@code target/rerun.txt}; {@code -Dcucumber.features=@target/rerun.txt}
+ * reruns only those (and lets long harvests resume from their {@link utils.HarvestCheckpoint}). Shards
+ * also write their own {@code target/rerun-shard-N.txt}, which {@link ShardLauncher} merges into
+ * {@code target/rerun.txt} once every shard has finished.
+ *
+ * @author Sherwin
+ * @since 17-11-2025
+ */
 
 @CucumberOptions(features = {"src/test/resources"},
         glue = {"stepDefinitions", "hooks"},
         plugin = {"pretty", "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
                 "html:target/cucumber-reports/cucumber-html-report.html",
-                "json:target/cucumber-reports/Cucumber.json"},
+                "json:target/cucumber-reports/Cucumber.json",
+                "rerun:target/rerun.txt"},
         monochrome = true)
 
 public class TestRunner extends AbstractTestNGCucumberTests {
+
+    public static final String SERIAL_TAG = "@serial";
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        List<Object[]> rows = shardRows(false);
+        return ScenarioScheduler.longestFirst("parallel", rows, TestRunner::key, TestRunner::nameKey,
+                ParallelSuiteListener.resolveThreadCount()).toArray(Object[][]::new);
+    }
+
+    @DataProvider
+    public Object[][] serialScenarios() {
+        List<Object[]> rows = shardRows(true);
+        return ScenarioScheduler.longestFirst("serial", rows, TestRunner::key, TestRunner::nameKey, 1)
+                .toArray(Object[][]::new);
+    }
+
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios tagged @serial one at a time",
+            dataProvider = "serialScenarios", dependsOnMethods = "runScenario", alwaysRun = true)
+    public void runSerialScenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) {
+        runScenario(pickleWrapper, featureWrapper);
+    }
+
+    /** This JVM's share of the serial or non-serial scenarios (all of them unless run as a shard). */
+    private List<Object[]> shardRows(boolean serial) {
+        return Arrays.stream(super.scenarios())
+                .filter(row -> isSerial(row) == serial)
+                .filter(row -> ShardPlanner.isInThisShard(pickle(row).getUri()))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isSerial(Object[] row) {
+        return pickle(row).getTags().contains(SERIAL_TAG);
+    }
+
+    private static String key(Object[] row) {
+        return ScenarioHistory.key(pickle(row).getUri(), pickle(row).getLine());
+    }
+
+    private static String nameKey(Object[] row) {
+        return ScenarioHistory.nameKey(pickle(row).getUri(), pickle(row).getName());
+    }
+
+    private static Pickle pickle(Object[] row) {
+        return ((PickleWrapper) row[0]).getPickle();
+    }
 }
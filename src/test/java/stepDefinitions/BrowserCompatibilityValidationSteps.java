@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 
-import hooks.Hooks;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.JavascriptExecutor;
@@ -40,7 +39,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 
 public class BrowserCompatibilityValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     Logger logger;
     WebDriverWait wait;
     AllureLoggerUtils allureLogging;
@@ -48,8 +47,8 @@ public class BrowserCompatibilityValidationSteps {
 
 
     public BrowserCompatibilityValidationSteps() {
-        this.driver = Hooks.driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.driver = DriverManager.getDriver();
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -76,8 +75,10 @@ public class BrowserCompatibilityValidationSteps {
                     if (isHeadless()) opt.addArguments("--headless=new");
                     opt.addArguments("--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage", "--window-size=1920,1080", "--force-device-scale-factor=1", "--hide-scrollbars", "--remote-allow-origins=*");
                     try {
-                        driver = new ChromeDriver(opt); // Selenium Manager
+                        DriverBinaryCache.resolve("chrome"); // cached path → Selenium Manager is skipped
+                        driver = new ChromeDriver(opt);
                     } catch (Exception sm) {
+                        DriverBinaryCache.invalidate("chrome");
                         try {
                             WebDriverManager.chromedriver().setup();
                             driver = new ChromeDriver(opt);
@@ -97,8 +98,10 @@ public class BrowserCompatibilityValidationSteps {
                     FirefoxOptions fopts = new FirefoxOptions();
                     if (isHeadless()) fopts.addArguments("-headless");
                     try {
-                        driver = new FirefoxDriver(fopts); // Selenium Manager
+                        DriverBinaryCache.resolve("firefox"); // cached path → Selenium Manager is skipped
+                        driver = new FirefoxDriver(fopts);
                     } catch (Exception sm) {
+                        DriverBinaryCache.invalidate("firefox");
                         try {
                             WebDriverManager.firefoxdriver().setup();
                             driver = new FirefoxDriver(fopts);
@@ -115,8 +118,10 @@ public class BrowserCompatibilityValidationSteps {
                     if (isHeadless()) eopts.addArguments("--headless=new");
                     eopts.addArguments("--window-size=1920,1080");
                     try {
-                        driver = new EdgeDriver(eopts); // Selenium Manager
+                        DriverBinaryCache.resolve("edge"); // cached path → Selenium Manager is skipped
+                        driver = new EdgeDriver(eopts);
                     } catch (Exception sm) {
+                        DriverBinaryCache.invalidate("edge");
                         try {
                             WebDriverManager.edgedriver().setup();
                             driver = new EdgeDriver(eopts);
@@ -146,15 +151,15 @@ public class BrowserCompatibilityValidationSteps {
                     Assert.fail("Unsupported browser in examples: " + browserName);
             }
 
-            Hooks.driver = driver;
+            DriverManager.setDriver(driver);
 
             // Common window/timeouts
             driver.manage().window().setSize(new Dimension(1920, 1080));
             driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(helperMethods.readLong("pageLoadTimeout", 300)));
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(helperMethods.readLong("implicitWait", 0)));
+            driver.manage().timeouts().implicitlyWait(ImplicitWaitMode.sessionImplicitWait());
 
             // Utilities
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
             this.helperMethods = new ReusableCommonMethods(driver);
 
             helperMethods.pauseForScreenshot();
@@ -172,7 +177,7 @@ public class BrowserCompatibilityValidationSteps {
     @When("the user navigates to the Zolvit 360 application")
     public void the_user_navigates_to_the_zolvit_360_application() {
         try {
-            driver = Hooks.driver;
+            driver = DriverManager.getDriver();
             Assert.assertNotNull(driver, "WebDriver not initialized.");
 
             String url = ConfigReader.get("baseUrl");
@@ -183,7 +188,7 @@ public class BrowserCompatibilityValidationSteps {
 
             // Optional lightweight readiness check
             try {
-                new WebDriverWait(driver, Duration.ofSeconds(15)).until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").toString().equals("complete"));
+                new TrackedWait(driver, Duration.ofSeconds(15)).until(d -> ((JavascriptExecutor) d).executeScript("return document.readyState").toString().equals("complete"));
             } catch (Exception ignore) {
                 // Non-fatal; we still capture UI evidence below
             }
@@ -200,7 +205,7 @@ public class BrowserCompatibilityValidationSteps {
     @Then("the Zolvit 360 should be accessible in the {string} browser")
     public void the_zolvit_360_should_be_accessible_in_the_browser(String browserName) {
         try {
-            driver = Hooks.driver;
+            driver = DriverManager.getDriver();
             Assert.assertNotNull(driver, "WebDriver not initialized.");
 
             String url = ConfigReader.get("baseUrl");
@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 
-import hooks.Hooks;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
@@ -47,7 +46,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 public class CompliancePageValidationSteps {
 
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     CompliancePage compliancePage;
     Logger logger;
     WebDriverWait wait;
@@ -65,9 +64,9 @@ public class CompliancePageValidationSteps {
 
 
     public CompliancePageValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.compliancePage = new CompliancePage(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -129,7 +128,7 @@ public class CompliancePageValidationSteps {
 
             // 6) Final artifacts
             logToAllure("📋 Compliance Page Loaded", String.valueOf(success));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "CompliancePage_Confirmation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "CompliancePage_Confirmation");
             logger.info("✅ Compliance page successfully confirmed.");
 
         } catch (Throwable t) {
@@ -167,7 +166,7 @@ public class CompliancePageValidationSteps {
             logToAllure("Expected Stage Sections", String.join("\n", lowerExpected));
             logToAllure("Actual Stage Sections", String.join("\n", lowerActual));
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Compliance_Stage_Sections");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Compliance_Stage_Sections");
 
             if (!lowerExpected.equals(lowerActual)) {
                 logger.error("❌ Stage sections mismatch detected!");
@@ -227,7 +226,7 @@ public class CompliancePageValidationSteps {
 
             logToAllure("Stage Counts", "All: " + allCount + "\n" + "Needs Action: " + needsActionCount + "\n" + "In Progress: " + inProgressCount + "\n" + "Completed: " + completedCount + "\n" + "Upcoming: " + upcomingCount + "\n" + "Calculated Total: " + calculatedSum);
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Compliance_Stage_Count_Validation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Compliance_Stage_Count_Validation");
 
             if (allCount != calculatedSum) {
                 logger.error("❌ Mismatch Detected → All: {} | Calculated: {}", allCount, calculatedSum);
@@ -284,7 +283,7 @@ public class CompliancePageValidationSteps {
 //                // Fetch statuses across pagination (your existing paginator)
 //                Map<Integer, List<String>> pageWiseStatuses = compliancePage.fetchAllStatusValuesPageWise(tabDisplayedCount, new PageNavigationCallback() {
 //                    public void onPage(int pageNumber) {
-//                        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Compliance_Page_Stage_Sections_" + stageSection.replace(" ", "_") + "_page" + pageNumber);
+//                        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Compliance_Page_Stage_Sections_" + stageSection.replace(" ", "_") + "_page" + pageNumber);
 //                        logger.info("✅ Screenshot captured for Page {} of '{}'", pageNumber, stageSection);
 //                    }
 //                });
@@ -416,7 +415,7 @@ public class CompliancePageValidationSteps {
                 PageNavigationCallback pageShotCb = new PageNavigationCallback() {
                     @Override
                     public void onPage(int pageNumber) {
-                        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Compliance_Page_Stage_Sections_" + stageSection.replace(" ", "_") + "_page" + pageNumber);
+                        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Compliance_Page_Stage_Sections_" + stageSection.replace(" ", "_") + "_page" + pageNumber);
                         logger.info("✅ Screenshot captured for Page {} of '{}'", Integer.valueOf(pageNumber), stageSection);
                     }
                 };
@@ -511,7 +510,7 @@ public class CompliancePageValidationSteps {
 
             logToAllure("🧾 Expected Headers", expectedHeaders.toString());
             logToAllure("📋 Actual Headers from Table", actualHeaders.toString());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Table_Headers_UI");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Table_Headers_UI");
 
             for (int i = 0; i < expectedHeaders.size(); i++) {
                 String expected = expectedHeaders.get(i);
@@ -562,12 +561,12 @@ public class CompliancePageValidationSteps {
                 } else {
                     logToAllure("❌ Sorting Missing", header);
                     logger.error("❌ Sorting not found for: {}", header);
-                    ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Missing_Sorting_" + header.replace(" ", "_"));
+                    ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Missing_Sorting_" + header.replace(" ", "_"));
                     throw new AssertionError("Sorting not enabled for header: " + header);
                 }
             }
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Sorting_Verification_Overview");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Sorting_Verification_Overview");
 
         } catch (Throwable t) {
             compliancePage.handleValidationException("Sorting validation on Compliance table", t);
@@ -586,14 +585,14 @@ public class CompliancePageValidationSteps {
 
                 // Ascending click
                 boolean ascClicked = compliancePage.clickSortIconForHeader(header);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Sort_Click_Asc_" + header.replace(" ", "_"));
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Sort_Click_Asc_" + header.replace(" ", "_"));
 
                 // Small delay
-                Thread.sleep(800);
+                Pacer.pause("CompliancePageValidationSteps.verify_sorting_arrows_clickable", 800);
 
                 // Descending click
                 boolean descClicked = compliancePage.clickSortIconForHeader(header);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Sort_Click_Desc_" + header.replace(" ", "_"));
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Sort_Click_Desc_" + header.replace(" ", "_"));
 
                 if (ascClicked && descClicked) {
                     logToAllure("✅ Sort Icons Clicked (Asc/Desc)", header);
@@ -601,7 +600,7 @@ public class CompliancePageValidationSteps {
                 } else {
                     logToAllure("❌ Sort Icon Click Failed", header);
                     logger.error("❌ Could not click sort icon for: {}", header);
-                    ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SortIcon_Click_Failure_" + header.replace(" ", "_"));
+                    ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SortIcon_Click_Failure_" + header.replace(" ", "_"));
                     throw new AssertionError("Sort icon not clickable for header: " + header);
                 }
             }
@@ -620,27 +619,27 @@ public class CompliancePageValidationSteps {
             if (compliancePage.noRecordsPresent()) {
                 noRecordsInMain = true;
                 logger.info("ℹ️ No records available — checkboxes not expected.");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "No_Records");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "No_Records");
                 logToAllure("ℹ️ Skipped", "No records available, so no checkboxes expected.");
                 return; // step passes; later steps will be skipped by guard
             }
 
             boolean allVisible = compliancePage.areAllRecordCheckboxesVisible();
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Checkboxes_Visibility_Checked");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Checkboxes_Visibility_Checked");
 
             if (allVisible) {
                 logger.info("✅ All checkboxes are visible for records.");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "All_Checkboxes_Visible");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "All_Checkboxes_Visible");
                 logToAllure("✅ All Checkboxes Visible", "Every row has a visible checkbox.");
             } else {
                 logger.error("❌ Some record checkboxes are not visible.");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Missing_Record_Checkbox");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Missing_Record_Checkbox");
                 logToAllure("❌ Missing Checkboxes", "Not all checkboxes are visible.");
                 throw new AssertionError("❌ Not all record checkboxes are visible");
             }
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_Record_Checkbox");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_Record_Checkbox");
             compliancePage.handleValidationException("Record checkboxes visibility check", e);
         }
     }
@@ -654,24 +653,24 @@ public class CompliancePageValidationSteps {
 
             if (compliancePage.noRecordsPresent()) {
                 logger.info("ℹ️ No records available — skipping select-all verification.");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "No_Records_SelectAll");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "No_Records_SelectAll");
                 logToAllure("ℹ️ Skipped", "No records available, so select-all checkbox check skipped.");
                 return;
             }
 
             CheckboxValidationResult result = compliancePage.selectAllCheckboxAndVerifyArchiveButton();
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Selecting_All_Checkboxes");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Selecting_All_Checkboxes");
 
             if (result.isSuccess()) {
                 logToAllure("✅ Success", "All checkboxes selected.\n" + "✅ Displayed count: **" + result.getDisplayedCount() + "**\n" + "✅ Actual checkbox count: **" + result.getActualSelectedCount() + "**\n" + "Archive button is visible.");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SelectAll_Success");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SelectAll_Success");
             } else {
                 logToAllure("❌ Failure", "Validation failed:\n" + "🔹 Displayed count: **" + result.getDisplayedCount() + "**\n" + "🔹 Actual checkbox count: **" + result.getActualSelectedCount() + "**\n" + "Archive button visible: **" + result.isArchiveVisible() + "**");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SelectAll_Checkbox_Or_Archive_Failure");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SelectAll_Checkbox_Or_Archive_Failure");
                 throw new AssertionError("❌ Validation failed: Checkbox/Archive/Count mismatch.");
             }
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_SelectAll_Archive");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_SelectAll_Archive");
             compliancePage.handleValidationException("Select-all checkbox & Archive button verification", e);
         }
     }
@@ -687,18 +686,18 @@ public class CompliancePageValidationSteps {
 
             if (compliancePage.noRecordsPresent()) {
                 logger.info("ℹ️ No records available to capture.");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "No_Records_To_Capture");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "No_Records_To_Capture");
                 logToAllure("ℹ️ Skipped", "No records to capture before archiving.");
                 return;
             }
 
             selectedRecordsBeforeArchive = compliancePage.getSelectedComplianceNames();
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Captured_Selected_Records");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Captured_Selected_Records");
             logToAllure("✅ Captured Records", "Selected records: " + selectedRecordsBeforeArchive);
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_Capturing_Selected_Records");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_Capturing_Selected_Records");
             compliancePage.handleValidationException("Capturing Selected Record Names", e);
         }
     }
@@ -711,12 +710,12 @@ public class CompliancePageValidationSteps {
 
             if (compliancePage.noRecordsPresent()) {
                 logger.info("ℹ️ No records present on the page. Skipping Archive button validation.");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "No_Records_Archive_Skip");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "No_Records_Archive_Skip");
                 logToAllure("ℹ️ Skipped", "No records available. Archive button click not applicable.");
                 return;
             }
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Before_Archive_Click");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Before_Archive_Click");
 
             Instant navStart = Instant.now();
             NavContext.start("Archive → Toast");
@@ -728,10 +727,10 @@ public class CompliancePageValidationSteps {
             long elapsedMs = helperMethods.logLoadTimeAndReturnMs("Archive → Toast", navStart);
             double elapsedS = elapsedMs / 1000.0;
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Archive_Click");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Archive_Click");
 
             if (toastMessage == null) {
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ArchiveToast_Missing");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ArchiveToast_Missing");
                 String msg = "Archive success toast not shown (after " + String.format("%.2f s", elapsedS) + ").";
                 logToAllure("❌ Archive Toast Missing", msg);
                 Assert.fail(msg);
@@ -758,11 +757,11 @@ public class CompliancePageValidationSteps {
 
             logger.info("✅ Archive success message: {}", toastMessage);
             logToAllure("Archive Toast Message", toastMessage);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Archive_Success_Toast");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Archive_Success_Toast");
             logToAllure("✅ Archive Clicked", "Archive button clicked and toast verified: " + toastMessage);
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_Archive_Click");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_Archive_Click");
             logToAllure("❌ Archive Click Failed", "Exception during Archive button click.");
             compliancePage.handleValidationException("Click Archive button", e);
         }
@@ -773,7 +772,7 @@ public class CompliancePageValidationSteps {
         skipIfNoRecords();
         try {
             logStep("🗃️ Navigating to Archive and validating previously selected records...");
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Before_Archive_Validation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Before_Archive_Validation");
 
             Instant navStart = Instant.now();
             NavContext.start("Open Archive list");
@@ -783,7 +782,7 @@ public class CompliancePageValidationSteps {
             long elapsedMs = helperMethods.logLoadTimeAndReturnMs("Open Archive list", navStart);
             double elapsedS = elapsedMs / 1000.0;
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Archive_Validation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Archive_Validation");
 
             if (elapsedMs >= ReusableCommonMethods.NAV_FAIL_MS) {
                 String msg = String.format("Open Archive list took %.2f s — more than %d s. Failing (SLA %ds).", elapsedS, ReusableCommonMethods.NAV_FAIL_MS / 1000, ReusableCommonMethods.NAV_FAIL_MS / 1000);
@@ -804,7 +803,7 @@ public class CompliancePageValidationSteps {
             }
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_Archive_Validation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_Archive_Validation");
             compliancePage.handleValidationException("Archive Validation", e);
         }
     }
@@ -820,18 +819,18 @@ public class CompliancePageValidationSteps {
             archivedRecordsBeforeUnarchive = compliancePage.getArchivedComplianceNames();
 
             logToAllure("📦 Archived Records Fetched", "Records found in Archive before unarchiving: " + archivedRecordsBeforeUnarchive);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Before_Unarchive_Click");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Before_Unarchive_Click");
 
             //Click Unarchive button for each archived record
             compliancePage.clickUnarchiveButtonsForRecords(archivedRecordsBeforeUnarchive);
 
             //Wait for Unarchive to reflect (optional explicit wait inside method)
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Unarchive_Click");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Unarchive_Click");
 
             logToAllure("✅ Unarchive Action Completed", "Unarchive buttons clicked for all archived records.");
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_Unarchive_Action");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_Unarchive_Action");
             compliancePage.handleValidationException("Unarchive Action", e);
             Assert.fail("❌ Exception during Unarchive action. Check logs.");
         }
@@ -843,11 +842,11 @@ public class CompliancePageValidationSteps {
         skipIfNoRecords();
         try {
             logStep("🔁 Navigating to Main Compliance Table and validating unarchived records...");
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Before_Unarchive_Validation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Before_Unarchive_Validation");
 
             boolean isUnarchiveValidationPassed = compliancePage.areUnarchivedRecordsPresentInMainTable(archivedRecordsBeforeUnarchive);
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Unarchive_Validation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Unarchive_Validation");
 
             if (isUnarchiveValidationPassed) {
                 logToAllure("✅ Unarchive Validation Passed", "All unarchived records are successfully restored to the main table.");
@@ -857,7 +856,7 @@ public class CompliancePageValidationSteps {
             }
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_Unarchive_Validation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_Unarchive_Validation");
             compliancePage.handleValidationException("Unarchive Validation", e);
         }
     }
@@ -866,7 +865,7 @@ public class CompliancePageValidationSteps {
     public void the_user_clicks_button_and_csv_is_downloaded(String buttonText) {
         try {
             logStep("📥 Validating CSV download via '" + buttonText + "' button...");
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Before_CSV_Generation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Before_CSV_Generation");
 
             if (!buttonText.equalsIgnoreCase("Generate CSV")) {
                 logToAllure("❌ Invalid Button Text", "Unsupported button: " + buttonText);
@@ -887,7 +886,7 @@ public class CompliancePageValidationSteps {
 
             File downloadedFile = FileUtils.waitForMatchingDownload(downloadDir, "compliance_data", ".csv", clickEpochMs, 60);
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_CSV_Generation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_CSV_Generation");
 
             if (downloadedFile != null && downloadedFile.exists()) {
                 lastDownloadedCsvPath = downloadedFile.toPath(); // pass to next step
@@ -898,7 +897,7 @@ public class CompliancePageValidationSteps {
             }
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_CSV_Generation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_CSV_Generation");
             compliancePage.handleValidationException("CSV Generation and Download", e);
         }
     }
@@ -912,7 +911,7 @@ public class CompliancePageValidationSteps {
             Files.createDirectories(downloadDir);
 
             logStep("📖 Reading CSV file contents from: " + downloadDir.toAbsolutePath());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Before_CSV_Read");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Before_CSV_Read");
 
             Path csvPath = (lastDownloadedCsvPath != null && Files.exists(lastDownloadedCsvPath)) ? lastDownloadedCsvPath : (FileUtils.latestMatchingFile(downloadDirFile, "compliance_data", ".csv") != null ? FileUtils.latestMatchingFile(downloadDirFile, "compliance_data", ".csv").toPath() : null);
 
@@ -941,11 +940,11 @@ public class CompliancePageValidationSteps {
 
             Allure.addAttachment("CSV preview (line-numbered)", "text/plain", captured.toString(), ".txt");
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_CSV_Read");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_CSV_Read");
             logToAllure("✅ CSV read complete", "File: " + csvPath.toAbsolutePath() + " | Lines (incl. header): " + lineNo);
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_CSV_Read");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_CSV_Read");
             compliancePage.handleValidationException("CSV Read/Print", e);
         }
     }
@@ -979,10 +978,10 @@ public class CompliancePageValidationSteps {
     public void the_user_clicks_any_compliance_record_in_the_list() {
         try {
             logStep("🖱️ Clicking the first compliance record in the list...");
-            Thread.sleep(10000);
+            Pacer.pause("CompliancePageValidationSteps.the_user_clicks_any_compliance_record_in_the_list", 10000);
             ScreenshotUtils.attachScreenshotToAllure(driver, "Before_Click_First_Record");
             compliancePage.clearDueDateFilter();
-            Thread.sleep(20000);
+            Pacer.pause("CompliancePageValidationSteps.the_user_clicks_any_compliance_record_in_the_list", 20000);
             compliancePage.clickFirstComplianceRecord();
             helperMethods.pauseForScreenshot();
             ScreenshotUtils.attachScreenshotToAllure(driver, "After_Click_First_Record");
@@ -1257,46 +1256,46 @@ public class CompliancePageValidationSteps {
 
             // ===== Department =====
             compliancePage.openDepartmentDropdown();
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Department_Dropdown_Opened");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Department_Dropdown_Opened");
 
             final List<String> departmentOptions = compliancePage.getDepartmentOptions();
             if (departmentOptions.isEmpty()) {
                 logger.warn("⚠️ Department options list is EMPTY.");
             }
             logToAllure("🏷️ Department Options", departmentOptions.toString());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Department_Options");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Department_Options");
             try {
-                new org.openqa.selenium.interactions.Actions(Hooks.driver).sendKeys(org.openqa.selenium.Keys.ESCAPE).perform();
+                new org.openqa.selenium.interactions.Actions(DriverManager.getDriver()).sendKeys(org.openqa.selenium.Keys.ESCAPE).perform();
             } catch (Throwable ignore) {
             }
 
             // ===== Category =====
             compliancePage.openCategoryDropdown();
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Category_Dropdown_Opened");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Category_Dropdown_Opened");
 
             final List<String> categoryOptions = compliancePage.getCategoryOptions();
             if (categoryOptions.isEmpty()) {
                 logger.warn("⚠️ Category options list is EMPTY.");
             }
             logToAllure("🏷️ Category Options", categoryOptions.toString());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Category_Options");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Category_Options");
             try {
-                new org.openqa.selenium.interactions.Actions(Hooks.driver).sendKeys(org.openqa.selenium.Keys.ESCAPE).perform();
+                new org.openqa.selenium.interactions.Actions(DriverManager.getDriver()).sendKeys(org.openqa.selenium.Keys.ESCAPE).perform();
             } catch (Throwable ignore) {
             }
 
             // ===== Due Date =====
             compliancePage.openDueDateDropdown();
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "DueDate_Dropdown_Opened");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "DueDate_Dropdown_Opened");
 
             final List<String> dueDateOptions = compliancePage.getDueDateOptions();
             if (dueDateOptions.isEmpty()) {
                 logger.warn("⚠️ Due Date options list is EMPTY.");
             }
             logToAllure("🏷️ Due Date Options", dueDateOptions.toString());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "DueDate_Options");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "DueDate_Options");
             try {
-                new org.openqa.selenium.interactions.Actions(Hooks.driver).sendKeys(org.openqa.selenium.Keys.ESCAPE).perform();
+                new org.openqa.selenium.interactions.Actions(DriverManager.getDriver()).sendKeys(org.openqa.selenium.Keys.ESCAPE).perform();
             } catch (Throwable ignore) {
             }
 
@@ -1304,7 +1303,7 @@ public class CompliancePageValidationSteps {
             logger.info("✅ Options count — Department: {}, Category: {}, Due Date: {}", Integer.valueOf(departmentOptions.size()), Integer.valueOf(categoryOptions.size()), Integer.valueOf(dueDateOptions.size()));
             logToAllure("📊 Options Summary", String.format("Department=%d, Category=%d, DueDate=%d", departmentOptions.size(), categoryOptions.size(), dueDateOptions.size()));
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "All_Dropdowns_Summary");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "All_Dropdowns_Summary");
 
         } catch (Throwable t) {
             compliancePage.handleValidationException("Dropdown options validation", t);
@@ -1344,7 +1343,7 @@ public class CompliancePageValidationSteps {
                     String msg = label + ": grid did not reload within configured timeout. Continuing.";
                     logger.error("❌ {}", msg);
                     logToAllure("❌ Reload Timeout", msg);
-                    ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, label.replace(" ", "_") + "_Timeout");
+                    ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), label.replace(" ", "_") + "_Timeout");
                 } else {
                     lastSeenGridSignature = compliancePage.captureGridSignature();
                     logToAllure(label + " → New Signature", lastSeenGridSignature);
@@ -1381,7 +1380,7 @@ public class CompliancePageValidationSteps {
                 logger.info("   • [{}] {}", Integer.valueOf(i + 1), rows.get(i));
             }
             logToAllure("📋 Filtered Grid Items", rows.toString());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Final_Filtered_Grid");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Final_Filtered_Grid");
 
         } catch (Throwable t) {
             compliancePage.handleValidationException("Dept→Category→DueDate filter flow", t);
@@ -1406,7 +1405,7 @@ public class CompliancePageValidationSteps {
                 String msg = "Results grid did not reload within configured timeout. Continuing.";
                 logger.error("❌ {}", msg);
                 logToAllure("❌ Reload Timeout", msg);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Grid_AfterReload_Timeout");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Grid_AfterReload_Timeout");
             } else {
                 lastSeenGridSignature = compliancePage.captureGridSignature();
                 logToAllure("Grid Reload", "Observed new signature.");
@@ -1415,7 +1414,7 @@ public class CompliancePageValidationSteps {
             int count = compliancePage.getVisibleGridItems().size();
             logger.info("📄 Grid shows {} item(s) after reload.", Integer.valueOf(count));
             logToAllure("📄 Grid Count After Reload", String.valueOf(count));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Grid_AfterReload");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Grid_AfterReload");
 
         } catch (Throwable t) {
             compliancePage.handleValidationException("Results grid reload wait", t);
@@ -1439,7 +1438,7 @@ public class CompliancePageValidationSteps {
             // Screenshot each page
             PageNavigationCallback pageShotCb = new PageNavigationCallback() {
                 @Override public void onPage(int pageNumber) {
-                    ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Grid_Page_" + pageNumber);
+                    ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Grid_Page_" + pageNumber);
                     logger.info("📸 Captured Grid_Page_{}", Integer.valueOf(pageNumber));
                 }
             };
@@ -1488,12 +1487,12 @@ public class CompliancePageValidationSteps {
                 String msg = "Missing compliances: " + missing + "\nCompliances on screen: " + actualCanon;
                 logger.error("❌ {}", msg);
                 logToAllure("❌ Missing Compliances", missing.toString());
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Compliances_Missing");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Compliances_Missing");
                 Assert.fail(msg);
             } else {
                 logger.info("✅ All expected compliance found. Matched={}", Integer.valueOf(expected.size()));
                 logToAllure("✅ Compliances Presence", "All expected compliance found (ALL pages).");
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Compliances_Present_AllPages");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Compliances_Present_AllPages");
             }
 
         } catch (Throwable t) {
@@ -1550,7 +1549,7 @@ public class CompliancePageValidationSteps {
                     String msg = label + ": grid did not reload within configured timeout. Continuing.";
                     logger.error("❌ {}", msg);
                     logToAllure("❌ Reload Timeout", msg);
-                    ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, label.replace(" ", "_") + "_Timeout");
+                    ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), label.replace(" ", "_") + "_Timeout");
                 } else {
                     lastSeenGridSignature = compliancePage.captureGridSignature();
                     logToAllure(label + " → New Signature", lastSeenGridSignature);
@@ -1567,7 +1566,7 @@ public class CompliancePageValidationSteps {
                     department,
                     false
             );
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Department_Filter");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Department_Filter");
             waitReload.accept("Grid reload after Department");
 
             // ===== 2) Due Date (no Apply) =====
@@ -1580,7 +1579,7 @@ public class CompliancePageValidationSteps {
                     dueDate,
                     false
             );
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_DueDate_Filter");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_DueDate_Filter");
             waitReload.accept("Grid reload after Due Date");
 
             // ===== Ensure we start at Page 1 for subsequent steps =====
@@ -1605,7 +1604,7 @@ public class CompliancePageValidationSteps {
                         logger.info("📍 Current page after reset: {}", Integer.valueOf(cur));
                     } catch (Throwable ignore) { /* non-fatal */ }
 
-                    ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Reset_To_Page_1");
+                    ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Reset_To_Page_1");
                 } else {
                     logger.info("➡ Single-page result (total <= pageSize). No pager reset needed.");
                 }
@@ -1620,7 +1619,7 @@ public class CompliancePageValidationSteps {
                 logger.info("   • [{}] {}", Integer.valueOf(i + 1), rows.get(i));
             }
             logToAllure("📋 Filtered Grid Items (No Category)", rows.toString());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Final_Filtered_Grid_NoCategory");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Final_Filtered_Grid_NoCategory");
 
         } catch (Throwable t) {
             compliancePage.handleValidationException("Dept→DueDate (no category) filter flow", t);
@@ -1640,7 +1639,7 @@ public class CompliancePageValidationSteps {
     @When("the user clicks the {string} button")
     public void the_user_clicks_the_button(String btnText) throws InterruptedException {
 
-        Thread.sleep(5000);
+        Pacer.pause("CompliancePageValidationSteps.the_user_clicks_the_button", 5000);
         Assert.assertTrue("Add new compliance".equalsIgnoreCase(btnText),
                 "Unexpected button label passed to step: " + btnText);
 
@@ -1655,7 +1654,7 @@ public class CompliancePageValidationSteps {
             String elapsedPretty = compliancePage.formatElapsed(elapsedMs);
 
             Allure.addAttachment("Click Time (" + btnText + ")", elapsedPretty);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Click_AddNewCompliance");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Click_AddNewCompliance");
 
             // SLA: Enterprise Benchmarks
             long warnMs = ReusableCommonMethods.NAV_WARN_MS; // e.g., 8000ms
@@ -1677,7 +1676,7 @@ public class CompliancePageValidationSteps {
             logger.info("✅ '{}' clicked successfully ({})", btnText, elapsedPretty);
 
         } catch (Throwable t) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Click_AddNewCompliance_Error");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Click_AddNewCompliance_Error");
             logger.error("Failed to click '{}': {}", btnText, t.getMessage(), t);
             Allure.addAttachment("❌ Click Error", t.getMessage());
             Assert.fail("Unable to click '" + btnText + "' button. " + t.getMessage());
@@ -1701,7 +1700,7 @@ public class CompliancePageValidationSteps {
             long elapsedMs = System.currentTimeMillis() - startTime;
             String elapsedPretty = compliancePage.formatElapsed(elapsedMs);
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "AddCompliancePanel_State");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "AddCompliancePanel_State");
             Allure.addAttachment("Panel Load Time", elapsedPretty);
 
             long warnMs = ReusableCommonMethods.NAV_WARN_MS;
@@ -1733,7 +1732,7 @@ public class CompliancePageValidationSteps {
             Allure.step("Panel visible and validated.");
 
         } catch (Throwable t) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "AddCompliancePanel_Error");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "AddCompliancePanel_Error");
             logger.error("Error during panel visibility validation: {}", t.getMessage(), t);
             Allure.addAttachment("❌ Panel Check Error", t.getMessage());
             Assert.fail("Panel visibility validation failed: " + t.getMessage());
@@ -1762,7 +1761,7 @@ public class CompliancePageValidationSteps {
 
         Allure.addAttachment("Name", name);
         Allure.addAttachment("Name Entry Time", compliancePage.formatElapsed(elapsed));
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Name_Entered");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Name_Entered");
         Assert.assertTrue(name != null && !name.isEmpty(), "Generated name is empty.");
     }
 
@@ -1777,7 +1776,7 @@ public class CompliancePageValidationSteps {
         long elapsed = System.currentTimeMillis() - t0;
         Allure.addAttachment("Frequency chosen", chosen);
         Allure.addAttachment("Frequency Selection Time", compliancePage.formatElapsed(elapsed));
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Frequency_Selected");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Frequency_Selected");
         Assert.assertTrue(chosen != null && chosen.length() > 0, "Frequency selection failed.");
     }
 
@@ -1793,7 +1792,7 @@ public class CompliancePageValidationSteps {
 
         Allure.addAttachment("Due Date (Chosen)", picked);
         Allure.addAttachment("Due Date Selection Time", pretty);
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "DueDate_Selected");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "DueDate_Selected");
 
         Assert.assertNotNull(picked, "Due Date returned is null.");
         Assert.assertFalse(picked.isEmpty(), "Due date selection failed.");
@@ -1816,7 +1815,7 @@ public class CompliancePageValidationSteps {
         long elapsed = System.currentTimeMillis() - t0;
         Allure.addAttachment("Risk chosen", risk);
         Allure.addAttachment("Risk Selection Time", compliancePage.formatElapsed(elapsed));
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Risk_Selected");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Risk_Selected");
         Assert.assertTrue(risk != null && risk.length() > 0, "Risk selection failed.");
     }
 
@@ -1834,7 +1833,7 @@ public class CompliancePageValidationSteps {
 
         Allure.addAttachment("Toggle '" + toggleName + "'", String.valueOf(desired));
         Allure.addAttachment("Toggle Action Time", compliancePage.formatElapsed(elapsed));
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Mandatory_Toggle_Set");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Mandatory_Toggle_Set");
     }
 
     @And("the user selects randomized valid organization")
@@ -1846,7 +1845,7 @@ public class CompliancePageValidationSteps {
 
         Allure.addAttachment("Organization chosen", org);
         Allure.addAttachment("Organization Selection Time", compliancePage.formatElapsed(elapsed));
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Organization_Selected");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Organization_Selected");
         Assert.assertTrue(org != null && !org.isEmpty(), "Organization selection failed.");
     }
 
@@ -1862,7 +1861,7 @@ public class CompliancePageValidationSteps {
 
         Allure.addAttachment("Description length", String.valueOf(desc.length()));
         Allure.addAttachment("Description Entry Time", compliancePage.formatElapsed(elapsed));
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Description_Entered");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Description_Entered");
         Assert.assertTrue(desc.length() > 0, "Generated description is empty.");
     }
 
@@ -1884,7 +1883,7 @@ public class CompliancePageValidationSteps {
             long elapsed = out.elapsedMs;
             String pretty = String.format("%.2f s", elapsed / 1000.0);
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Create_Compliances");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Create_Compliances");
             Allure.addAttachment("Create → Compliances Time", pretty);
 
             if (out.warned1)
@@ -1899,11 +1898,11 @@ public class CompliancePageValidationSteps {
             logger.info("✅ Arrived on Compliances in {}", pretty);
 
         } catch (TimeoutException te) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Create_Timeout");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Create_Timeout");
             logToAllure("❌ SLA Failure (4 min)", te.getMessage());
             Assert.fail(te.getMessage());
         } catch (Throwable t) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Create_Click_Error");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Create_Click_Error");
             logToAllure("❌ Create Error", t.getMessage());
             Assert.fail("Create flow failed. " + t.getMessage());
         }
@@ -1927,11 +1926,11 @@ public class CompliancePageValidationSteps {
 
             Allure.addAttachment("Entity (Organization) applied", orgName);
             Allure.addAttachment("Filter time", compliancePage.formatElapsed(elapsed));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Filtered_By_Organization");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Filtered_By_Organization");
 
             logger.info("✅ Filtered by organization '{}'", orgName);
         } catch (Throwable t) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Filter_Organization_Error");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Filter_Organization_Error");
             logger.error("❌ Filtering by organization failed: {}", t.getMessage(), t);
             Allure.addAttachment("❌ Filter Error", t.getMessage());
             Assert.fail("Filtering by organization failed: " + t.getMessage());
@@ -1947,11 +1946,11 @@ public class CompliancePageValidationSteps {
             compliancePage.clearDueDateFilter(helperMethods);
             long elapsed = System.currentTimeMillis() - t0;
             String pretty = String.format("%.2f s", elapsed / 1000.0);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "After_Clear_DueDate");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "After_Clear_DueDate");
             io.qameta.allure.Allure.addAttachment("Due Date → Clear Time", pretty);
             logger.info("✅ Due Date filter cleared in {}", pretty);
         } catch (Throwable t) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Clear_DueDate_Error");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Clear_DueDate_Error");
             logger.error("❌ Failed to clear Due Date filter: {}", t.getMessage(), t);
             io.qameta.allure.Allure.addAttachment("❌ Due Date Clear Error", t.getMessage());
             Assert.fail("Clearing Due Date filter failed. " + t.getMessage());
@@ -1972,12 +1971,12 @@ public class CompliancePageValidationSteps {
             String pretty = compliancePage.formatElapsed(ms);
 
             // step-only artifacts
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Internal_Filter_ON");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Internal_Filter_ON");
             io.qameta.allure.Allure.addAttachment("Internal Filter Toggle Time", pretty);
 
             logger.info("✅ Internal filter toggled ON ({})", pretty);
         } catch (Throwable t) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Internal_Filter_ON_Failure");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Internal_Filter_ON_Failure");
             logger.error("❌ Failed to toggle Internal ON: {}", t.getMessage(), t);
             logToAllure("❌ Internal Toggle Error", t.getMessage());
             Assert.fail("Toggling Internal filter ON failed. " + t.getMessage());
@@ -2001,7 +2000,7 @@ public class CompliancePageValidationSteps {
         String pretty = compliancePage.formatElapsed(elapsed);
 
         // Always attach screenshot
-        ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Compliance_List_Check");
+        ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Compliance_List_Check");
 
         // Add Allure logs
         logToAllure("Compliance Name (Expected)", expected);
@@ -2035,15 +2034,18 @@ public class CompliancePageValidationSteps {
                             displayedTotal,
                             new PageNavigationCallback() {
                                 @Override
-                                public void onPage(int pageNo) {
-                                    // This executes while that page is shown
-                                    ScreenshotUtils.attachScreenshotToAllure(
-                                            Hooks.driver,
-                                            "Compliances_Page_" + pageNo
-                                    );
+                                public String pageShotName(int pageNo) {
+                                    // Taken by whichever browser shows the page (also with grid.harvest.workers > 1)
+                                    return "Compliances_Page_" + pageNo;
                                 }
                             },
-                            null   // no timing callback
+                            new PageNavigationCallback() {
+                                @Override
+                                public void onWorkerTiming(int worker, int fromPage, int toPage, long elapsedMs) {
+                                    logToAllure("🧵 Harvest browser " + worker,
+                                            "Pages " + fromPage + "-" + toPage + " read in " + elapsedMs + " ms");
+                                }
+                            }
                     );
 
             // 3️⃣ Cache for the next verification step
@@ -2097,13 +2099,13 @@ public class CompliancePageValidationSteps {
                 logToAllure("🎯 Created Compliance Row(s) Across Pages", msg);
 
                 // Optional: one more summary screenshot (you already have per-page shots)
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Created_Compliance_Row_Only_Summary");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Created_Compliance_Row_Only_Summary");
 
             } else {
                 String msg = "❌ Created compliance '" + expectedName + "' not found on any page.";
                 logger.error(msg);
                 logToAllure("❌ Created Compliance Not Found (print only)", msg);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Created_Compliance_Not_Found_PrintOnly");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Created_Compliance_Not_Found_PrintOnly");
                 Assert.fail(msg);
             }
 
@@ -2136,13 +2138,6 @@ public class CompliancePageValidationSteps {
             // 1️⃣ Prefer the snapshot collected in the previous step
             Map<Integer, List<ComplianceRow>> pageWise = ScenarioState.getAllComplianceRows();
 
-            // Fallback (should rarely happen): re-collect from UI
-            if (pageWise == null || pageWise.isEmpty()) {
-                logger.warn("⚠️ No cached compliance rows in ScenarioState – recollecting from UI.");
-                int displayedTotal = compliancePage.getStageSectionTabCount("All");
-                pageWise = compliancePage.fetchAllRowsAcrossPages(displayedTotal, null, null);
-            }
-
             String expectedCanon = compliancePage.canonicalComplianceName(expectedName);
 
             boolean found = false;
@@ -2151,6 +2146,28 @@ public class CompliancePageValidationSteps {
             int foundPage  = -1;
             int foundIndex = -1;
 
+            // Fallback (should rarely happen): search the UI lazily, paging only until the row is found
+            if (pageWise == null || pageWise.isEmpty()) {
+                logger.warn("⚠️ No cached compliance rows in ScenarioState – searching the UI page by page.");
+                pageWise = Map.of();
+                PagedRows<ComplianceRow> rows = compliancePage.complianceRows();
+                while (rows.hasNext()) {
+                    ComplianceRow cr = rows.next();
+                    String nameCanon = compliancePage.canonicalComplianceName(cr.getName() == null ? "" : cr.getName().trim());
+                    if (!nameCanon.isEmpty()
+                            && (nameCanon.equals(expectedCanon)
+                            || nameCanon.contains(expectedCanon)
+                            || expectedCanon.contains(nameCanon))) {
+                        found = true;
+                        foundPage  = rows.page();
+                        foundIndex = rows.index() + 1;
+                        foundOffice = (cr.getOffice()   == null) ? "" : cr.getOffice().trim();
+                        foundDue    = (cr.getDueDate() == null) ? "" : cr.getDueDate().trim();
+                        break;
+                    }
+                }
+            }
+
             for (Map.Entry<Integer, List<ComplianceRow>> e : pageWise.entrySet()) {
                 Integer pageNo = e.getKey();
                 List<ComplianceRow> rows = e.getValue();
@@ -2195,13 +2212,13 @@ public class CompliancePageValidationSteps {
                 logger.info("🎯 Exact created compliance row:\n{}", exactRow);
                 logToAllure("🎯 Exact Created Compliance Row (Name / Office / Due Date)", exactRow);
 
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Created_Compliance_Row_Exact");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Created_Compliance_Row_Exact");
 
             } else {
                 String msg = "❌ Created compliance '" + expectedName + "' not found in any page rows.";
                 logger.error(msg);
                 logToAllure("❌ Created Compliance Row", msg);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Created_Compliance_Not_Found_AllPages");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Created_Compliance_Not_Found_AllPages");
                 Assert.fail(msg);
             }
 
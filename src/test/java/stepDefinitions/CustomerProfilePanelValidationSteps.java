@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 
-import hooks.Hooks;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -27,7 +26,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 
 public class CustomerProfilePanelValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     CustomerProfilePanel customerProfilePanel;
     Logger logger;
     WebDriverWait wait;
@@ -37,9 +36,9 @@ public class CustomerProfilePanelValidationSteps {
 
 
     public CustomerProfilePanelValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.customerProfilePanel = new CustomerProfilePanel(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -63,7 +62,7 @@ public class CustomerProfilePanelValidationSteps {
             customerProfilePanel.clickProfileIcon();
 
             // evidence
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ProfileIcon_Clicked");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ProfileIcon_Clicked");
             logToAllure("📋 Action", "Clicked on \"" + iconName + "\" icon");
 
             logger.info("✅ Profile icon clicked: {}", iconName);
@@ -86,7 +85,7 @@ public class CustomerProfilePanelValidationSteps {
             logToAllure("🔎 Validation", "Customer Profile panel is open");
 
             // evidence
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "CustomerProfilePanel_Open");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "CustomerProfilePanel_Open");
             logToAllure("📷 Screenshot", "Captured Customer Profile panel");
 
             logger.info("✅ Customer Profile panel opened successfully");
@@ -131,7 +130,7 @@ public class CustomerProfilePanelValidationSteps {
                 }
             }
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Identity_Details_Displayed");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Identity_Details_Displayed");
             logToAllure("📷 Screenshot", "Captured identity details section");
         } catch (Throwable t) {
             customerProfilePanel.handleValidationException("Validate identity details are displayed", t);
@@ -181,7 +180,7 @@ public class CustomerProfilePanelValidationSteps {
 
             Assert.assertEquals(uiEmailN, expEmailN, "❌ Email mismatch.\nUI: " + uiEmail + " | Expected: " + expEmail);
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Identity_Match_OK");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Identity_Match_OK");
 
             // --- detailed logger messages ---
             logger.info("✅ Validation successful: Customer profile details match login credentials.");
@@ -258,7 +257,7 @@ public class CustomerProfilePanelValidationSteps {
             // optional: if you still want counts to match exactly
             Assert.assertEquals(actual.size(), expected.size(), "❌ Menu items count differs. (Order ignored)\nExpected count: " + expected.size() + " | Actual count: " + actual.size());
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "MenuItems_Validated");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "MenuItems_Validated");
             logger.info("✅ Menu items present (order ignored). Expected={}, Actual={}", expected, actual);
 
         } catch (Throwable t) {
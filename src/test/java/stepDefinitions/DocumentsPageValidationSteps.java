@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 
-import hooks.Hooks;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -31,7 +30,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 
 public class DocumentsPageValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     DocumentPage documentPage;
     Logger logger;
     WebDriverWait wait;
@@ -41,9 +40,9 @@ public class DocumentsPageValidationSteps {
     private String lastCreatedFolderName;
 
     public DocumentsPageValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.documentPage = new DocumentPage(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -102,7 +101,7 @@ public class DocumentsPageValidationSteps {
                 // Optional: refresh to normalize state for subsequent steps
                 driver.navigate().refresh();
                 try {
-                    Thread.sleep(2000);
+                    Pacer.pause("DocumentsPageValidationSteps.the_user_navigates_to_the_documents_page", 2000);
                 } catch (InterruptedException ignored) {
                 }
 
@@ -335,7 +334,7 @@ public class DocumentsPageValidationSteps {
 
                 try {
                     driver.navigate().refresh();
-                    Thread.sleep(2000L);
+                    Pacer.pause("DocumentsPageValidationSteps.user_click_the_tab", 2000L);
                 } catch (InterruptedException ignored) {
                 }
             } else {
@@ -725,7 +724,7 @@ public class DocumentsPageValidationSteps {
                 logToAllure("Step 4: Download via preview", "Clicking preview download button");
                 documentPage.clickPreviewDownload();
                 shots.shot("Clicked Download (modal)");
-                Path downloadDir = Paths.get(System.getProperty("download.dir", System.getProperty("user.dir") + "/downloads"));
+                Path downloadDir = FileUtils.getDefaultDownloadDir().toPath();
                 logToAllure("Step 5: Wait for PDF in downloads", "Directory = " + downloadDir.toString() + "\nMatch prefix = " + expectedBase);
                 documentPage.attachDownloadDirListing(downloadDir, "Downloads BEFORE wait");
                 boolean gotIt = documentPage.waitForPdfDownloaded(downloadDir, expectedBase, Duration.ofSeconds(30));
@@ -744,13 +743,13 @@ public class DocumentsPageValidationSteps {
                 logger.info("No preview modal detected; proceeding with direct row click.");
                 shots.shot("Before direct row click");
 
-                Path dlDir = Paths.get(System.getProperty("download.dir", System.getProperty("user.dir") + "/downloads"));
+                Path dlDir = FileUtils.getDefaultDownloadDir().toPath();
 
                 logToAllure("Step 4 (Fallback): Wait for download", "Directory = " + dlDir.toString() + "\nPrefix = " + expectedBase);
-                Thread.sleep(5000);
+                Pacer.pause("DocumentsPageValidationSteps.shot", 5000);
                 boolean downloaded = documentPage.clickFirstMatchingRowAndWaitDownloadPrefix(expectedBase, dlDir, Duration.ofSeconds(45));
                 shots.shot("After direct row click");
-                Thread.sleep(5000);
+                Pacer.pause("DocumentsPageValidationSteps.shot", 5000);
                 documentPage.attachDownloadDirListing(dlDir, "Downloads AFTER row click");
 
                 softAssert.assertTrue(downloaded, "No matching PDF appeared in downloads (fallback). Expected base prefix: " + expectedBase);
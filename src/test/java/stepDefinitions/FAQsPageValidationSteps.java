@@ -1,6 +1,5 @@
 package stepDefinitions;
 
-import hooks.Hooks;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
@@ -28,7 +27,7 @@ import static utils.AllureLoggerUtils.logToAllure;
  */
 public class FAQsPageValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     FAQsPage faQsPage;
     Logger logger;
     WebDriverWait wait;
@@ -39,9 +38,9 @@ public class FAQsPageValidationSteps {
     private final SoftAssert softAssert = new SoftAssert();
 
     public FAQsPageValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.faQsPage = new FAQsPage(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
 
@@ -114,7 +113,7 @@ public class FAQsPageValidationSteps {
 
                 // Optional: refresh between checks
                 driver.navigate().refresh();
-                Thread.sleep(2000);
+                Pacer.pause("FAQsPageValidationSteps.the_user_should_redirected_to_page", 2000);
 
             } else {
                 String failMsg = String.format(
@@ -1,6 +1,5 @@
 package stepDefinitions;
 
-import hooks.Hooks;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
@@ -56,7 +55,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 
 public class HomePageValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     HomePage homePage;
     Logger logger;
     WebDriverWait wait;
@@ -73,9 +72,9 @@ public class HomePageValidationSteps {
 
 
     public HomePageValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.homePage = new HomePage(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -202,7 +201,7 @@ public class HomePageValidationSteps {
 
                         // Optional: refresh between checks
                         driver.navigate().refresh();
-                        Thread.sleep(2000);
+                        Pacer.pause("HomePageValidationSteps.the_user_should_be_able_to_access_the_following_menu_items", 2000);
 
                     } else {
                         String failMsg = String.format("Unable to access or verify menu item within %d s: %s", ReusableCommonMethods.NAV_FAIL_MS / 1000, trimmedMenu);
@@ -538,7 +537,7 @@ public class HomePageValidationSteps {
                 helperMethods.refreshAndReapply("Due Date - " + dueDate, () -> homePage.selectDueDateDropdownFromCompliancePage(dueDate));
 
                 try {
-                    Thread.sleep(5_000); // 5 seconds
+                    Pacer.pause("HomePageValidationSteps.verify_count_consistency_across_pages", 5_000); // 5 seconds
                 } catch (InterruptedException ie) {
                     Thread.currentThread().interrupt();
                 }
@@ -607,7 +606,7 @@ public class HomePageValidationSteps {
             // 6) Final assertions + artifacts
             Assert.assertTrue(success, "❌ User is not on the Home page.");
             logToAllure("🏠 Home Page Loaded", String.valueOf(success));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "HomePage_Confirmation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "HomePage_Confirmation");
             logger.info("✅ Home page successfully confirmed.");
 
         } catch (Throwable t) {
@@ -664,7 +663,7 @@ public class HomePageValidationSteps {
                 // Step 2: Reset dropdown state
                 try {
                     new Actions(driver).sendKeys(Keys.ESCAPE).perform();
-                    Thread.sleep(500);
+                    Pacer.pause("HomePageValidationSteps.verify_selected_org_is_reflected_on_compliance_page", 500);
                 } catch (Exception esc) {
                     logger.warn("⚠️ Could not reset dropdown using ESC: {}", esc.getMessage());
                 }
@@ -678,7 +677,7 @@ public class HomePageValidationSteps {
                 boolean isCompliancePageLoaded = homePage.goToCompliancePage();
                 Assert.assertTrue(isCompliancePageLoaded, "❌ Compliance page not loaded properly.");
 
-                Thread.sleep(1000);
+                Pacer.pause("HomePageValidationSteps.verify_selected_org_is_reflected_on_compliance_page", 1000);
 
                 // Step 5: Validate
                 String selectedOrg = homePage.getSelectedOrganizationName();
@@ -1319,7 +1318,7 @@ public class HomePageValidationSteps {
 
                 // Step 1: Fetch count with screenshot
                 logger.info("📊 Fetching [{}] Risk count from Home page...", category);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, category + "_RiskCount_HomePage");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), category + "_RiskCount_HomePage");
 
                 switch (category.toLowerCase()) {
                     case "high":
@@ -1338,7 +1337,7 @@ public class HomePageValidationSteps {
 
                 // Step 2: Click category with screenshot
                 logger.info("🖱️ Clicking on [{}] category...", category);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, category + "_BeforeClick");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), category + "_BeforeClick");
 
                 switch (category.toLowerCase()) {
                     case "high":
@@ -1352,7 +1351,7 @@ public class HomePageValidationSteps {
                         break;
                 }
 
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, category + ": After Clicking " + category + " ,Navigating to Compliance page");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), category + ": After Clicking " + category + " ,Navigating to Compliance page");
 
                 // Step 3: Validate count on Compliance page with screenshot
                 logger.info("🔍 Validating [{}] Risk count on Compliance screen...", category);
@@ -1360,7 +1359,7 @@ public class HomePageValidationSteps {
 
                 logger.info("✅ [{}] Risk Compliance Page Count Fetched: {}", category, actualCount);
                 io.qameta.allure.Allure.addAttachment(category + " Risk Compliance Page Count", String.valueOf(actualCount));
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, category + "_CompliancePageCount");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), category + "_CompliancePageCount");
 
                 Assert.assertEquals(actualCount, expectedCount, "❌ Mismatch in " + category + " risk count on Compliance screen");
 
@@ -1371,7 +1370,7 @@ public class HomePageValidationSteps {
                 // Step 4: Navigate back to home page with screenshot
                 logger.info("↩️ Navigating back to Home page after verifying [{}]...", category);
                 boolean isHome = homePage.navigateAndConfirmHomePage();
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, category + "_HomePage_AfterReturn");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), category + "_HomePage_AfterReturn");
 
                 Assert.assertTrue(isHome, "❌ Failed to navigate back to Home page after " + category);
                 logger.info("✅ Successfully returned to Home page after [{}].", category);
@@ -1395,7 +1394,7 @@ public class HomePageValidationSteps {
 
                 homePage.hoverOverRiskCategory(category);
 
-                Thread.sleep(1500);
+                Pacer.pause("HomePageValidationSteps.hover_and_capture_bifurcation_screenshots", 1500);
 
                 ScreenshotUtils.attachScreenshotToAllure(driver, category + "_BifurcationTooltip");
                 logger.info("📸 Screenshot captured for category: {}", category);
@@ -1874,7 +1873,7 @@ public class HomePageValidationSteps {
             }
 
             logger.info("📝 Clicked Record: {}", clickedRecord);
-            Thread.sleep(1000); // Allow panel to render
+            Pacer.pause("HomePageValidationSteps.verify_random_record_opens_detail_with_correct_due_date", 1000); // Allow panel to render
 
             String dueDate = homePage.getRightPanelDueDate();
             logger.info("📅 Due Date from panel: {}", dueDate);
@@ -1,6 +1,5 @@
 package stepDefinitions;
 
-import hooks.Hooks;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -44,7 +43,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 
 public class LoginPageValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     LoginPage loginPage;
     Logger logger;
     WebDriverWait wait;
@@ -55,9 +54,9 @@ public class LoginPageValidationSteps {
     private Instant redirectStart;
 
     public LoginPageValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.loginPage = new LoginPage(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -149,7 +148,7 @@ public class LoginPageValidationSteps {
             ScreenshotUtils.attachScreenshotToAllure(driver, "Clicked_Get_OTP");
 
             // wait until OTP inputs are ready (destination readiness)
-            WebDriverWait waitForOtp = new WebDriverWait(
+            WebDriverWait waitForOtp = new TrackedWait(
                     driver, java.time.Duration.ofMillis(ReusableCommonMethods.LOGIN_FAIL_MS)
             );
             waitForOtp.until(d -> loginPage.isOtpFieldVisibleAndEnabled());
@@ -311,7 +310,7 @@ public class LoginPageValidationSteps {
                             "Timeout(ms): " + maxMs);
             ScreenshotUtils.attachScreenshotToAllure(driver, "Pre_FirstSignal_Wait");
 
-            new WebDriverWait(driver, Duration.ofMillis(maxMs))
+            new TrackedWait(driver, Duration.ofMillis(maxMs))
                     .until(ExpectedConditions.or(
                             ExpectedConditions.visibilityOfElementLocated(homeLogoBy),
                             ExpectedConditions.visibilityOfElementLocated(profileIncompleteBy),
@@ -409,7 +408,7 @@ public class LoginPageValidationSteps {
             logStep("🔎 Verifying homepage is visible…");
             logToAllure("🔎 Homepage Verification",
                     "Waiting for logo with alt='" + expectedAltText + "'");
-            new WebDriverWait(driver, Duration.ofMillis(ReusableCommonMethods.LOGIN_FAIL_MS))
+            new TrackedWait(driver, Duration.ofMillis(ReusableCommonMethods.LOGIN_FAIL_MS)).slaLimit()
                     .until(ExpectedConditions.visibilityOfElementLocated(homeLogoBy));
             ScreenshotUtils.attachScreenshotToAllure(driver, "Homepage_Logo_Visible");
 
@@ -425,14 +424,14 @@ public class LoginPageValidationSteps {
             ScreenshotUtils.attachScreenshotToAllure(driver, "Homepage_Redirected");
 
         } catch (AssertionError ae) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Assertion_Homepage");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Assertion_Homepage");
             logToAllure("❌ Assertion Failure",
                     "Context: Homepage Redirection - Assertion\nMessage: " + ae.getMessage());
             loginPage.handleValidationException("Homepage Redirection - Assertion", ae);
             throw ae;
 
         } catch (Exception e) {
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "Exception_Homepage");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "Exception_Homepage");
             logToAllure("💥 Exception",
                     "Context: Homepage Redirection - Exception\nType: " + e.getClass().getSimpleName() + "\nMessage: " + e.getMessage());
             loginPage.handleValidationException("Homepage Redirection - Exception", e);
@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 
-import hooks.Hooks;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
@@ -30,7 +29,7 @@ import java.util.Set;
 
 public class ReportAnIssueValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     ReportAnIssueSection reportAnIssue;
     Logger logger;
     WebDriverWait wait;
@@ -38,9 +37,9 @@ public class ReportAnIssueValidationSteps {
     ReusableCommonMethods helperMethods;
 
     public ReportAnIssueValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.reportAnIssue = new ReportAnIssueSection(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -90,7 +89,7 @@ public class ReportAnIssueValidationSteps {
 
             // 6) Final artifacts
             logToAllure("📋 Report an Issue Page Loaded", String.valueOf(success));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ReportAnIssuePage_Confirmation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ReportAnIssuePage_Confirmation");
             logger.info("✅ Report an Issue page successfully confirmed.");
 
         } catch (Throwable t) {
@@ -108,7 +107,7 @@ public class ReportAnIssueValidationSteps {
             reportAnIssue.openModulesDropdown();
 
             logToAllure("📋 Modules Dropdown Action", "Modules dropdown clicked.");
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ModulesDropdown_Clicked");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ModulesDropdown_Clicked");
 
             logger.info("✅ Modules dropdown click action performed.");
         } catch (Throwable t) {
@@ -133,7 +132,7 @@ public class ReportAnIssueValidationSteps {
 
             logToAllure("📋 Expected Modules Options", expected.toString());
             logToAllure("🔍 Actual Modules Options", actual.toString());
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ModulesDropdown_Options");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ModulesDropdown_Options");
 
             // order-agnostic, set-based comparison
             Set<String> expectedSet = new HashSet<>(expected);
@@ -166,7 +165,7 @@ public class ReportAnIssueValidationSteps {
 
             reportAnIssue.selectModuleByName(moduleName);
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ModulesDropdown_Selected_" + moduleName);
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ModulesDropdown_Selected_" + moduleName);
             logger.info("✅ Selected module: {}", moduleName);
         } catch (Throwable t) {
             reportAnIssue.handleValidationException("Select module '" + moduleName + "'", t);
@@ -191,7 +190,7 @@ public class ReportAnIssueValidationSteps {
             }
 
             logToAllure("📋 Selected Module (Actual)", actual);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ModulesDropdown_SelectedValue");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ModulesDropdown_SelectedValue");
 
             Assert.assertEquals(actual, expected, "❌ Wrong module selected!");
             logger.info("✅ Module verification passed. Expected={}, Actual={}", expected, actual);
@@ -214,7 +213,7 @@ public class ReportAnIssueValidationSteps {
             }
 
             logToAllure("📋 Random Feedback Used", feedback);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "FeedbackField_Filled");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "FeedbackField_Filled");
             String actualFeedback = reportAnIssue.getFeedbackFieldValue();
             if (actualFeedback == null || actualFeedback.trim().isEmpty()) {
                 logger.error("❌ Feedback field is empty after entering feedback");
@@ -236,7 +235,7 @@ public class ReportAnIssueValidationSteps {
             logStep("🔎 Validating that the Send button is enabled...");
             boolean isEnabled = reportAnIssue.verifySendButtonEnabled();
             Assert.assertTrue(isEnabled, "❌ Send button is not enabled!");
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SendButton_Enabled");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SendButton_Enabled");
             logToAllure("📋 Validation", "Send button is visible and enabled.");
             logger.info("✅ Send button validation passed.");
         } catch (Throwable t) {
@@ -251,10 +250,10 @@ public class ReportAnIssueValidationSteps {
             logStep("🖱️ Clicking the Send button...");
             boolean ready = reportAnIssue.verifySendButtonEnabled();
             Assert.assertTrue(ready, "❌ Send button is not ready (not visible or not enabled).");
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SendButton_BeforeClick");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SendButton_BeforeClick");
             logToAllure("📋 Precondition", "Send button is visible and enabled.");
             reportAnIssue.clickSendButton();
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SendButton_AfterClick");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SendButton_AfterClick");
             logToAllure("📋 Action", "Send button clicked.");
             logger.info("✅ Send button click performed.");
         } catch (Throwable t) {
@@ -269,7 +268,7 @@ public class ReportAnIssueValidationSteps {
             logStep("🔎 Validating confirmation message: " + expectedMessage);
             reportAnIssue.verifyConfirmationMessage(expectedMessage);
             logToAllure("📋 Confirmation (Expected)", expectedMessage);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ConfirmationMessage_Visible");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ConfirmationMessage_Visible");
 
             logger.info("✅ Confirmation message validation passed.");
         } catch (Throwable t) {
@@ -283,7 +282,7 @@ public class ReportAnIssueValidationSteps {
         try {
             logStep("🖱️ Closing the confirmation popup...");
             reportAnIssue.closeConfirmationPopup();
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ConfirmationPopup_Closed");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ConfirmationPopup_Closed");
             logToAllure("📋 Action", "Closed confirmation popup");
             logger.info("✅ Confirmation popup closed.");
         } catch (Throwable t) {
@@ -302,7 +301,7 @@ public class ReportAnIssueValidationSteps {
 
             // Evidence & reporting remain in the step layer
             logToAllure("📋 Expected Support Email", expectedEmail);
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SupportEmailLink_Visible");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SupportEmailLink_Visible");
 
             logger.info("✅ Support email hyperlink present and correct: {}", expectedEmail);
         } catch (Throwable t) {
@@ -319,7 +318,7 @@ public class ReportAnIssueValidationSteps {
             // POM action
             reportAnIssue.clickSupportEmailLink();
 
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "SupportEmailLink_Clicked");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "SupportEmailLink_Clicked");
             logToAllure("📋 Action", "Clicked on support email hyperlink: " + expectedEmail);
 
             logger.info("✅ Support email hyperlink clicked: {}", expectedEmail);
@@ -338,28 +337,28 @@ public class ReportAnIssueValidationSteps {
             Assert.assertEquals(actualHref, expectedHref, "❌ Expected mailto='" + expectedHref + "' but got '" + actualHref + "'");
 
             // Capture handles BEFORE click
-            Set<String> beforeHandles = Hooks.driver.getWindowHandles();
+            Set<String> beforeHandles = DriverManager.getDriver().getWindowHandles();
 
             // Click
             reportAnIssue.clickSupportEmailLink();
 
             // small wait for a possible new window/tab
             try {
-                Thread.sleep(1200);
+                Pacer.pause("ReportAnIssueValidationSteps.the_default_mail_application_should_open_with_in_the_field", 1200);
             } catch (InterruptedException ignored) {
             }
 
-            Set<String> afterHandles = Hooks.driver.getWindowHandles();
+            Set<String> afterHandles = DriverManager.getDriver().getWindowHandles();
             boolean newWindowOpened = afterHandles.size() > beforeHandles.size();
 
             if (newWindowOpened) {
                 afterHandles.removeAll(beforeHandles);
                 String newHandle = afterHandles.iterator().next();
-                Hooks.driver.switchTo().window(newHandle);
+                DriverManager.getDriver().switchTo().window(newHandle);
 
-                String openedUrl = Hooks.driver.getCurrentUrl();
+                String openedUrl = DriverManager.getDriver().getCurrentUrl();
                 logToAllure("📎 Opened URL", openedUrl == null ? "(null)" : openedUrl);
-                ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "MailHandler_BrowserWindow");
+                ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "MailHandler_BrowserWindow");
 
                 boolean looksLikeMailHandler = openedUrl != null && (openedUrl.startsWith("mailto:") || openedUrl.toLowerCase().contains("outlook") || openedUrl.toLowerCase().contains("office") || openedUrl.toLowerCase().contains("live.com") || openedUrl.toLowerCase().contains("gmail") || openedUrl.toLowerCase().contains("google"));
 
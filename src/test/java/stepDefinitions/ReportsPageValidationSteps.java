@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 
-import hooks.Hooks;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -28,7 +27,7 @@ import java.time.Duration;
 
 public class ReportsPageValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     ReportsPage reportsPage;
     Logger logger;
     WebDriverWait wait;
@@ -37,9 +36,9 @@ public class ReportsPageValidationSteps {
     private String fuClickedValue = null;
 
     public ReportsPageValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.reportsPage = new ReportsPage(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
@@ -428,7 +427,7 @@ public class ReportsPageValidationSteps {
 
                 // tiny settle for stability on next iteration
                 try {
-                    Thread.sleep(350);
+                    Pacer.pause("ReportsPageValidationSteps.the_user_validates_each_frequently_used_report_redirects_correctly_and_can_go_back", 350);
                 } catch (InterruptedException ignored) {
                 }
             }
@@ -610,7 +609,7 @@ public class ReportsPageValidationSteps {
                 }
                 logger.info("↩️ Returned to Reports page for '{}'", chosen);
                 try {
-                    Thread.sleep(350);
+                    Pacer.pause("ReportsPageValidationSteps.the_user_validates_each_of_the_listed_risk_levels_shows_compliance_results", 350);
                 } catch (InterruptedException ignored) {
                 }
             }
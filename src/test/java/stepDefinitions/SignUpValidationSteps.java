@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 import com.github.javafaker.Faker;
-import hooks.Hooks;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -27,7 +26,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 
 public class SignUpValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     SignUpPage signUpPage;
     Logger logger;
     WebDriverWait wait;
@@ -64,10 +63,10 @@ public class SignUpValidationSteps {
 
 
     public SignUpValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.faker = new Faker();
         this.signUpPage = new SignUpPage(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.loginPage = new LoginPage(driver);
         this.homePage = new HomePage(driver);
         this.logger = LoggerUtils.getLogger(getClass());
@@ -488,7 +487,7 @@ public class SignUpValidationSteps {
             ScreenshotUtils.attachScreenshotToAllure(driver, "Before_LoginWithPassword_Click");
 
             signUpPage.clickLoginWithPassword();
-            Thread.sleep(5000);
+            Pacer.pause("SignUpValidationSteps.the_user_clicks_on_the_login_with_password_link_on_the_login_page", 5000);
             signUpPage.clickLoginWithPassword();
 
             signUpPage.waitForLoginWithPasswordForm(Duration.ofSeconds(10));
@@ -855,7 +854,7 @@ public class SignUpValidationSteps {
             // 6) Final assertions + artifacts
             Assert.assertTrue(success, "❌ User is not on the Home page.");
             logToAllure("🏠 Home Page Loaded", String.valueOf(success));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "HomePage_Confirmation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "HomePage_Confirmation");
             logger.info("✅ Home page successfully confirmed.");
 
         } catch (Throwable t) {
@@ -1340,7 +1339,7 @@ public class SignUpValidationSteps {
             int progressValue = signUpPage.waitUntilOverallProgressIsHundredPercent();
             Assert.assertEquals(progressValue, 100, "Overall Progress did not reach 100% before reading compliances count.");
 
-            Thread.sleep(4000);
+            Pacer.pause("SignUpValidationSteps.the_compliance_analysis_screen_should_be_displayed_and_user_clicks_view_my_compliances", 4000);
             // 4) Now it is safe to read 'Compliances Found' count
             compliancesFoundCount = signUpPage.getCompliancesFoundCount();
 
@@ -1632,7 +1631,7 @@ public class SignUpValidationSteps {
 
             // 6) Final artifacts
             logToAllure("📋 Report an Issue Page Loaded", String.valueOf(success));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "ReportAnIssuePage_Confirmation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "ReportAnIssuePage_Confirmation");
             logger.info("✅ Report an Issue page successfully confirmed.");
 
         } catch (Throwable t) {
@@ -1661,7 +1660,7 @@ public class SignUpValidationSteps {
             signUpPage.navigateBackFromPricing();   // wraps driver.navigate().back() or equivalent
 
             // 3) Wait until URL actually changes from Pricing URL
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(ReusableCommonMethods.NAV_FAIL_MS / 1000));
+            WebDriverWait wait = new TrackedWait(driver, Duration.ofSeconds(ReusableCommonMethods.NAV_FAIL_MS / 1000)).slaLimit();
 
             boolean urlChanged = wait.until(drv -> {
                 String current = drv.getCurrentUrl();
@@ -1910,7 +1909,7 @@ public class SignUpValidationSteps {
 
             CompliancePage compliancePage = new CompliancePage(driver);
             // 1) Navigate back
-            Hooks.driver.navigate().back();
+            DriverManager.getDriver().navigate().back();
 
             // 2) Wait up to NAV_FAIL_MS for the Compliance page to be ready
             boolean success = compliancePage.waitForComplianceLoaded(
@@ -1921,7 +1920,7 @@ public class SignUpValidationSteps {
             Assert.assertTrue(success, "❌ Compliance page did not load after navigating back.");
 
             logToAllure("📄 Compliance Page Loaded", String.valueOf(success));
-            ScreenshotUtils.attachScreenshotToAllure(Hooks.driver, "CompliancePage_BackNavigation");
+            ScreenshotUtils.attachScreenshotToAllure(DriverManager.getDriver(), "CompliancePage_BackNavigation");
             logger.info("✅ Successfully navigated back and Compliance page confirmed.");
 
         } catch (Throwable t) {
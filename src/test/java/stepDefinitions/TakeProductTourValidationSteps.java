@@ -1,7 +1,6 @@
 package stepDefinitions;
 
 
-import hooks.Hooks;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -27,7 +26,7 @@ import static utils.AllureLoggerUtils.logToAllure;
 
 public class TakeProductTourValidationSteps {
 
-    WebDriver driver = Hooks.driver;
+    WebDriver driver = DriverManager.getDriver();
     TakeProductTour takeProductTour;
     Logger logger;
     WebDriverWait wait;
@@ -35,9 +34,9 @@ public class TakeProductTourValidationSteps {
     ReusableCommonMethods helperMethods;
 
     public TakeProductTourValidationSteps() {
-        this.driver = Hooks.driver;
+        this.driver = DriverManager.getDriver();
         this.takeProductTour = new TakeProductTour(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TrackedWait(driver, Duration.ofSeconds(10));
         this.logger = LoggerUtils.getLogger(getClass());
         this.helperMethods = new ReusableCommonMethods(driver);
     }
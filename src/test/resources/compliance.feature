@@ -50,7 +50,7 @@ Feature: Compliance Page Functionality
       | Stage      |
 
 
-  @TC-Z60-045 @TC-Z60-046
+  @TC-Z60-045 @TC-Z60-046 @serial
   Scenario: Verify Archive/Unarchive functionality
     Given the user is on the Compliance page
     Then the checkboxes for each record should be Visible
@@ -149,6 +149,7 @@ Feature: Compliance Page Functionality
 
 
 
+  @serial
   Scenario: User creates a new compliance with valid randomized input
     Given the user is on the Compliance page
     When the user clicks the "Add new compliance" button
@@ -32,6 +32,7 @@ Feature: Documents screen sections and folders
     And each legal document widget should have a visible button labeled "Create document"
 
 
+  @serial
   Scenario: Open a random legal document, fill in all sections, and submit to generate the document.
     When the user opens the "Legal doc generator" tab and the page is ready
     When the user clicks any legal document widget
@@ -42,6 +43,7 @@ Feature: Documents screen sections and folders
     Then the generated document can be opened and downloaded
 
 
+  @serial
   Scenario: Verify My Documents section and verify the user is able to create a folder and upload a file
     When the user opens the "My documents" tab and the page is ready
 